@@ -1,18 +1,104 @@
 package uk.gov.justice.digital.delius.config;
 
+import io.github.resilience4j.bulkhead.Bulkhead;
+import io.github.resilience4j.bulkhead.BulkheadConfig;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerConfig;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
+import io.github.resilience4j.micrometer.tagged.TaggedCircuitBreakerMetrics;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.netty.channel.ChannelOption;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.http.client.reactive.ReactorClientHttpConnector;
 import org.springframework.web.reactive.function.client.WebClient;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+import reactor.netty.http.client.HttpClient;
+import reactor.netty.resources.ConnectionProvider;
+
+import java.time.Duration;
 
 @Configuration
 public class AlfrescoConfig {
 
+    /**
+     * Connections to Alfresco, of which there are never more than max-connections. A request that cannot get one
+     * within pending-acquire-timeout fails rather than queueing behind a slow Alfresco.
+     */
+    @Bean(name = "alfrescoConnectionProvider", destroyMethod = "dispose")
+    public ConnectionProvider alfrescoConnectionProvider(
+            @Value("${alfresco.pool.max-connections:50}") int maxConnections,
+            @Value("${alfresco.pool.pending-acquire-timeout:2s}") Duration pendingAcquireTimeout
+    ) {
+        return ConnectionProvider.builder("alfresco")
+            .maxConnections(maxConnections)
+            .pendingAcquireTimeout(pendingAcquireTimeout)
+            .metrics(true)
+            .build();
+    }
+
+    /**
+     * The read timeout is how long a response may go without sending anything, so it also stops a document download
+     * that has stalled part way through.
+     */
     @Bean("alfrescoWebClient")
     public WebClient alfrescoWebClient(
             WebClient.Builder builder,
-            @Value("${alfresco.baseUrl}") String baseUrl
+            @Qualifier("alfrescoConnectionProvider") ConnectionProvider connectionProvider,
+            @Value("${alfresco.baseUrl}") String baseUrl,
+            @Value("${alfresco.connect-timeout:2s}") Duration connectTimeout,
+            @Value("${alfresco.read-timeout:30s}") Duration readTimeout
+    ) {
+        final var httpClient = HttpClient.create(connectionProvider)
+            .option(ChannelOption.CONNECT_TIMEOUT_MILLIS, Math.toIntExact(connectTimeout.toMillis()))
+            .responseTimeout(readTimeout);
+        return builder
+            .clientConnector(new ReactorClientHttpConnector(httpClient))
+            .baseUrl(baseUrl)
+            .build();
+    }
+
+    /**
+     * Bounds the requests waiting on Alfresco at once, so that when it slows down the request threads it can hold are
+     * limited and the rest are turned away straight away instead of joining them.
+     */
+    @Bean("alfrescoBulkhead")
+    public Bulkhead alfrescoBulkhead(
+            MeterRegistry meterRegistry,
+            @Value("${alfresco.bulkhead.max-concurrent-calls:20}") int maxConcurrentCalls
+    ) {
+        final var bulkhead = Bulkhead.of("alfresco", BulkheadConfig.custom()
+            .maxConcurrentCalls(maxConcurrentCalls)
+            .maxWaitDuration(Duration.ZERO)
+            .build());
+        Gauge.builder("alfresco.requests.in.flight", bulkhead, b -> maxConcurrentCalls - b.getMetrics().getAvailableConcurrentCalls())
+            .description("Requests to Alfresco that have been made and not yet answered")
+            .register(meterRegistry);
+        return bulkhead;
+    }
+
+    /**
+     * Stops calling Alfresco for a while once most recent calls to it have failed or timed out. Client errors such as
+     * a document not being found are Alfresco working, so they are not counted as failures.
+     */
+    @Bean("alfrescoCircuitBreaker")
+    public CircuitBreaker alfrescoCircuitBreaker(
+            MeterRegistry meterRegistry,
+            @Value("${alfresco.circuit-breaker.failure-rate-threshold:50}") float failureRateThreshold,
+            @Value("${alfresco.circuit-breaker.sliding-window-size:20}") int slidingWindowSize,
+            @Value("${alfresco.circuit-breaker.wait-duration-in-open-state:30s}") Duration waitDurationInOpenState
     ) {
-        return builder.baseUrl(baseUrl).build();
+        final var registry = CircuitBreakerRegistry.of(CircuitBreakerConfig.custom()
+            .failureRateThreshold(failureRateThreshold)
+            .slidingWindowSize(slidingWindowSize)
+            .minimumNumberOfCalls(slidingWindowSize)
+            .waitDurationInOpenState(waitDurationInOpenState)
+            .recordException(e -> !(e instanceof WebClientResponseException response && response.getStatusCode().is4xxClientError()))
+            .build());
+        TaggedCircuitBreakerMetrics.ofCircuitBreakerRegistry(registry).bindTo(meterRegistry);
+        return registry.circuitBreaker("alfresco");
     }
 }
@@ -12,6 +12,7 @@ public class AuthAwareAuthenticationToken extends JwtAuthenticationToken {
 
     private final String subject;
     private final String databaseUsername;
+    private final String clientId;
     private final boolean clientOnly;
 
     public AuthAwareAuthenticationToken(Jwt jwt, boolean clientOnly, Collection<? extends GrantedAuthority> authorities) {
@@ -20,5 +21,7 @@ public class AuthAwareAuthenticationToken extends JwtAuthenticationToken {
         this.clientOnly = clientOnly;
         final var databaseUsernameClaim = jwt.getClaims().get("database_username");
         databaseUsername = databaseUsernameClaim != null ? databaseUsernameClaim.toString() : null;
+        final var clientIdClaim = jwt.getClaims().get("client_id");
+        clientId = clientIdClaim != null ? clientIdClaim.toString() : null;
     }
 }
@@ -0,0 +1,34 @@
+package uk.gov.justice.digital.delius.config;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.security.oauth2.jwt.Jwt;
+import org.springframework.security.oauth2.jwt.JwtDecoder;
+import org.springframework.security.oauth2.jwt.JwtException;
+import uk.gov.justice.digital.delius.jwt.VerifiedTokenCache;
+
+import java.time.Clock;
+import java.time.Duration;
+
+/**
+ * Decodes each bearer token once with the decoder it wraps, then hands back the same {@link Jwt} for the token until
+ * it expires.
+ */
+public class CachingJwtDecoder implements JwtDecoder {
+    private final JwtDecoder decoder;
+    private final VerifiedTokenCache<Jwt> verifiedTokens;
+
+    public CachingJwtDecoder(final JwtDecoder decoder,
+                             final MeterRegistry meterRegistry,
+                             final long maximumSize,
+                             final Duration maximumLifetime,
+                             final Clock clock) {
+        this.decoder = decoder;
+        this.verifiedTokens = new VerifiedTokenCache<>(maximumSize, maximumLifetime, Jwt::getExpiresAt, clock);
+        verifiedTokens.monitor(meterRegistry, "verifiedBearerTokens");
+    }
+
+    @Override
+    public Jwt decode(final String token) throws JwtException {
+        return verifiedTokens.get(token, decoder::decode);
+    }
+}
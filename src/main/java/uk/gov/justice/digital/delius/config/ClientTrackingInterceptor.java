@@ -8,11 +8,14 @@ import org.apache.commons.lang3.StringUtils;
 import org.jetbrains.annotations.NotNull;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.http.HttpHeaders;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.oauth2.server.resource.authentication.JwtAuthenticationToken;
 import org.springframework.web.servlet.HandlerInterceptor;
 
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import java.text.ParseException;
+import java.util.Map;
 import java.util.Optional;
 
 @Slf4j
@@ -20,15 +23,16 @@ import java.util.Optional;
 public class ClientTrackingInterceptor implements HandlerInterceptor {
     @Override
     public boolean preHandle(final HttpServletRequest request, @NotNull final HttpServletResponse response, @NotNull final Object handler) {
+        // the resource server has already decoded the token of an authenticated request, so its claims are used as they are
+        if (SecurityContextHolder.getContext().getAuthentication() instanceof JwtAuthenticationToken authentication) {
+            trackClient(authentication.getToken().getClaims());
+            return true;
+        }
         final var token = request.getHeader(HttpHeaders.AUTHORIZATION);
         final var bearer = "Bearer ";
         if (StringUtils.startsWithIgnoreCase(token, bearer)) {
             try {
-                final var jwtBody = getClaimsFromJWT(token);
-                final var user = Optional.ofNullable(jwtBody.getClaim("user_name"));
-                user.map(String::valueOf).ifPresent(u -> Span.current().setAttribute("username", u));
-                Span.current().setAttribute("clientId", String.valueOf(jwtBody.getClaim("client_id")));
-
+                trackClient(getClaimsFromJWT(token).getClaims());
             } catch (final ParseException e) {
                 // we have a bearer token we don't understand.
                 // this can happen from AWS health checks for instance - so just silently ignore
@@ -37,6 +41,12 @@ public class ClientTrackingInterceptor implements HandlerInterceptor {
         return true;
     }
 
+    private static void trackClient(final Map<String, Object> claims) {
+        final var user = Optional.ofNullable(claims.get("user_name"));
+        user.map(String::valueOf).ifPresent(u -> Span.current().setAttribute("username", u));
+        Span.current().setAttribute("clientId", String.valueOf(claims.get("client_id")));
+    }
+
     private JWTClaimsSet getClaimsFromJWT(final String token) throws ParseException {
         final var signedJWT = SignedJWT.parse(token.replace("Bearer ", ""));
         return signedJWT.getJWTClaimsSet();
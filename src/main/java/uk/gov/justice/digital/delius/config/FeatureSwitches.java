@@ -42,8 +42,14 @@ public class FeatureSwitches {
         private String courtCodeAllowedPattern;
     }
 
+    @Data
+    public static class OffenderDeltas {
+        private boolean consumers;
+    }
+
     private NomsFeatures noms = new NomsFeatures();
     private Registers registers = new Registers();
+    private OffenderDeltas offenderDeltas = new OffenderDeltas();
 
 
     @PostConstruct
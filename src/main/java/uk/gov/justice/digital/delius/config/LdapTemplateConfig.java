@@ -1,9 +1,18 @@
 package uk.gov.justice.digital.delius.config;
 
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
-import org.springframework.ldap.core.ContextSource;
 import org.springframework.ldap.core.LdapTemplate;
+import org.springframework.ldap.core.support.LdapContextSource;
+import org.springframework.ldap.pool2.factory.PoolConfig;
+import org.springframework.ldap.pool2.factory.PooledContextSource;
+import org.springframework.ldap.pool2.validation.DefaultDirContextValidator;
+
+import java.time.Duration;
 
 import static javax.naming.directory.SearchControls.ONELEVEL_SCOPE;
 
@@ -11,14 +20,48 @@ import static javax.naming.directory.SearchControls.ONELEVEL_SCOPE;
 public class LdapTemplateConfig {
 
     @Bean(name = "authenticationTemplate")
-    public LdapTemplate authenticationTemplate(ContextSource contextSource) {
+    public LdapTemplate authenticationTemplate(LdapContextSource contextSource) {
         var authenticationTemplate = new LdapTemplate(contextSource);
         authenticationTemplate.setDefaultSearchScope(ONELEVEL_SCOPE);
         return authenticationTemplate;
     }
 
+    /**
+     * Connections for reading the directory, validated when borrowed and while idle so that one dropped by the
+     * directory is replaced rather than handed out. Binding as a user cannot be pooled, so authentication stays on the
+     * unpooled context source.
+     */
+    @Bean(name = "pooledContextSource")
+    public PooledContextSource pooledContextSource(LdapContextSource contextSource,
+                                                   MeterRegistry meterRegistry,
+                                                   @Value("${delius.ldap.pool.max-total:20}") int maxTotal,
+                                                   @Value("${delius.ldap.pool.max-wait:5s}") Duration maxWait,
+                                                   @Value("${delius.ldap.pool.eviction-interval:60s}") Duration evictionInterval) {
+        var poolConfig = new PoolConfig();
+        poolConfig.setMaxTotalPerKey(maxTotal);
+        poolConfig.setMaxIdlePerKey(maxTotal);
+        poolConfig.setMaxWaitMillis(maxWait.toMillis());
+        poolConfig.setTestOnBorrow(true);
+        poolConfig.setTestWhileIdle(true);
+        poolConfig.setTimeBetweenEvictionRunsMillis(evictionInterval.toMillis());
+
+        var pooledContextSource = new PooledContextSource(poolConfig);
+        pooledContextSource.setContextSource(contextSource);
+        pooledContextSource.setDirContextValidator(new DefaultDirContextValidator());
+
+        Gauge.builder("delius.ldap.pool.connections", pooledContextSource, PooledContextSource::getNumActive)
+            .description("Pooled LDAP connections")
+            .tag("state", "active")
+            .register(meterRegistry);
+        Gauge.builder("delius.ldap.pool.connections", pooledContextSource, PooledContextSource::getNumIdle)
+            .description("Pooled LDAP connections")
+            .tag("state", "idle")
+            .register(meterRegistry);
+        return pooledContextSource;
+    }
+
     @Bean(name = "ldapTemplate")
-    public LdapTemplate ldapTemplate(ContextSource contextSource) {
+    public LdapTemplate ldapTemplate(@Qualifier("pooledContextSource") PooledContextSource contextSource) {
         return new LdapTemplate(contextSource);
     }
 }
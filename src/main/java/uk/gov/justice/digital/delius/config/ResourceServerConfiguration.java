@@ -1,14 +1,19 @@
 package uk.gov.justice.digital.delius.config;
 
-
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.security.config.annotation.method.configuration.EnableMethodSecurity;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
 import org.springframework.security.config.annotation.web.configuration.EnableWebSecurity;
+import org.springframework.security.oauth2.jwt.JwtDecoder;
 import org.springframework.security.web.SecurityFilterChain;
 
+import java.time.Clock;
+import java.time.Duration;
+
 @Configuration
 @EnableWebSecurity
 @ConditionalOnWebApplication
@@ -16,7 +21,11 @@ import org.springframework.security.web.SecurityFilterChain;
 public class ResourceServerConfiguration {
 
     @Bean
-    public SecurityFilterChain filterChain(final HttpSecurity http) throws Exception {
+    public SecurityFilterChain filterChain(final HttpSecurity http,
+                                           final JwtDecoder jwtDecoder,
+                                           final MeterRegistry meterRegistry,
+                                           @Value("${bearer-tokens.cache.maximum-size:10000}") final long cacheMaximumSize,
+                                           @Value("${bearer-tokens.cache.time-to-live:10m}") final Duration cacheTimeToLive) throws Exception {
         http
             .securityMatcher("/secure/**")
             .authorizeHttpRequests( auth ->
@@ -24,6 +33,7 @@ public class ResourceServerConfiguration {
             )
             .oauth2ResourceServer()
             .jwt()
+            .decoder(new CachingJwtDecoder(jwtDecoder, meterRegistry, cacheMaximumSize, cacheTimeToLive, Clock.systemUTC()))
             .jwtAuthenticationConverter(new AuthAwareTokenConverter());
         return http.build();
     }
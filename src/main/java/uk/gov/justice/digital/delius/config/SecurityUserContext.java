@@ -31,6 +31,14 @@ public class SecurityUserContext {
         return token.getDatabaseUsername();
     }
 
+    public Optional<String> getClientId() {
+        final var authentication = getAuthentication();
+        if (!(authentication instanceof AuthAwareAuthenticationToken)) return Optional.empty();
+
+        final var token = (AuthAwareAuthenticationToken) authentication;
+        return Optional.ofNullable(token.getClientId());
+    }
+
     public boolean isSecure() {
        return getAuthentication() != null;
     }
@@ -0,0 +1,30 @@
+package uk.gov.justice.digital.delius.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+/**
+ * The threads the offender export and the caseload and court appearance feeds are written on, see
+ * {@link uk.gov.justice.digital.delius.helpers.StreamingResponses}. They are a bounded pool kept apart from the executor
+ * other async responses such as document downloads use, so a run of exports neither holds those up nor is held up by
+ * them. Once every thread is busy and the queue is full further streams are turned away rather than left waiting.
+ */
+@Configuration
+public class StreamingResponseConfig {
+    public static final String STREAMING_RESPONSE_EXECUTOR = "streamingResponseExecutor";
+
+    @Bean(STREAMING_RESPONSE_EXECUTOR)
+    public ThreadPoolTaskExecutor streamingResponseExecutor(
+        @Value("${streaming-responses.max-threads:20}") int maxThreads,
+        @Value("${streaming-responses.queue-capacity:20}") int queueCapacity
+    ) {
+        final var executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(maxThreads);
+        executor.setMaxPoolSize(maxThreads);
+        executor.setQueueCapacity(queueCapacity);
+        executor.setThreadNamePrefix("streaming-response-");
+        return executor;
+    }
+}
@@ -3,6 +3,7 @@ package uk.gov.justice.digital.delius.controller.advice;
 import io.sentry.Sentry;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.core.annotation.Order;
+import org.springframework.core.task.TaskRejectedException;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.AccessDeniedException;
@@ -19,6 +20,7 @@ import uk.gov.justice.digital.delius.controller.InvalidRequestException;
 import uk.gov.justice.digital.delius.controller.NotFoundException;
 import uk.gov.justice.digital.delius.controller.UnauthorisedException;
 import uk.gov.justice.digital.delius.jpa.standard.repository.OffenderRepository.DuplicateOffenderException;
+import uk.gov.justice.digital.delius.service.AlfrescoUnavailableException;
 import uk.gov.justice.digital.delius.service.OffenderDeltaLockedException;
 
 @RestControllerAdvice(basePackages = { "uk.gov.justice.digital.delius.controller.secure" } )
@@ -168,6 +170,31 @@ public class SecureControllerAdvice {
                         .build());
     }
 
+    @ExceptionHandler(AlfrescoUnavailableException.class)
+    public ResponseEntity<ErrorResponse> handleException(final AlfrescoUnavailableException e) {
+        log.warn("Service unavailable (503) returned", e);
+        Sentry.captureException(e);
+        return ResponseEntity
+                .status(HttpStatus.SERVICE_UNAVAILABLE)
+                .body(ErrorResponse
+                        .builder()
+                        .status(HttpStatus.SERVICE_UNAVAILABLE.value())
+                        .developerMessage(e.getMessage())
+                        .build());
+    }
+
+    @ExceptionHandler(TaskRejectedException.class)
+    public ResponseEntity<ErrorResponse> handleException(final TaskRejectedException e) {
+        log.warn("Service unavailable (503) returned", e);
+        return ResponseEntity
+                .status(HttpStatus.SERVICE_UNAVAILABLE)
+                .body(ErrorResponse
+                        .builder()
+                        .status(HttpStatus.SERVICE_UNAVAILABLE.value())
+                        .developerMessage("Too many responses are being streamed, try again later")
+                        .build());
+    }
+
     @ExceptionHandler(MethodArgumentNotValidException.class)
     public ResponseEntity<ErrorResponse> handleException(final MethodArgumentNotValidException e) {
         log.debug("Bad request (400) returned", e);
@@ -1,23 +1,32 @@
 package uk.gov.justice.digital.delius.controller.secure;
 
 import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
 import org.springframework.http.MediaType;
 import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 import uk.gov.justice.digital.delius.controller.NotFoundException;
+import uk.gov.justice.digital.delius.data.api.AttendanceSummary;
 import uk.gov.justice.digital.delius.data.api.Attendances;
 import uk.gov.justice.digital.delius.service.AttendanceService;
 import uk.gov.justice.digital.delius.service.OffenderService;
 
 import java.time.LocalDate;
+import java.util.List;
 
 import static org.springframework.http.MediaType.APPLICATION_JSON_VALUE;
 
@@ -26,6 +35,7 @@ import static org.springframework.http.MediaType.APPLICATION_JSON_VALUE;
 @Slf4j
 @RequestMapping(value = "secure", produces = MediaType.APPLICATION_JSON_VALUE)
 @PreAuthorize("hasAnyRole('ROLE_COMMUNITY','ROLE_PROBATION_INTEGRATION_ADMIN')")
+@Validated
 public class AttendanceResource {
 
     public static final String MSG_OFFENDER_NOT_FOUND = "Offender ID not found for CRN %s";
@@ -47,9 +57,34 @@ public class AttendanceResource {
             @ApiResponse(responseCode = "500", description = "Unrecoverable error whilst processing request.")
         })
     public Attendances getAttendancesByConviction(final @PathVariable("crn") String crn,
-                                                final @PathVariable("convictionId") Long convictionId) {
+                                                final @PathVariable("convictionId") Long convictionId,
+                                                @Parameter(name = "page", description = "Page of attendances to return, in attendance date order, when pageSize is given", example = "0")
+                                                final @Min(0) @RequestParam(value = "page", defaultValue = "0") int page,
+                                                @Parameter(name = "pageSize", description = "Most attendances to return, omit for all of them", example = "100")
+                                                final @Min(1) @Max(1000) @RequestParam(value = "pageSize", required = false) Integer pageSize) {
         final Long offenderId = getOffenderId(crn);
-        return new Attendances(AttendanceService.attendancesFor(attendanceService.getContactsForEvent(offenderId, convictionId, LocalDate.now())));
+        if (pageSize == null) {
+            return new Attendances(AttendanceService.attendancesFor(attendanceService.getContactsForEvent(offenderId, convictionId, LocalDate.now())));
+        }
+        return new Attendances(AttendanceService.attendancesFor(attendanceService.getContactsForEvent(offenderId, convictionId, LocalDate.now(),
+            PageRequest.of(page, pageSize, Sort.by("contactDate", "contactId")))));
+    }
+
+    @GetMapping(value = "/offenders/crn/{crn}/convictions/{convictionId}/attendancesSummary", produces = APPLICATION_JSON_VALUE)
+    @Operation(description = "Return counts of the attendances for a CRN and a conviction id, counted without reading the attendances themselves. " +
+        "Ask for totals alone for a single cheap count")
+    @ApiResponses(
+        value = {
+            @ApiResponse(responseCode = "400", description = "Invalid request"),
+            @ApiResponse(responseCode = "404", description = "Offender not found"),
+            @ApiResponse(responseCode = "500", description = "Unrecoverable error whilst processing request.")
+        })
+    public AttendanceSummary getAttendanceSummaryByConviction(final @PathVariable("crn") String crn,
+                                                              final @PathVariable("convictionId") Long convictionId,
+                                                              @Parameter(name = "fields", description = "Any of totals, for the number attended and complied with, and outcomes, for counts by outcome", example = "totals")
+                                                              final @RequestParam(value = "fields", defaultValue = "totals,outcomes") List<String> fields) {
+        final Long offenderId = getOffenderId(crn);
+        return attendanceService.getAttendanceSummaryForEvent(offenderId, convictionId, LocalDate.now(), fields);
     }
 
     private Long getOffenderId(String crn) {
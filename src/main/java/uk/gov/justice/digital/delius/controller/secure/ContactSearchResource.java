@@ -0,0 +1,100 @@
+package uk.gov.justice.digital.delius.controller.secure;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import lombok.AllArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.MediaType;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.security.core.Authentication;
+import org.springframework.validation.annotation.Validated;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import uk.gov.justice.digital.delius.controller.NotFoundException;
+import uk.gov.justice.digital.delius.data.api.ContactSearchResults;
+import uk.gov.justice.digital.delius.jpa.filters.ContactFilter;
+import uk.gov.justice.digital.delius.service.ContactService;
+import uk.gov.justice.digital.delius.service.OffenderService;
+import uk.gov.justice.digital.delius.service.UserAccessService;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Optional;
+
+@Tag(name = "Contact and attendance", description = "Requires ROLE_COMMUNITY")
+@RestController
+@RequestMapping(value = "secure", produces = MediaType.APPLICATION_JSON_VALUE)
+@AllArgsConstructor
+@PreAuthorize("hasAnyRole('ROLE_COMMUNITY','ROLE_PROBATION_INTEGRATION_ADMIN')")
+@Validated
+public class ContactSearchResource {
+    private final OffenderService offenderService;
+    private final ContactService contactService;
+    private final UserAccessService userAccessService;
+
+    @Operation(description = "Returns a page of the offender's contacts matching the filter, in contact date and start time order, with a cursor to fetch the next page from")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "400", description = "Invalid request"),
+        @ApiResponse(responseCode = "403", description = "Requires role ROLE_COMMUNITY"),
+        @ApiResponse(responseCode = "404", description = "Offender not found"),
+        @ApiResponse(responseCode = "500", description = "Unrecoverable error whilst processing request.")
+    })
+    @GetMapping(path = "/offenders/crn/{crn}/contacts/search")
+    public ContactSearchResults searchContacts(
+        @Parameter(name = "crn", description = "CRN for the offender", example = "X320741", required = true)
+        @PathVariable(value = "crn") final String crn,
+        @Parameter(name = "contactTypes", description = "Only contacts of these type codes", example = "APAT")
+        @RequestParam(value = "contactTypes", required = false) final Optional<List<String>> contactTypes,
+        @Parameter(name = "contactDateFrom", description = "Only contacts on or after this date", example = "2021-01-01")
+        @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) @RequestParam(value = "contactDateFrom", required = false) final Optional<LocalDate> contactDateFrom,
+        @Parameter(name = "contactDateTo", description = "Only contacts on or before this date", example = "2021-12-31")
+        @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) @RequestParam(value = "contactDateTo", required = false) final Optional<LocalDate> contactDateTo,
+        @Parameter(name = "convictionId", description = "Only contacts for this conviction", example = "2500295343")
+        @RequestParam(value = "convictionId", required = false) final Optional<Long> convictionId,
+        @Parameter(name = "appointmentsOnly", description = "Only contacts that are appointments", example = "true")
+        @RequestParam(value = "appointmentsOnly", required = false) final Optional<Boolean> appointmentsOnly,
+        @Parameter(name = "attended", description = "Only contacts that were, or were not, attended", example = "true")
+        @RequestParam(value = "attended", required = false) final Optional<Boolean> attended,
+        @Parameter(name = "complied", description = "Only contacts that were, or were not, complied with", example = "true")
+        @RequestParam(value = "complied", required = false) final Optional<Boolean> complied,
+        @Parameter(name = "nationalStandard", description = "Only contacts that are, or are not, national standard contacts", example = "true")
+        @RequestParam(value = "nationalStandard", required = false) final Optional<Boolean> nationalStandard,
+        @Parameter(name = "outcome", description = "Only contacts that have, or do not have, an outcome", example = "true")
+        @RequestParam(value = "outcome", required = false) final Optional<Boolean> outcome,
+        @Parameter(name = "rarActivity", description = "Only contacts that count towards RAR", example = "true")
+        @RequestParam(value = "rarActivity", required = false) final Optional<Boolean> rarActivity,
+        @Parameter(name = "include", description = "Only contacts matching any of TYPE_<contact type code> or APPOINTMENTS", example = "TYPE_APAT")
+        @RequestParam(value = "include", required = false) final Optional<List<String>> include,
+        @Parameter(name = "after", description = "Cursor returned as next with the previous page, omit to start from the first contact")
+        @RequestParam(value = "after", required = false) final String after,
+        @Parameter(name = "limit", description = "Most contacts to return", example = "100")
+        @Min(1) @Max(1000) @RequestParam(value = "limit", defaultValue = "100") final int limit,
+        final Authentication authentication) {
+
+        userAccessService.checkExclusionsAndRestrictions(crn, authentication.getAuthorities());
+        final var offenderId = offenderService.offenderIdOfCrn(crn).orElseThrow(() -> new NotFoundException("Offender not found"));
+        final var filter = ContactFilter.builder()
+            .offenderId(offenderId)
+            .contactTypes(contactTypes)
+            .contactDateFrom(contactDateFrom)
+            .contactDateTo(contactDateTo)
+            .convictionId(convictionId)
+            .appointmentsOnly(appointmentsOnly)
+            .attended(attended)
+            .complied(complied)
+            .nationalStandard(nationalStandard)
+            .outcome(outcome)
+            .rarActivity(rarActivity)
+            .include(include)
+            .build();
+        return contactService.searchContacts(filter, after, limit);
+    }
+}
@@ -1,22 +1,34 @@
 package uk.gov.justice.digital.delius.controller.secure;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletResponse;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.MediaType;
 import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.async.WebAsyncTask;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+import uk.gov.justice.digital.delius.controller.BadRequestException;
 import uk.gov.justice.digital.delius.controller.NotFoundException;
 import uk.gov.justice.digital.delius.data.api.CourtAppearanceBasicWrapper;
+import uk.gov.justice.digital.delius.data.api.CourtAppearanceMinimal;
 import uk.gov.justice.digital.delius.data.api.CourtAppearanceMinimalWrapper;
+import uk.gov.justice.digital.delius.helpers.StreamingLines;
+import uk.gov.justice.digital.delius.helpers.StreamingResponses;
+import uk.gov.justice.digital.delius.jpa.standard.repository.CourtAppearanceCursor;
 import uk.gov.justice.digital.delius.service.CourtAppearanceService;
 import uk.gov.justice.digital.delius.service.OffenderService;
 
@@ -28,13 +40,20 @@ import java.util.Optional;
 @Tag(name = "Court appearances", description = "Requires ROLE_COMMUNITY")
 @RequestMapping(value = "secure", produces = MediaType.APPLICATION_JSON_VALUE)
 @PreAuthorize("hasAnyRole('ROLE_COMMUNITY','ROLE_PROBATION_INTEGRATION_ADMIN')")
+@Validated
 public class CourtAppearancesResource {
+    static final int MAX_FEED_DAYS = 31;
+
     private final CourtAppearanceService courtAppearanceService;
     private final OffenderService offenderService;
+    private final ObjectMapper objectMapper;
+    private final StreamingResponses streamingResponses;
 
-    public CourtAppearancesResource(CourtAppearanceService courtAppearanceService, OffenderService offenderService) {
+    public CourtAppearancesResource(CourtAppearanceService courtAppearanceService, OffenderService offenderService, ObjectMapper objectMapper, StreamingResponses streamingResponses) {
         this.courtAppearanceService = courtAppearanceService;
         this.offenderService = offenderService;
+        this.objectMapper = objectMapper;
+        this.streamingResponses = streamingResponses;
     }
 
     @Operation(description = "Returns all court appearances on and after the given date.")
@@ -50,6 +69,35 @@ public class CourtAppearancesResource {
         return new CourtAppearanceMinimalWrapper(courtAppearances);
     }
 
+    @Operation(description = "Streams the court appearances between the given dates as newline-delimited JSON, in appearance date order, a page at a time. " +
+        "To fetch the next page pass the cursor of the last appearance received as after; an empty page means there are no more")
+    @ApiResponses(
+        value = {
+            @ApiResponse(responseCode = "400", description = "Invalid request"),
+            @ApiResponse(responseCode = "500", description = "Unrecoverable error whilst processing request.")
+        })
+    @GetMapping(value = "/courtAppearances/feed", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public WebAsyncTask<Void> getCourtAppearancesFeed(
+        @Parameter(name = "fromDate", description = "Return court appearances on and after the given date", example = "2019-03-02", required = true)
+        @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) final @RequestParam("fromDate") LocalDate fromDate,
+        @Parameter(name = "toDate", description = "Return court appearances on and before the given date, at most " + MAX_FEED_DAYS + " days after fromDate. Defaults to fromDate", example = "2019-03-02")
+        @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) final @RequestParam(value = "toDate", required = false) Optional<LocalDate> toDate,
+        @Parameter(name = "after", description = "Cursor of the last appearance already received, omit for the first page", example = "2019-03-02T10:00:00.2500000001")
+        final @RequestParam(value = "after", required = false) String after,
+        @Parameter(name = "limit", description = "Most appearances to return", example = "10000")
+        final @Min(1) @Max(50000) @RequestParam(value = "limit", defaultValue = "10000") int limit,
+        final HttpServletResponse response) {
+        final var lastDate = toDate.orElse(fromDate);
+        if (lastDate.isBefore(fromDate) || lastDate.isAfter(fromDate.plusDays(MAX_FEED_DAYS))) {
+            throw new BadRequestException(String.format("toDate must be on or up to %d days after fromDate", MAX_FEED_DAYS));
+        }
+        final var cursor = CourtAppearanceCursor.parse(after);
+
+        final StreamingResponseBody body = StreamingLines.<CourtAppearanceMinimal>ndjsonOf(objectMapper.writerFor(CourtAppearanceMinimal.class),
+            appearances -> courtAppearanceService.forEachCourtAppearance(fromDate, lastDate, cursor, limit, appearances));
+        return streamingResponses.of(response, MediaType.APPLICATION_NDJSON, body);
+    }
+
     @Operation(description = "Returns all court appearances associated with the CRN for the conviction ID.")
     @ApiResponses(
         value = {
@@ -8,15 +8,17 @@ import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.constraints.NotNull;
 import lombok.AllArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.core.io.Resource;
 import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 import uk.gov.justice.digital.delius.controller.BadRequestException;
 import uk.gov.justice.digital.delius.controller.NotFoundException;
 import uk.gov.justice.digital.delius.data.api.OffenderDocuments;
@@ -95,14 +97,19 @@ public class DocumentResource {
     }
 
     @Operation(description = "Returns the document for a given document id associated with an offender", tags = "Documents")
-    @ApiResponse(responseCode = "200",
-        description = "Returns the binary document data with an encoded filename in the content disposition header. ")
+    @ApiResponses(
+        value = {
+            @ApiResponse(responseCode = "200", description = "Returns the binary document data with an encoded filename in the content disposition header. "),
+            @ApiResponse(responseCode = "206", description = "Returns the requested part of the document when a Range header is supplied"),
+            @ApiResponse(responseCode = "304", description = "Not Modified. The document still matches the If-None-Match header")
+        })
     @GetMapping(value = "/offenders/crn/{crn}/documents/{documentId}", produces = MediaType.APPLICATION_OCTET_STREAM_VALUE)
-    public HttpEntity<Resource> getOffenderDocumentByCrn(
+    public HttpEntity<StreamingResponseBody> getOffenderDocumentByCrn(
         @Parameter(name = "crn", description = "CRN for the offender", example = "X12345", required = true) @NotNull final @PathVariable("crn") String crn,
-        @Parameter(name = "documentId", description = "Document Id", example = "12312322", required = true) @NotNull final @PathVariable("documentId") String documentId) {
+        @Parameter(name = "documentId", description = "Document Id", example = "12312322", required = true) @NotNull final @PathVariable("documentId") String documentId,
+        @Parameter(hidden = true) @RequestHeader final HttpHeaders requestHeaders) {
 
-        return Optional.ofNullable(alfrescoService.getDocument(documentId, crn))
+        return Optional.ofNullable(alfrescoService.getDocument(documentId, crn, requestHeaders))
             .orElseThrow(() -> new NotFoundException(String.format("document with id %s not found", documentId)));
     }
 
@@ -0,0 +1,79 @@
+package uk.gov.justice.digital.delius.controller.secure;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.validation.annotation.Validated;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PutMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.ResponseStatus;
+import org.springframework.web.bind.annotation.RestController;
+import uk.gov.justice.digital.delius.config.SecurityUserContext;
+import uk.gov.justice.digital.delius.controller.UnauthorisedException;
+import uk.gov.justice.digital.delius.data.api.OffenderDeltaAcknowledgement;
+import uk.gov.justice.digital.delius.data.api.OffenderDeltas;
+import uk.gov.justice.digital.delius.service.OffenderDeltaService;
+
+/**
+ * Consumer cursors are kept in OFFENDER_DELTA_CONSUMER, which is not yet part of the Delius schema, so these endpoints
+ * only exist once features.offender-deltas.consumers is switched on. Each client only sees its own consumers.
+ */
+@Tag(name = "Offender deltas", description = "Requires ROLE_COMMUNITY")
+@RestController
+@RequestMapping(value = "secure", produces = MediaType.APPLICATION_JSON_VALUE)
+@AllArgsConstructor
+@PreAuthorize("hasAnyRole('ROLE_COMMUNITY','ROLE_PROBATION_INTEGRATION_ADMIN')")
+@Validated
+@ConditionalOnProperty(name = "features.offender-deltas.consumers", havingValue = "true")
+public class OffenderDeltaConsumerResource {
+    private final OffenderDeltaService offenderDeltaService;
+    private final SecurityUserContext securityUserContext;
+
+    @Operation(description = "Returns the offenders changed after the cursor the calling client's consumer last acknowledged, or from the beginning for a consumer that has not acknowledged any")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "400", description = "Invalid request"),
+        @ApiResponse(responseCode = "500", description = "Unrecoverable error whilst processing request.")
+    })
+    @GetMapping(path = "/offenders/deltas/consumers/{consumerId}")
+    public OffenderDeltas getOffenderDeltasForConsumer(
+        @Parameter(name = "consumerId", description = "Name the consumer acknowledges its progress under", example = "probation-search-indexer", required = true)
+        @Size(max = 100) @PathVariable(value = "consumerId") final String consumerId,
+        @Parameter(name = "limit", description = "Most changes to return", example = "500")
+        @Min(1) @Max(5000) @RequestParam(value = "limit", defaultValue = "500") final int limit) {
+        return offenderDeltaService.getDeltasForConsumer(clientId(), consumerId, limit);
+    }
+
+    @Operation(description = "Records that the calling client's consumer has processed the changes up to the cursor, so the next batch it fetches starts after it")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "400", description = "Invalid request"),
+        @ApiResponse(responseCode = "500", description = "Unrecoverable error whilst processing request.")
+    })
+    @PutMapping(path = "/offenders/deltas/consumers/{consumerId}/acknowledgement", consumes = MediaType.APPLICATION_JSON_VALUE)
+    @ResponseStatus(HttpStatus.NO_CONTENT)
+    public void acknowledgeOffenderDeltas(
+        @Parameter(name = "consumerId", description = "Name the consumer acknowledges its progress under", example = "probation-search-indexer", required = true)
+        @Size(max = 100) @PathVariable(value = "consumerId") final String consumerId,
+        @Valid @RequestBody final OffenderDeltaAcknowledgement acknowledgement) {
+        offenderDeltaService.acknowledge(clientId(), consumerId, acknowledgement.getCursor());
+    }
+
+    private String clientId() {
+        return securityUserContext.getClientId()
+            .orElseThrow(() -> new UnauthorisedException("Offender delta consumers belong to a client, but the token has no client_id"));
+    }
+}
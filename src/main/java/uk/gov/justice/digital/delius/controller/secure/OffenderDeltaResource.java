@@ -0,0 +1,44 @@
+package uk.gov.justice.digital.delius.controller.secure;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import lombok.AllArgsConstructor;
+import org.springframework.http.MediaType;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.validation.annotation.Validated;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import uk.gov.justice.digital.delius.data.api.OffenderDeltas;
+import uk.gov.justice.digital.delius.service.OffenderDeltaService;
+
+@Tag(name = "Offender deltas", description = "Requires ROLE_COMMUNITY")
+@RestController
+@RequestMapping(value = "secure", produces = MediaType.APPLICATION_JSON_VALUE)
+@AllArgsConstructor
+@PreAuthorize("hasAnyRole('ROLE_COMMUNITY','ROLE_PROBATION_INTEGRATION_ADMIN')")
+@Validated
+public class OffenderDeltaResource {
+    private final OffenderDeltaService offenderDeltaService;
+
+    @Operation(description = "Returns the offenders changed after the cursor in the order they changed, with a cursor to fetch the next batch from. " +
+        "An empty batch returns the cursor it was given, to poll again later")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "400", description = "Invalid request"),
+        @ApiResponse(responseCode = "500", description = "Unrecoverable error whilst processing request.")
+    })
+    @GetMapping(path = "/offenders/deltas")
+    public OffenderDeltas getOffenderDeltas(
+        @Parameter(name = "after", description = "Cursor returned with the previous batch, omit to start from the beginning")
+        @RequestParam(value = "after", required = false) final String after,
+        @Parameter(name = "limit", description = "Most changes to return", example = "500")
+        @Min(1) @Max(5000) @RequestParam(value = "limit", defaultValue = "500") final int limit) {
+        return offenderDeltaService.getDeltasAfter(after, limit);
+    }
+}
@@ -0,0 +1,91 @@
+package uk.gov.justice.digital.delius.controller.secure;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletResponse;
+import jakarta.validation.constraints.Min;
+import lombok.AllArgsConstructor;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.validation.annotation.Validated;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.async.WebAsyncTask;
+import uk.gov.justice.digital.delius.data.api.PrimaryIdentifiers;
+import uk.gov.justice.digital.delius.data.filters.OffenderFilter;
+import uk.gov.justice.digital.delius.helpers.StreamingLines;
+import uk.gov.justice.digital.delius.helpers.StreamingResponses;
+import uk.gov.justice.digital.delius.service.OffenderPrimaryIdentifiersService;
+
+import java.util.Optional;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+@Tag(name = "Core offender", description = "Requires ROLE_COMMUNITY")
+@RestController
+@RequestMapping(value = "secure", produces = MediaType.APPLICATION_JSON_VALUE)
+@AllArgsConstructor
+@PreAuthorize("hasAnyRole('ROLE_COMMUNITY','ROLE_PROBATION_INTEGRATION_ADMIN')")
+@Validated
+public class OffenderExportResource {
+    private static final MediaType TEXT_CSV = MediaType.parseMediaType("text/csv");
+    private static final String CSV_HEADER = "offenderId,crn,nomsNumber,pncNumber,croNumber";
+
+    private final OffenderPrimaryIdentifiersService offenderPrimaryIdentifiersService;
+    private final ObjectMapper objectMapper;
+    private final StreamingResponses streamingResponses;
+
+    @Operation(description = "Streams the primary identifiers of every offender matching the filter in offender id order, as newline-delimited JSON or as CSV when text/csv is accepted. " +
+        "An interrupted export can be resumed by passing the offenderId of the last offender received as after")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "400", description = "Invalid request"),
+        @ApiResponse(responseCode = "500", description = "Unrecoverable error whilst processing request.")
+    })
+    @GetMapping(path = "/offenders/primaryIdentifiers/export", produces = {MediaType.APPLICATION_NDJSON_VALUE, "text/csv"})
+    public WebAsyncTask<Void> exportOffenderPrimaryIdentifiers(
+        final OffenderFilter filter,
+        @Parameter(name = "after", description = "offenderId of the last offender already received, omit to start from the beginning", example = "2500343964")
+        @Min(0) @RequestParam(value = "after", defaultValue = "0") final long after,
+        @Parameter(name = "limit", description = "Most offenders to return, omit for all of them", example = "100000")
+        @Min(1) @RequestParam(value = "limit", required = false) final Integer limit,
+        @RequestHeader(value = HttpHeaders.ACCEPT, required = false) final String accept,
+        final HttpServletResponse response) {
+
+        if (acceptsOnlyCsv(accept)) {
+            return streamingResponses.of(response, TEXT_CSV, StreamingLines.<PrimaryIdentifiers>textOf(CSV_HEADER, OffenderExportResource::csvLineOf,
+                identifiers -> offenderPrimaryIdentifiersService.forEachOffenderPrimaryIdentifiers(filter, after, Optional.ofNullable(limit), identifiers)));
+        }
+        return streamingResponses.of(response, MediaType.APPLICATION_NDJSON, StreamingLines.<PrimaryIdentifiers>ndjsonOf(objectMapper.writerFor(PrimaryIdentifiers.class),
+            identifiers -> offenderPrimaryIdentifiersService.forEachOffenderPrimaryIdentifiers(filter, after, Optional.ofNullable(limit), identifiers)));
+    }
+
+    private static boolean acceptsOnlyCsv(final String accept) {
+        final var accepted = MediaType.parseMediaTypes(accept);
+        return accepted.stream().anyMatch(TEXT_CSV::equalsTypeAndSubtype)
+            && accepted.stream().noneMatch(MediaType.APPLICATION_NDJSON::equalsTypeAndSubtype);
+    }
+
+    private static String csvLineOf(final PrimaryIdentifiers identifiers) {
+        return Stream.of(String.valueOf(identifiers.getOffenderId()), identifiers.getCrn(), identifiers.getNomsNumber(), identifiers.getPncNumber(), identifiers.getCroNumber())
+            .map(OffenderExportResource::csvValueOf)
+            .collect(Collectors.joining(","));
+    }
+
+    private static String csvValueOf(final String value) {
+        if (value == null) {
+            return "";
+        }
+        if (value.contains(",") || value.contains("\"") || value.contains("\n")) {
+            return "\"" + value.replace("\"", "\"\"") + "\"";
+        }
+        return value;
+    }
+}
@@ -8,6 +8,7 @@ import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.constraints.NotEmpty;
 import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
 import lombok.AllArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.MediaType;
@@ -17,6 +18,8 @@ import org.springframework.security.core.Authentication;
 import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestMethod;
 import org.springframework.web.bind.annotation.RequestParam;
@@ -122,6 +125,22 @@ public class OffendersResource {
             .orElseThrow(() -> new NotFoundException(String.format("Offender with crn %s not found", crn)));
     }
 
+    @PostMapping(path = "/offenders/crns", consumes = MediaType.APPLICATION_JSON_VALUE)
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "400", description = "No CRNs, or more than 500 CRNs, were given")
+    })
+    @Operation(description = "Returns the offender summaries for up to 500 CRNs, in the order the CRNs were given. " +
+        "CRNs that are not found, and offenders with exclusions or restrictions in place preventing the user from viewing them, are left out rather than failing the whole request. " +
+        "Adopting the client scopes SCOPE_IGNORE_DELIUS_INCLUSIONS_ALWAYS and SCOPE_IGNORE_DELIUS_EXCLUSIONS_ALWAYS can bypass these restrictions.")
+    public List<OffenderDetailSummary> getOffenderSummariesByCrns(
+        @Parameter(description = "CRNs of the offenders", example = "[\"X320741\"]", required = true)
+        @RequestBody @NotEmpty @Size(max = 500) final List<String> crns,
+        Authentication authentication) {
+        final var inaccessibleCrns = userAccessService.inaccessibleCrnsOf(crns, authentication.getAuthorities());
+
+        return offenderService.getOffenderSummariesByCrns(crns.stream().filter(crn -> !inaccessibleCrns.contains(crn)).toList());
+    }
+
     @RequestMapping(value = "/offenders/crn/{crn}/all", method = RequestMethod.GET)
     @ApiResponses(value = {
             @ApiResponse(responseCode = "404", description = "The offender is not found"),
@@ -8,14 +8,18 @@ import io.swagger.v3.oas.annotations.tags.Tag;
 import lombok.AllArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.Page;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.ResponseStatus;
 import org.springframework.web.bind.annotation.RestController;
 import uk.gov.justice.digital.delius.data.api.KeyValue;
 import uk.gov.justice.digital.delius.data.api.ProbationAreaWithLocalDeliveryUnits;
+import uk.gov.justice.digital.delius.service.ReferenceDataCatalogue;
 import uk.gov.justice.digital.delius.service.ReferenceDataService;
 
 import java.util.List;
@@ -29,6 +33,7 @@ import java.util.List;
 public class ReferenceDataResource {
 
     private final ReferenceDataService referenceDataService;
+    private final ReferenceDataCatalogue referenceDataCatalogue;
 
     @Operation(description = "Return probation areas. Accepts filtering to only return active areas")
     @ApiResponses(
@@ -55,4 +60,17 @@ public class ReferenceDataResource {
             @Parameter(name = "active", description = "Restricts to active areas only", example = "true") final @RequestParam(name = "active", required = false) boolean restrictActive) {
         return referenceDataService.getProbationAreasAndLocalDeliveryUnits(restrictActive);
     }
+
+    @Operation(description = "Reloads the in memory reference data catalogue. Does nothing when the catalogue is disabled")
+    @ApiResponses(
+            value = {
+                    @ApiResponse(responseCode = "204", description = "Catalogue reloaded"),
+                    @ApiResponse(responseCode = "403", description = "Requires ROLE_PROBATION_INTEGRATION_ADMIN")
+            })
+    @PreAuthorize("hasRole('ROLE_PROBATION_INTEGRATION_ADMIN')")
+    @PostMapping("/referenceData/catalogue/refresh")
+    @ResponseStatus(HttpStatus.NO_CONTENT)
+    public void refreshReferenceDataCatalogue() {
+        referenceDataCatalogue.refresh();
+    }
 }
@@ -1,10 +1,14 @@
 package uk.gov.justice.digital.delius.controller.secure;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletResponse;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
 import jakarta.validation.constraints.NotNull;
 import lombok.AllArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -16,11 +20,18 @@ import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.async.WebAsyncTask;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 import uk.gov.justice.digital.delius.controller.NotFoundException;
 import uk.gov.justice.digital.delius.data.api.Caseload;
+import uk.gov.justice.digital.delius.data.api.CaseloadAllocation;
 import uk.gov.justice.digital.delius.data.api.ManagedOffenderCrn;
 import uk.gov.justice.digital.delius.data.api.StaffDetails;
+import uk.gov.justice.digital.delius.helpers.StreamingLines;
+import uk.gov.justice.digital.delius.helpers.StreamingResponses;
+import uk.gov.justice.digital.delius.jpa.standard.repository.CaseloadCursor;
 import uk.gov.justice.digital.delius.service.CaseloadService;
 import uk.gov.justice.digital.delius.service.StaffService;
 
@@ -28,6 +39,7 @@ import java.util.List;
 import java.util.Set;
 
 import static uk.gov.justice.digital.delius.data.api.CaseloadRole.OFFENDER_MANAGER;
+import static uk.gov.justice.digital.delius.data.api.CaseloadRole.ORDER_SUPERVISOR;
 
 @Slf4j
 @Tag(name = "Staff", description = "Requires ROLE_COMMUNITY")
@@ -40,6 +52,8 @@ public class StaffResource {
 
     private final StaffService staffService;
     private final CaseloadService caseloadService;
+    private final ObjectMapper objectMapper;
+    private final StreamingResponses streamingResponses;
 
     @Operation(description = "Return details of a staff member including option user details. Accepts a Delius staff officer identifier")
     @ApiResponses(value = {
@@ -118,6 +132,31 @@ public class StaffResource {
             .orElseThrow(() -> new NotFoundException(String.format("Staff member with identifier %d", staffIdentifier)));
     }
 
+    @Operation(description = "Streams a page of a team's offender manager and order supervisor caseload as newline-delimited JSON, in allocation date order. " +
+        "To fetch the next page pass the cursor of the last allocation received as after; an empty page means the end of the caseload")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "400", description = "Invalid request"),
+        @ApiResponse(responseCode = "404", description = "Not found"),
+        @ApiResponse(responseCode = "500", description = "Unrecoverable error whilst processing request.")
+    })
+    @GetMapping(path = "/team/{teamCode}/caseload/feed", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public WebAsyncTask<Void> getCaseloadFeedForTeam(
+        @Parameter(name = "teamCode", description = "Delius team code", example = "N07T01", required = true)
+        @NotNull @PathVariable(value = "teamCode") final String teamCode,
+        @Parameter(name = "after", description = "Cursor of the last allocation already received, omit for the first page", example = "2018-05-04.2502094561")
+        @RequestParam(value = "after", required = false) final String after,
+        @Parameter(name = "limit", description = "Most allocations to return", example = "1000")
+        @Min(1) @Max(10000) @RequestParam(value = "limit", defaultValue = "1000") final int limit,
+        final HttpServletResponse response) {
+        final var cursor = CaseloadCursor.parse(after);
+        final var teamIdentifier = caseloadService.getActiveTeamIdentifier(teamCode)
+            .orElseThrow(() -> new NotFoundException(String.format("Team with code %s", teamCode)));
+
+        final StreamingResponseBody body = StreamingLines.<CaseloadAllocation>ndjsonOf(objectMapper.writerFor(CaseloadAllocation.class),
+            allocations -> caseloadService.forEachTeamCaseloadAllocation(teamIdentifier, cursor, limit, allocations, OFFENDER_MANAGER, ORDER_SUPERVISOR));
+        return streamingResponses.of(response, MediaType.APPLICATION_NDJSON, body);
+    }
+
     @Operation(description = "Return the list of heads of a specific probation delivery unit (aka borough)")
     @GetMapping(path = "/staff/pduHeads/{pduCode}")
     public List<StaffDetails> getProbationPduHeads(@NotNull @PathVariable String pduCode) {
@@ -7,12 +7,14 @@ import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.constraints.NotNull;
 import lombok.AllArgsConstructor;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestMethod;
+import org.springframework.web.bind.annotation.ResponseStatus;
 import org.springframework.web.bind.annotation.RestController;
 import uk.gov.justice.digital.delius.controller.NotFoundException;
 import uk.gov.justice.digital.delius.data.api.UserDetails;
@@ -40,4 +42,17 @@ public class UserController {
         return userService.getUserDetails(username)
             .orElseThrow(() -> new NotFoundException(String.format("User with username %s", username)));
     }
+
+    @Operation(description = "Discards the cached exclusions and restrictions held for a user so they are reloaded from Delius on the next access check. Requires ROLE_PROBATION_INTEGRATION_ADMIN")
+    @ApiResponses(
+        value = {
+            @ApiResponse(responseCode = "204", description = "Cache entry discarded"),
+            @ApiResponse(responseCode = "403", description = "Requires ROLE_PROBATION_INTEGRATION_ADMIN")
+        })
+    @PreAuthorize("hasRole('ROLE_PROBATION_INTEGRATION_ADMIN')")
+    @RequestMapping(value = "/users/{username}/accessLimitations/cache", method = RequestMethod.DELETE)
+    @ResponseStatus(HttpStatus.NO_CONTENT)
+    public void evictUserAccessLimitations(@Parameter(name = "username", description = "Delius username", example = "TESTUSERNPS", required = true) @NotNull final @PathVariable("username") String username) {
+        userService.evictUserAccessLimitations(username);
+    }
 }
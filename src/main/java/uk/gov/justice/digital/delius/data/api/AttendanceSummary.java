@@ -0,0 +1,47 @@
+package uk.gov.justice.digital.delius.data.api;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Schema(description = "Attendance counts for a conviction, with only the fields that were asked for")
+@Data
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class AttendanceSummary {
+    @Schema(description = "Number of attendances", example = "24")
+    private Long total;
+
+    @Schema(description = "Number of attendances that were attended", example = "20")
+    private Long attended;
+
+    @Schema(description = "Number of attendances that were complied with", example = "18")
+    private Long complied;
+
+    @Schema(description = "Number of attendances for each outcome and whether they were attended and complied with")
+    private List<AttendanceOutcomeCount> outcomes;
+
+    @Data
+    @Builder
+    @AllArgsConstructor
+    @NoArgsConstructor
+    public static class AttendanceOutcomeCount {
+        private KeyValue outcome;
+
+        @Schema(required = true)
+        private boolean attended;
+
+        @Schema(required = true)
+        private boolean complied;
+
+        @Schema(required = true, example = "12")
+        private long count;
+    }
+}
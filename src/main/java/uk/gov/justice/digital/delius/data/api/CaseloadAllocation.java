@@ -0,0 +1,31 @@
+package uk.gov.justice.digital.delius.data.api;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class CaseloadAllocation {
+    @Schema(description = "Pass as the after parameter to carry on from this allocation", example = "2018-05-04.2502094561")
+    private String cursor;
+
+    @Schema(description = "Caseload role code, OM for offender manager or OS for order supervisor", example = "OM")
+    private String roleCode;
+
+    private String offenderCrn;
+
+    @Schema(description = "The supervised event, only present for order supervisors")
+    private Long eventId;
+
+    private LocalDate allocationDate;
+
+    private Long staffIdentifier;
+    private StaffHuman staff;
+}
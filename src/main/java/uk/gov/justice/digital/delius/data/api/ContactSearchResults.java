@@ -0,0 +1,20 @@
+package uk.gov.justice.digital.delius.data.api;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ContactSearchResults {
+    private List<ContactSearchSummary> contacts;
+
+    @Schema(description = "Pass as the after parameter to fetch the next page, absent on the last page", example = "2021-05-25.10:00:00.2500123456")
+    private String next;
+}
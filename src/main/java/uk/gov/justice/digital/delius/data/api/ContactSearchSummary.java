@@ -0,0 +1,51 @@
+package uk.gov.justice.digital.delius.data.api;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ContactSearchSummary {
+    @Schema(description = "Contact id", example = "2500123456")
+    private Long contactId;
+
+    @Schema(description = "The conviction the contact is for, absent for offender level contacts", example = "2500295343")
+    private Long convictionId;
+
+    @Schema(description = "Contact date", example = "2021-05-25")
+    private LocalDate contactDate;
+
+    @Schema(description = "Contact start time", example = "10:00:00")
+    private LocalTime contactStartTime;
+
+    @Schema(description = "Contact end time", example = "11:00:00")
+    private LocalTime contactEndTime;
+
+    private KeyValue type;
+
+    private KeyValue outcome;
+
+    private Boolean attended;
+
+    private Boolean complied;
+
+    @Schema(description = "Sensitive contact flag", example = "false")
+    private Boolean sensitive;
+
+    @Schema(description = "RAR activity flag, which does NOT mean the contact counts towards RAR", example = "false")
+    private Boolean rarActivity;
+
+    private String description;
+
+    private KeyValue provider;
+    private KeyValue team;
+    private StaffHuman staff;
+}
@@ -1,5 +1,7 @@
 package uk.gov.justice.digital.delius.data.api;
 
+import com.fasterxml.jackson.annotation.JsonInclude;
+import io.swagger.v3.oas.annotations.media.Schema;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
@@ -12,6 +14,10 @@ import java.time.LocalDateTime;
 @NoArgsConstructor
 @AllArgsConstructor
 public class CourtAppearanceMinimal {
+    @Schema(description = "Pass as the after parameter to carry on from this appearance, only present in the feed", example = "2019-03-02T10:00:00.2500000001")
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private String cursor;
+
     private Long offenderId;
     private Long courtAppearanceId;
     private LocalDateTime appearanceDate;
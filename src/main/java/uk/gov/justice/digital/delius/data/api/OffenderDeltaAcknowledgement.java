@@ -0,0 +1,19 @@
+package uk.gov.justice.digital.delius.data.api;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.NotBlank;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "The position a consumer of offender changes has processed up to")
+public class OffenderDeltaAcknowledgement {
+    @NotBlank
+    @Schema(description = "Cursor of the last batch of changes processed", required = true)
+    private String cursor;
+}
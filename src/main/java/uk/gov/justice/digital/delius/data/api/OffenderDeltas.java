@@ -0,0 +1,22 @@
+package uk.gov.justice.digital.delius.data.api;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import uk.gov.justice.digital.delius.jpa.dao.OffenderDelta;
+
+import java.util.List;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "A batch of offender changes in the order they happened")
+public class OffenderDeltas {
+    @Schema(description = "The latest change to each offender that changed, at most one per offender")
+    private List<OffenderDelta> deltas;
+    @Schema(description = "Opaque position after the last change in this batch, to fetch or acknowledge from")
+    private String cursor;
+}
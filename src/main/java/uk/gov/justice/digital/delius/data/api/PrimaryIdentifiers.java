@@ -16,4 +16,10 @@ public class PrimaryIdentifiers {
     private Long offenderId;
     @Schema(description = "case reference number", required = true, example = "12345C")
     private String crn;
+    @Schema(description = "Offender number from NOMIS", example = "A1234CR")
+    private String nomsNumber;
+    @Schema(description = "Number from the police national computer", example = "2004/0712343H")
+    private String pncNumber;
+    @Schema(description = "Number from the crime records office", example = "123456/04A")
+    private String croNumber;
 }
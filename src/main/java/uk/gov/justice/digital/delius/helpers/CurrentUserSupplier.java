@@ -9,9 +9,6 @@ import java.util.Optional;
 
 @Component
 public class CurrentUserSupplier {
-    private static final ThreadLocal<Claims> threadLocalClaims = new ThreadLocal<>();
-    private static final ThreadLocal<Boolean> threadLocalNationalUserOverride = new ThreadLocal<>();
-
     public static final String NATIONAL_USER = "NationalUser";
     public static final String API_USER = "APIUser";
 
@@ -23,9 +20,9 @@ public class CurrentUserSupplier {
     }
 
     public Optional<String> username() {
-        Boolean overrideNationalUser = Optional.ofNullable(threadLocalNationalUserOverride.get()).orElse(false);
+        final var context = ScopedUserContext.current();
 
-        if (overrideNationalUser) {
+        if (context.nationalUserOverride()) {
             return Optional.of(NATIONAL_USER);
         }
 
@@ -38,24 +35,27 @@ public class CurrentUserSupplier {
                 return securityUserContext.getCurrentUsername();
             }
         } else {
-            return Optional.ofNullable(threadLocalClaims.get())
+            return context.claims()
                     .map(claims -> claims.get(Jwt.UID).toString());
         }
     }
 
+    /**
+     * Sets the legacy JWT claims for the rest of the current request.
+     */
     public static void setClaims(Claims claims) {
-        threadLocalClaims.set(claims);
+        ScopedUserContext.replace(ScopedUserContext.current().withClaims(claims));
     }
 
     static void unsetClaims() {
-        threadLocalClaims.remove();
-    }
-
-    public static void setNationalUserOverride() {
-        CurrentUserSupplier.threadLocalNationalUserOverride.set(true);
+        ScopedUserContext.replace(ScopedUserContext.current().withClaims(null));
     }
 
-    public static void unsetNationalUserOverride() {
-        CurrentUserSupplier.threadLocalNationalUserOverride.set(false);
+    /**
+     * Acts as the national user until the returned scope is closed, after which whoever was acting before, including
+     * an enclosing override, is restored.
+     */
+    public static ScopedUserContext.Scope overrideWithNationalUser() {
+        return ScopedUserContext.current().withNationalUserOverride(true).open();
     }
 }
@@ -0,0 +1,107 @@
+package uk.gov.justice.digital.delius.helpers;
+
+import io.jsonwebtoken.Claims;
+
+import java.util.Optional;
+import java.util.function.Supplier;
+
+/**
+ * The caller's legacy JWT claims, auth token and national user override as a single immutable value bound to the
+ * current thread for the length of a scope.
+ * <p>
+ * Opening a scope binds a context and closing it puts back whatever was bound before, so nested scopes (such as one
+ * national user override inside another) unwind correctly, and nothing is left behind on a thread once the outermost
+ * scope is closed. That matters both for pooled platform threads, which would otherwise hand one request's user to
+ * the next, and for virtual threads, where work handed to another thread has to take the context with it via
+ * {@link #wrap(Supplier)}.
+ */
+public final class ScopedUserContext {
+    private static final ScopedUserContext EMPTY = new ScopedUserContext(null, null, false);
+    private static final ThreadLocal<ScopedUserContext> bound = new ThreadLocal<>();
+
+    private final Claims claims;
+    private final String authToken;
+    private final boolean nationalUserOverride;
+
+    private ScopedUserContext(Claims claims, String authToken, boolean nationalUserOverride) {
+        this.claims = claims;
+        this.authToken = authToken;
+        this.nationalUserOverride = nationalUserOverride;
+    }
+
+    /**
+     * @return the context bound to this thread, or an empty one outside any scope
+     */
+    public static ScopedUserContext current() {
+        return Optional.ofNullable(bound.get()).orElse(EMPTY);
+    }
+
+    /**
+     * Replaces the context for the rest of the enclosing scope, which puts back its own context when it closes.
+     */
+    static void replace(ScopedUserContext context) {
+        bound.set(context);
+    }
+
+    /**
+     * Removes whatever is bound to this thread.
+     */
+    static void clear() {
+        bound.remove();
+    }
+
+    public Optional<Claims> claims() {
+        return Optional.ofNullable(claims);
+    }
+
+    public Optional<String> authToken() {
+        return Optional.ofNullable(authToken);
+    }
+
+    public boolean nationalUserOverride() {
+        return nationalUserOverride;
+    }
+
+    public ScopedUserContext withClaims(Claims claims) {
+        return new ScopedUserContext(claims, authToken, nationalUserOverride);
+    }
+
+    public ScopedUserContext withAuthToken(String authToken) {
+        return new ScopedUserContext(claims, authToken, nationalUserOverride);
+    }
+
+    public ScopedUserContext withNationalUserOverride(boolean nationalUserOverride) {
+        return new ScopedUserContext(claims, authToken, nationalUserOverride);
+    }
+
+    /**
+     * Binds this context to the current thread until the returned scope is closed.
+     */
+    public Scope open() {
+        final var previous = bound.get();
+        bound.set(this);
+        return () -> {
+            if (previous == null) {
+                bound.remove();
+            } else {
+                bound.set(previous);
+            }
+        };
+    }
+
+    /**
+     * @return work that runs with this context bound, whichever thread it ends up running on
+     */
+    public <T> Supplier<T> wrap(Supplier<T> work) {
+        return () -> {
+            try (final var ignored = open()) {
+                return work.get();
+            }
+        };
+    }
+
+    public interface Scope extends AutoCloseable {
+        @Override
+        void close();
+    }
+}
@@ -0,0 +1,69 @@
+package uk.gov.justice.digital.delius.helpers;
+
+import com.fasterxml.jackson.databind.ObjectWriter;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+/**
+ * Response bodies written a line at a time as items are read, so a response holds one item in memory however many it
+ * carries.
+ * <p>
+ * The body is written on another thread once the handler has returned, so the caller's {@link ScopedUserContext} is
+ * captured when the body is created and bound again while it is written.
+ */
+public final class StreamingLines {
+    private static final byte NEWLINE = '\n';
+
+    private StreamingLines() {
+    }
+
+    /**
+     * @param source hands each item to the consumer it is given, in order
+     * @return a newline-delimited JSON body of the items
+     */
+    public static <T> StreamingResponseBody ndjsonOf(final ObjectWriter writer, final Consumer<Consumer<T>> source) {
+        return linesOf(null, item -> {
+            try {
+                return writer.writeValueAsBytes(item);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }, source);
+    }
+
+    /**
+     * @param header first line of the body, or null for none
+     * @param source hands each item to the consumer it is given, in order
+     * @return a body of the header followed by a line for each item
+     */
+    public static <T> StreamingResponseBody textOf(final String header, final Function<T, String> line, final Consumer<Consumer<T>> source) {
+        return linesOf(header == null ? null : header.getBytes(StandardCharsets.UTF_8), item -> line.apply(item).getBytes(StandardCharsets.UTF_8), source);
+    }
+
+    private static <T> StreamingResponseBody linesOf(final byte[] header, final Function<T, byte[]> line, final Consumer<Consumer<T>> source) {
+        final var userContext = ScopedUserContext.current();
+        return outputStream -> {
+            try (final var ignored = userContext.open()) {
+                if (header != null) {
+                    outputStream.write(header);
+                    outputStream.write(NEWLINE);
+                }
+                source.accept(item -> {
+                    try {
+                        outputStream.write(line.apply(item));
+                        outputStream.write(NEWLINE);
+                    } catch (IOException e) {
+                        throw new UncheckedIOException(e);
+                    }
+                });
+            } catch (UncheckedIOException e) {
+                throw e.getCause();
+            }
+        };
+    }
+}
@@ -0,0 +1,41 @@
+package uk.gov.justice.digital.delius.helpers;
+
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.web.context.request.async.WebAsyncTask;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.time.Duration;
+
+import static uk.gov.justice.digital.delius.config.StreamingResponseConfig.STREAMING_RESPONSE_EXECUTOR;
+
+/**
+ * Writes long streamed bodies on the streaming response executor with a timeout of their own. A full offender export
+ * runs for far longer than the servlet container's default async timeout, which is left as it is for everything else.
+ */
+@Component
+public class StreamingResponses {
+    private final Duration timeout;
+
+    public StreamingResponses(@Value("${streaming-responses.timeout:1h}") final Duration timeout) {
+        this.timeout = timeout;
+    }
+
+    /**
+     * The handler returns the task in place of the body, and must take the response as a parameter so that Spring
+     * leaves writing it to the task.
+     *
+     * @return a task writing the body to the response as the given content type
+     */
+    public WebAsyncTask<Void> of(final HttpServletResponse response, final MediaType contentType, final StreamingResponseBody body) {
+        return new WebAsyncTask<>(timeout.toMillis(), STREAMING_RESPONSE_EXECUTOR, () -> {
+            response.setContentType(contentType.toString());
+            final var outputStream = response.getOutputStream();
+            body.writeTo(outputStream);
+            outputStream.flush();
+            return null;
+        });
+    }
+}
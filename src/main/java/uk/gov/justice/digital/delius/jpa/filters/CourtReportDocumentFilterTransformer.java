@@ -7,6 +7,8 @@ import uk.gov.justice.digital.delius.jpa.standard.entity.CourtReportDocument;
 
 import jakarta.persistence.criteria.CriteriaBuilder;
 import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Join;
+import jakarta.persistence.criteria.JoinType;
 import jakarta.persistence.criteria.Predicate;
 import jakarta.persistence.criteria.Root;
 import java.util.ArrayList;
@@ -30,18 +32,31 @@ public class CourtReportDocumentFilterTransformer implements Specification<Court
     @Override
     public Predicate toPredicate(@NotNull Root<CourtReportDocument> documentRoot, @NotNull CriteriaQuery<?> query, @NotNull CriteriaBuilder criteriaBuilder) {
         final var predicateBuilder = new ArrayList<Predicate>();
+        final var courtReportType = courtReportTypeOf(documentRoot, query);
 
         predicateBuilder.add(criteriaBuilder.equal(documentRoot.get("offenderId"), offenderId));
         predicateBuilder.add(criteriaBuilder.equal(documentRoot.get("softDeleted"), false));
 
         subType.filter(type -> type == SubType.PSR).ifPresent(type -> {
-            final var courtReportTypeCodeIn = criteriaBuilder.in(documentRoot
-                .join("courtReport")
-                .join("courtReportType")
-                .get("code"));
+            final var courtReportTypeCodeIn = criteriaBuilder.in(courtReportType.get("code"));
             PRE_SENTENCE_REPORT_TYPES.forEach(courtReportTypeCodeIn::value);
             predicateBuilder.add(courtReportTypeCodeIn);
         });
         return criteriaBuilder.and(predicateBuilder.toArray(new Predicate[]{}));
     }
+
+    /*
+     * Fetch the court report, its type and court along with the document so the transformer does not issue a
+     * select per document for each of them. Count queries cannot fetch, so they just join.
+     */
+    private Join<?, ?> courtReportTypeOf(Root<CourtReportDocument> documentRoot, CriteriaQuery<?> query) {
+        if (Long.class.equals(query.getResultType()) || long.class.equals(query.getResultType())) {
+            return documentRoot.join("courtReport", JoinType.LEFT).join("courtReportType", JoinType.LEFT);
+        }
+        documentRoot.fetch("createdByUser", JoinType.LEFT);
+        documentRoot.fetch("lastUpdatedByUser", JoinType.LEFT);
+        final var courtReport = documentRoot.fetch("courtReport", JoinType.LEFT);
+        courtReport.fetch("courtAppearance", JoinType.LEFT).fetch("court", JoinType.LEFT);
+        return (Join<?, ?>) courtReport.fetch("courtReportType", JoinType.LEFT);
+    }
 }
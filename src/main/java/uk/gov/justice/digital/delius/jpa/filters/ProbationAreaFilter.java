@@ -45,4 +45,13 @@ public class ProbationAreaFilter implements Specification<ProbationArea> {
 
         return cb.and(predicates.toArray(new Predicate[0]));
     }
+
+    /**
+     * The same filter applied to an already loaded probation area
+     */
+    public boolean matches(ProbationArea probationArea) {
+        return probationAreaCodes.map(codes -> codes.contains(probationArea.getCode())).orElse(true)
+            && (!restrictActive || "Y".equals(probationArea.getSelectable()))
+            && (!excludeEstablishments || probationArea.getEstablishment() == null);
+    }
 }
@@ -0,0 +1,78 @@
+package uk.gov.justice.digital.delius.jpa.oracle;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.Collections;
+import java.util.Map;
+import java.util.Optional;
+import java.util.WeakHashMap;
+
+/**
+ * Keeps track of the VPD client identifier that each physical database connection carries, so a pooled connection
+ * only has its identifier set when it is checked out for a different user than last time.
+ * <p>
+ * PKG_VPD_CTX.SET_CLIENT_IDENTIFIER replaces whatever identifier the session had, so switching users takes a single
+ * call and connections are not cleared when they go back to the pool. Instead a connection carrying an identifier is
+ * cleared when it is next checked out without a user, which keeps anonymous callers from running as the previous user.
+ * <p>
+ * A connection is only skipped when it is known to carry the identifier wanted: one that has not been seen yet, or
+ * whose last switch failed, is always switched, even to no identifier at all.
+ */
+public class ConnectionClientIdentifiers {
+    static final String SET_CLIENT_IDENTIFIER = "call PKG_VPD_CTX.SET_CLIENT_IDENTIFIER(?)";
+    static final String CLEAR_CLIENT_IDENTIFIER = "call PKG_VPD_CTX.CLEAR_CLIENT_IDENTIFIER()";
+
+    // weakly keyed so connections retired by the pool are forgotten along with them. Empty once a connection has been
+    // cleared, and missing while the identifier it carries is not known.
+    private final Map<Connection, Optional<String>> identifiers = Collections.synchronizedMap(new WeakHashMap<>());
+    private final Counter skipped;
+    private final Counter set;
+    private final Counter cleared;
+
+    public ConnectionClientIdentifiers(MeterRegistry meterRegistry) {
+        skipped = switchCounter(meterRegistry, "skipped");
+        set = switchCounter(meterRegistry, "set");
+        cleared = switchCounter(meterRegistry, "cleared");
+    }
+
+    /**
+     * Makes sure the connection carries the given identifier, or none when the username is null, calling the database
+     * only when it does not already.
+     */
+    public void switchTo(Connection connection, String username) throws SQLException {
+        final var physicalConnection = connection.unwrap(Connection.class);
+        final var identifier = Optional.ofNullable(username);
+
+        if (identifier.equals(identifiers.get(physicalConnection))) {
+            skipped.increment();
+            return;
+        }
+
+        // until the call succeeds the identifier carried is unknown, so the next checkout must not skip the switch
+        identifiers.remove(physicalConnection);
+        if (username == null) {
+            try (final var statement = connection.prepareStatement(CLEAR_CLIENT_IDENTIFIER)) {
+                statement.execute();
+            }
+            identifiers.put(physicalConnection, identifier);
+            cleared.increment();
+        } else {
+            try (final var statement = connection.prepareStatement(SET_CLIENT_IDENTIFIER)) {
+                statement.setString(1, username);
+                statement.execute();
+            }
+            identifiers.put(physicalConnection, identifier);
+            set.increment();
+        }
+    }
+
+    private static Counter switchCounter(MeterRegistry meterRegistry, String outcome) {
+        return Counter.builder("vpd.client.identifier.switches")
+            .description("Connection checkouts by whether the VPD client identifier had to be changed")
+            .tag("outcome", outcome)
+            .register(meterRegistry);
+    }
+}
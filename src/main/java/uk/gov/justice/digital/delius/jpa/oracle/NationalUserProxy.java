@@ -1,9 +1,8 @@
 package uk.gov.justice.digital.delius.jpa.oracle;
 
-import org.aspectj.lang.JoinPoint;
-import org.aspectj.lang.annotation.After;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
 import org.aspectj.lang.annotation.Aspect;
-import org.aspectj.lang.annotation.Before;
 import org.springframework.context.annotation.Profile;
 import org.springframework.stereotype.Component;
 import uk.gov.justice.digital.delius.helpers.CurrentUserSupplier;
@@ -13,14 +12,12 @@ import uk.gov.justice.digital.delius.helpers.CurrentUserSupplier;
 @Profile("oracle")
 public class NationalUserProxy {
 
-    @Before("execution(@uk.gov.justice.digital.delius.jpa.oracle.annotations.NationalUserOverride * *(..))")
-    public void setNationalUserOverride(JoinPoint joinPoint) {
-        CurrentUserSupplier.setNationalUserOverride();
+    @Around("execution(@uk.gov.justice.digital.delius.jpa.oracle.annotations.NationalUserOverride * *(..))")
+    public Object overrideWithNationalUser(ProceedingJoinPoint joinPoint) throws Throwable {
+        // closing the scope restores the previous user, so overrides nested inside one another unwind correctly
+        try (final var ignored = CurrentUserSupplier.overrideWithNationalUser()) {
+            return joinPoint.proceed();
+        }
     }
 
-    @After("execution(@uk.gov.justice.digital.delius.jpa.oracle.annotations.NationalUserOverride * *(..))")
-    public void unsetNationalUserOverride(JoinPoint joinPoint) {
-        CurrentUserSupplier.unsetNationalUserOverride();
-    }
-
-}
\ No newline at end of file
+}
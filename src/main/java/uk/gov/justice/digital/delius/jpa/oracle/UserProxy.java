@@ -1,5 +1,7 @@
 package uk.gov.justice.digital.delius.jpa.oracle;
 
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.MeterRegistry;
 import org.aspectj.lang.ProceedingJoinPoint;
 import org.aspectj.lang.annotation.Around;
 import org.aspectj.lang.annotation.Aspect;
@@ -7,6 +9,7 @@ import org.springframework.aop.Advisor;
 import org.springframework.aop.framework.ProxyFactory;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Profile;
 import org.springframework.stereotype.Component;
 import uk.gov.justice.digital.delius.helpers.CurrentUserSupplier;
@@ -22,21 +25,53 @@ public class UserProxy {
 
     private final Advisor closeConnectionAdvisor;
     private final CurrentUserSupplier currentUserSupplier;
+    private final boolean connectionAffine;
+    private final ConnectionClientIdentifiers connectionClientIdentifiers;
 
     @Autowired
     public UserProxy(@Qualifier("bclOracleCloseConnectionAdvice") Advisor closeConnectionAdvisor,
-                     final CurrentUserSupplier currentUserSupplier) {
+                     final CurrentUserSupplier currentUserSupplier,
+                     @Value("${vpd.client-identifier.connection-affine:false}") final boolean connectionAffine,
+                     final MeterRegistry meterRegistry) {
         this.closeConnectionAdvisor = closeConnectionAdvisor;
         this.currentUserSupplier = currentUserSupplier;
+        this.connectionAffine = connectionAffine;
+        this.connectionClientIdentifiers = new ConnectionClientIdentifiers(meterRegistry);
     }
 
     @Around("execution (* javax.sql.DataSource.getConnection(..))")
     public Connection doOracleProxyThing(ProceedingJoinPoint joinPoint) throws Throwable {
         Connection connection = (Connection) joinPoint.proceed(joinPoint.getArgs());
 
+        if (connectionAffine) {
+            return withConnectionAffineIdentifier(joinPoint.getTarget(), connection);
+        }
         return currentUserSupplier.username().map(username -> getConnection(connection, username)).orElse(connection);
     }
 
+    private Connection withConnectionAffineIdentifier(Object dataSource, Connection connection) throws SQLException {
+        try {
+            connectionClientIdentifiers.switchTo(connection, currentUserSupplier.username().orElse(null));
+        } catch (SQLException | RuntimeException e) {
+            discard(dataSource, connection);
+            throw e;
+        }
+        return connection;
+    }
+
+    /*
+     * The session may still carry the previous user's identifier, so the connection is evicted from the pool rather
+     * than returned to it where possible. One that is only returned is switched again when next checked out, as its
+     * identifier is no longer known.
+     */
+    private static void discard(Object dataSource, Connection connection) throws SQLException {
+        if (dataSource instanceof HikariDataSource hikariDataSource) {
+            hikariDataSource.evictConnection(connection);
+        } else {
+            connection.close();
+        }
+    }
+
     private Connection getConnection(Connection connection, String uid) {
         ProxyFactory proxyFactory = new ProxyFactory(connection);
         proxyFactory.addAdvisor(closeConnectionAdvisor);
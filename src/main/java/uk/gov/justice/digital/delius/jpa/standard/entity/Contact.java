@@ -4,6 +4,7 @@ import io.vavr.control.Either;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
 import jakarta.persistence.EntityListeners;
+import jakarta.persistence.FetchType;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
@@ -20,6 +21,7 @@ import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
+import lombok.ToString;
 import org.springframework.data.annotation.CreatedBy;
 import org.springframework.data.annotation.CreatedDate;
 import org.springframework.data.annotation.LastModifiedBy;
@@ -69,6 +71,26 @@ import java.util.Optional;
     }
 
 )
+// the enforcement is joined in as the inverse side of a one-to-one is otherwise read with a select per contact
+@NamedEntityGraph(name = "Contact.attendance",
+    attributeNodes = {
+        @NamedAttributeNode("contactType"),
+        @NamedAttributeNode("contactOutcomeType"),
+        @NamedAttributeNode("enforcement")
+    }
+)
+@NamedEntityGraph(name = "Contact.enforcement",
+    attributeNodes = {
+        @NamedAttributeNode("contactType"),
+        @NamedAttributeNode("contactOutcomeType"),
+        @NamedAttributeNode(value = "enforcement", subgraph = "Enforcement.enforcementAction")
+    },
+    subgraphs = {
+        @NamedSubgraph(name = "Enforcement.enforcementAction", attributeNodes = {
+            @NamedAttributeNode("enforcementAction")
+        })
+    }
+)
 public class Contact {
 
     @Id
@@ -84,23 +106,28 @@ public class Contact {
     private Long offenderId;
 
     @JoinColumn(name = "CONTACT_TYPE_ID")
-    @OneToOne
+    @OneToOne(fetch = FetchType.LAZY)
+    @ToString.Exclude
     private ContactType contactType;
 
     @JoinColumn(name = "RQMNT_ID")
-    @OneToOne
+    @OneToOne(fetch = FetchType.LAZY)
+    @ToString.Exclude
     private Requirement requirement;
 
     @JoinColumn(name = "EXPLANATION_ID")
-    @OneToOne
+    @OneToOne(fetch = FetchType.LAZY)
+    @ToString.Exclude
     private Explanation explanation;
 
     @JoinColumn(name = "LIC_CONDITION_ID")
-    @OneToOne
+    @OneToOne(fetch = FetchType.LAZY)
+    @ToString.Exclude
     private LicenceCondition licenceCondition;
 
     @JoinColumn(name = "NSI_ID")
-    @OneToOne
+    @OneToOne(fetch = FetchType.LAZY)
+    @ToString.Exclude
     private Nsi nsi;
 
     @Lob
@@ -128,35 +155,43 @@ public class Contact {
     private String alertActive;
 
     @JoinColumn(name = "CONTACT_OUTCOME_TYPE_ID")
-    @OneToOne
+    @OneToOne(fetch = FetchType.LAZY)
+    @ToString.Exclude
     private ContactOutcomeType contactOutcomeType;
 
     @JoinColumn(name = "PROVIDER_LOCATION_ID")
-    @OneToOne
+    @OneToOne(fetch = FetchType.LAZY)
+    @ToString.Exclude
     private ProviderLocation providerLocation;
 
     @JoinColumn(name = "OFFICE_LOCATION_ID")
-    @OneToOne
+    @OneToOne(fetch = FetchType.LAZY)
+    @ToString.Exclude
     private OfficeLocation officeLocation;
 
     @JoinColumn(name = "PROVIDER_EMPLOYEE_ID")
-    @OneToOne
+    @OneToOne(fetch = FetchType.LAZY)
+    @ToString.Exclude
     private ProviderEmployee providerEmployee;
 
     @JoinColumn(name = "PROVIDER_TEAM_ID")
-    @OneToOne
+    @OneToOne(fetch = FetchType.LAZY)
+    @ToString.Exclude
     private ProviderTeam providerTeam;
 
     @JoinColumn(name = "STAFF_ID")
-    @OneToOne
+    @OneToOne(fetch = FetchType.LAZY)
+    @ToString.Exclude
     private Staff staff;
 
     @JoinColumn(name = "TEAM_ID")
-    @OneToOne
+    @OneToOne(fetch = FetchType.LAZY)
+    @ToString.Exclude
     private Team team;
 
     @JoinColumn(name = "PROBATION_AREA_ID")
-    @OneToOne
+    @OneToOne(fetch = FetchType.LAZY)
+    @ToString.Exclude
     private ProbationArea probationArea;
 
     @Column(name = "PARTITION_AREA_ID")
@@ -170,11 +205,13 @@ public class Contact {
     private Long teamProviderId;
 
     @JoinColumn(name = "PARTITION_AREA_ID", updatable = false, insertable = false)
-    @OneToOne
+    @OneToOne(fetch = FetchType.LAZY)
+    @ToString.Exclude
     private PartitionArea partitionArea;
 
     @JoinColumn(name = "EVENT_ID")
-    @ManyToOne
+    @ManyToOne(fetch = FetchType.LAZY)
+    @ToString.Exclude
     private Event event;
 
     @Column(name = "EVENT_ID", updatable = false, insertable = false)
@@ -223,7 +260,8 @@ public class Contact {
     private Long lastUpdatedUserId;
 
     @JoinColumn(name = "LAST_UPDATED_USER_ID", referencedColumnName = "USER_ID", updatable = false, insertable = false)
-    @ManyToOne
+    @ManyToOne(fetch = FetchType.LAZY)
+    @ToString.Exclude
     private User lastUpdatedByUser;
 
     @Column(name = "LAST_UPDATED_DATETIME")
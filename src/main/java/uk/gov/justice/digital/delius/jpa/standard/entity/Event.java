@@ -9,6 +9,9 @@ import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
+import jakarta.persistence.NamedAttributeNode;
+import jakarta.persistence.NamedEntityGraph;
+import jakarta.persistence.NamedSubgraph;
 import jakarta.persistence.OneToMany;
 import jakarta.persistence.OneToOne;
 import jakarta.persistence.SequenceGenerator;
@@ -31,6 +34,37 @@ import java.util.List;
 @Builder(toBuilder = true)
 @Entity
 @Table(name = "EVENT")
+@NamedEntityGraph(name = "Event.requirements",
+    attributeNodes = @NamedAttributeNode(value = "disposal", subgraph = "Disposal.requirements"),
+    subgraphs = {
+        @NamedSubgraph(name = "Disposal.requirements", attributeNodes = @NamedAttributeNode(value = "requirements", subgraph = "Requirement.types")),
+        @NamedSubgraph(name = "Requirement.types", attributeNodes = {
+            @NamedAttributeNode("requirementTypeMainCategory"),
+            @NamedAttributeNode("requirementTypeSubCategory"),
+            @NamedAttributeNode("adRequirementTypeMainCategory"),
+            @NamedAttributeNode("adRequirementTypeSubCategory"),
+            @NamedAttributeNode("terminationReason")
+        })
+    })
+@NamedEntityGraph(name = "Event.licenceConditions",
+    attributeNodes = @NamedAttributeNode(value = "disposal", subgraph = "Disposal.licenceConditions"),
+    subgraphs = {
+        @NamedSubgraph(name = "Disposal.licenceConditions", attributeNodes = @NamedAttributeNode(value = "licenceConditions", subgraph = "LicenceCondition.types")),
+        @NamedSubgraph(name = "LicenceCondition.types", attributeNodes = {
+            @NamedAttributeNode("licenceConditionTypeMainCat"),
+            @NamedAttributeNode("licenceConditionTypeSubCat")
+        })
+    })
+@NamedEntityGraph(name = "Event.pssRequirements",
+    attributeNodes = @NamedAttributeNode(value = "disposal", subgraph = "Disposal.custody"),
+    subgraphs = {
+        @NamedSubgraph(name = "Disposal.custody", attributeNodes = @NamedAttributeNode(value = "custody", subgraph = "Custody.pssRequirements")),
+        @NamedSubgraph(name = "Custody.pssRequirements", attributeNodes = @NamedAttributeNode(value = "pssRequirements", subgraph = "PssRequirement.types")),
+        @NamedSubgraph(name = "PssRequirement.types", attributeNodes = {
+            @NamedAttributeNode("pssRequirementTypeMainCategory"),
+            @NamedAttributeNode("pssRequirementTypeSubCategory")
+        })
+    })
 public class Event {
 
     @Id
@@ -0,0 +1,37 @@
+package uk.gov.justice.digital.delius.jpa.standard.entity;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.IdClass;
+import jakarta.persistence.Table;
+import java.time.LocalDateTime;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder(toBuilder = true)
+@Entity
+@Table(name = "OFFENDER_DELTA_CONSUMER")
+@IdClass(OffenderDeltaConsumerPk.class)
+public class OffenderDeltaConsumer {
+    // the OAuth client the consumer belongs to, so one client cannot read or move another's cursor
+    @Id
+    @Column(name = "CLIENT_ID")
+    private String clientId;
+
+    @Id
+    @Column(name = "CONSUMER_ID")
+    private String consumerId;
+
+    @Column(name = "DELTA_CURSOR")
+    private String cursor;
+
+    @Column(name = "LAST_UPDATED_DATETIME")
+    private LocalDateTime lastUpdatedDateTime;
+}
@@ -0,0 +1,24 @@
+package uk.gov.justice.digital.delius.jpa.standard.entity;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.EqualsAndHashCode;
+import lombok.NoArgsConstructor;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Id;
+import java.io.Serializable;
+
+@EqualsAndHashCode
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class OffenderDeltaConsumerPk implements Serializable {
+    @Id
+    @Column(name = "CLIENT_ID")
+    private String clientId;
+
+    @Id
+    @Column(name = "CONSUMER_ID")
+    private String consumerId;
+}
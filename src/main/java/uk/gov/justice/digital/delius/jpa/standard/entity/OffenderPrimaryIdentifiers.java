@@ -26,6 +26,15 @@ public class OffenderPrimaryIdentifiers {
     @Column(name = "CRN")
     private String crn;
 
+    @Column(name = "NOMS_NUMBER")
+    private String nomsNumber;
+
+    @Column(name = "PNC_NUMBER")
+    private String pncNumber;
+
+    @Column(name = "CRO_NUMBER")
+    private String croNumber;
+
     @Column(name = "SOFT_DELETED")
     private Long softDeleted;
 
@@ -8,6 +8,6 @@ import uk.gov.justice.digital.delius.jpa.standard.entity.AddressAssessmentDocume
 import java.util.List;
 
 public interface AddressAssessmentDocumentRepository extends JpaRepository<AddressAssessmentDocument, Long> {
-    @Query("select document from AddressAssessmentDocument document, AddressAssessment entity where document.addressAssessment = entity and document.offenderId = :offenderId and document.softDeleted = false")
+    @Query("select document from AddressAssessmentDocument document join fetch document.addressAssessment entity left join fetch document.createdByUser left join fetch document.lastUpdatedByUser where document.offenderId = :offenderId and document.softDeleted = false")
     List<AddressAssessmentDocument> findByOffenderId(@Param("offenderId") Long offenderId);
 }
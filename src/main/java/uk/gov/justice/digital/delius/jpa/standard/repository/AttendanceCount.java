@@ -0,0 +1,7 @@
+package uk.gov.justice.digital.delius.jpa.standard.repository;
+
+/**
+ * How many of an event's attendances share an outcome and the same attended and complied flags.
+ */
+public record AttendanceCount(String outcomeCode, String outcomeDescription, String attended, String complied, Long count) {
+}
@@ -0,0 +1,8 @@
+package uk.gov.justice.digital.delius.jpa.standard.repository;
+
+/**
+ * How many of an event's attendances there are and how many of them were attended and complied with, counted in the
+ * database rather than by loading the contacts.
+ */
+public record AttendanceTotals(Long total, Long attended, Long complied) {
+}
@@ -8,6 +8,6 @@ import uk.gov.justice.digital.delius.jpa.standard.entity.CaseAllocationDocument;
 import java.util.List;
 
 public interface CaseAllocationDocumentRepository extends JpaRepository<CaseAllocationDocument, Long> {
-    @Query("select document from CaseAllocationDocument document, CaseAllocation entity where document.caseAllocation = entity and document.offenderId = :offenderId and document.softDeleted = false")
+    @Query("select document from CaseAllocationDocument document join fetch document.caseAllocation entity left join fetch document.createdByUser left join fetch document.lastUpdatedByUser where document.offenderId = :offenderId and document.softDeleted = false")
     List<CaseAllocationDocument> findByOffenderId(@Param("offenderId") Long offenderId);
 }
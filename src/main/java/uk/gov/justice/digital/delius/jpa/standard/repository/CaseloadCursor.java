@@ -0,0 +1,36 @@
+package uk.gov.justice.digital.delius.jpa.standard.repository;
+
+import java.time.LocalDate;
+
+/**
+ * A position in a team's caseload, which is ordered by allocation date with undated rows first, then by caseload id.
+ * It is written as {@code <allocation date>.<caseload id>}, with the date left empty for an undated row.
+ * <p>
+ * A caller paging through a large team is not slowed down the further it gets, as each page starts from the index
+ * entry for its cursor, and allocations made in the meantime do not shift the pages it has still to read.
+ */
+public record CaseloadCursor(LocalDate allocationDate, long caseloadId) {
+    public static final CaseloadCursor START = new CaseloadCursor(null, 0L);
+
+    public static CaseloadCursor of(CaseloadEntry entry) {
+        return new CaseloadCursor(entry.allocationDate(), entry.caseloadId());
+    }
+
+    public boolean isUndated() {
+        return allocationDate == null;
+    }
+
+    /**
+     * @return the cursor written by {@link #toString()}, or the start of the caseload when there is none
+     */
+    public static CaseloadCursor parse(String cursor) {
+        return Cursors.parse(cursor, "caseload", 2, START, values -> new CaseloadCursor(
+            values[0].isEmpty() ? null : LocalDate.parse(values[0]),
+            Long.parseLong(values[1])));
+    }
+
+    @Override
+    public String toString() {
+        return Cursors.format(allocationDate, caseloadId);
+    }
+}
@@ -0,0 +1,32 @@
+package uk.gov.justice.digital.delius.jpa.standard.repository;
+
+import java.time.LocalDate;
+
+/**
+ * A caseload row with the officer and team it belongs to flattened onto it. A team's caseload mostly repeats the same
+ * few officers, so CaseloadTransformer builds each officer and team once from these columns rather than per row.
+ */
+public record CaseloadEntry(Long caseloadId,
+                            String roleCode,
+                            String crn,
+                            Long eventId,
+                            LocalDate allocationDate,
+                            Long staffId,
+                            String staffForename,
+                            String staffForename2,
+                            String staffSurname,
+                            String staffCode,
+                            Long teamId,
+                            String teamCode,
+                            String teamDescription,
+                            String teamTelephone,
+                            String teamEmailAddress,
+                            LocalDate teamStartDate,
+                            LocalDate teamEndDate,
+                            String districtCode,
+                            String districtDescription,
+                            String boroughCode,
+                            String boroughDescription,
+                            String localDeliveryUnitCode,
+                            String localDeliveryUnitDescription) {
+}
@@ -1,13 +1,83 @@
 package uk.gov.justice.digital.delius.jpa.standard.repository;
 
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import uk.gov.justice.digital.delius.jpa.standard.entity.Caseload;
 
+import java.time.LocalDate;
 import java.util.Collection;
 import java.util.List;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
 
 public interface CaseloadRepository extends JpaRepository<Caseload, Long> {
-    List<Caseload> findByStaffStaffIdAndRoleCodeIn(Long staffId, Collection<String> roles);
-    List<Caseload> findByTeamTeamIdAndRoleCodeIn(Long teamId, Collection<String> roles, Pageable pageable);
+    String CASELOAD_ENTRY_SELECT = "select new uk.gov.justice.digital.delius.jpa.standard.repository.CaseloadEntry(" +
+        "c.caseloadId, c.roleCode, c.crn, c.eventId, c.allocationDate, " +
+        "s.staffId, s.forename, s.forname2, s.surname, s.officerCode, " +
+        "t.teamId, t.code, t.description, t.telephone, t.emailAddress, t.startDate, t.endDate, " +
+        "d.code, d.description, b.code, b.description, ldu.code, ldu.description) " +
+        "from Caseload c join c.staff s join c.team t join t.district d join d.borough b join t.localDeliveryUnit ldu ";
+
+    String TEAM_ROLES = "where t.teamId = :teamId and c.roleCode in :roles ";
+
+    @Query(CASELOAD_ENTRY_SELECT + "where s.staffId = :staffId and c.roleCode in :roles")
+    List<CaseloadEntry> findEntriesByStaffIdAndRoleCodeIn(@Param("staffId") Long staffId, @Param("roles") Collection<String> roles);
+
+    @Query(CASELOAD_ENTRY_SELECT + "where t.teamId = :teamId and c.roleCode in :roles")
+    List<CaseloadEntry> findEntriesByTeamIdAndRoleCodeIn(@Param("teamId") Long teamId, @Param("roles") Collection<String> roles, Pageable pageable);
+
+    /**
+     * Streams a page of a team's caseload in allocation date then caseload id order, starting after the given
+     * position. Undated rows come first. The caller holds the open result sets while it writes the page out, so the
+     * stream cannot outlive its transaction.
+     * <p>
+     * Each query below compares and sorts on the raw allocation date, so the position is found through an index on
+     * it. Undated rows cannot be compared with a date, so they are read by a query of their own before the dated ones.
+     */
+    default Stream<CaseloadEntry> streamEntriesByTeamIdAndRoleCodeInAfter(Long teamId, Collection<String> roles, CaseloadCursor after, Limit limit) {
+        if (!after.isUndated()) {
+            return streamDatedEntriesAfter(teamId, roles, after.allocationDate(), after.caseloadId(), limit);
+        }
+        return Stream.<Supplier<Stream<CaseloadEntry>>>of(
+                () -> streamUndatedEntriesAfter(teamId, roles, after.caseloadId(), limit),
+                () -> streamDatedEntries(teamId, roles, limit))
+            .flatMap(Supplier::get)
+            .limit(limit.max());
+    }
+
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"))
+    @Query(CASELOAD_ENTRY_SELECT + TEAM_ROLES +
+        "and c.allocationDate is null and c.caseloadId > :afterId " +
+        "order by c.caseloadId")
+    Stream<CaseloadEntry> streamUndatedEntriesAfter(
+        @Param("teamId") Long teamId,
+        @Param("roles") Collection<String> roles,
+        @Param("afterId") long afterId,
+        Limit limit);
+
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"))
+    @Query(CASELOAD_ENTRY_SELECT + TEAM_ROLES +
+        "and c.allocationDate is not null " +
+        "order by c.allocationDate, c.caseloadId")
+    Stream<CaseloadEntry> streamDatedEntries(
+        @Param("teamId") Long teamId,
+        @Param("roles") Collection<String> roles,
+        Limit limit);
+
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"))
+    @Query(CASELOAD_ENTRY_SELECT + TEAM_ROLES +
+        "and (c.allocationDate > :afterDate or (c.allocationDate = :afterDate and c.caseloadId > :afterId)) " +
+        "order by c.allocationDate, c.caseloadId")
+    Stream<CaseloadEntry> streamDatedEntriesAfter(
+        @Param("teamId") Long teamId,
+        @Param("roles") Collection<String> roles,
+        @Param("afterDate") LocalDate afterDate,
+        @Param("afterId") long afterId,
+        Limit limit);
 }
@@ -1,5 +1,7 @@
 package uk.gov.justice.digital.delius.jpa.standard.repository;
 
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
 import org.springframework.data.jpa.repository.Query;
@@ -10,6 +12,7 @@ import java.time.LocalDate;
 import java.util.List;
 
 public interface ContactRepository extends JpaRepository<Contact, Long>, JpaSpecificationExecutor<Contact> {
+    @EntityGraph("Contact.enforcement")
     @Query("SELECT contact FROM Contact contact "
         + "WHERE contact.offenderId = :offenderId "
         + "AND contact.event.eventId = :eventId "
@@ -19,16 +22,43 @@ public interface ContactRepository extends JpaRepository<Contact, Long>, JpaSpec
                                                     @Param("eventId") Long eventId,
                                                     @Param("contactDate") LocalDate contactDate);
 
-    @Query("SELECT contact FROM Contact contact "
-        + "WHERE contact.offenderId = :offenderId "
+    String ATTENDANCES_OF_EVENT = "WHERE contact.offenderId = :offenderId "
         + "AND contact.eventId = :eventId "
         + "AND contact.contactDate <= :contactDate "
         + "AND (contact.enforcementContact = true OR contact.contactOutcomeType is not null) "
         + "AND contact.contactType.attendanceContact = true "
-        + "AND contact.contactType.nationalStandardsContact = true"
-    )
+        + "AND contact.contactType.nationalStandardsContact = true ";
+
+    @EntityGraph("Contact.attendance")
+    @Query("SELECT contact FROM Contact contact " + ATTENDANCES_OF_EVENT)
     List<Contact> findByOffenderIdAndEventId(@Param("offenderId") Long offenderId,
                                              @Param("eventId") Long eventId,
                                              @Param("contactDate") LocalDate contactDate);
 
+    // a list rather than a page, as callers only want the contacts and a page would also run a count query
+    @EntityGraph("Contact.attendance")
+    @Query("SELECT contact FROM Contact contact " + ATTENDANCES_OF_EVENT)
+    List<Contact> findByOffenderIdAndEventId(@Param("offenderId") Long offenderId,
+                                             @Param("eventId") Long eventId,
+                                             @Param("contactDate") LocalDate contactDate,
+                                             Pageable pageable);
+
+    @Query("SELECT new uk.gov.justice.digital.delius.jpa.standard.repository.AttendanceTotals("
+        + "count(contact), "
+        + "coalesce(sum(CASE WHEN contact.attended = 'Y' THEN 1 ELSE 0 END), 0), "
+        + "coalesce(sum(CASE WHEN contact.complied = 'Y' THEN 1 ELSE 0 END), 0)) "
+        + "FROM Contact contact " + ATTENDANCES_OF_EVENT)
+    AttendanceTotals countAttendancesByOffenderIdAndEventId(@Param("offenderId") Long offenderId,
+                                                            @Param("eventId") Long eventId,
+                                                            @Param("contactDate") LocalDate contactDate);
+
+    // unset flags read as N, as they do once mapped, so that they are counted with the N flags rather than apart
+    @Query("SELECT new uk.gov.justice.digital.delius.jpa.standard.repository.AttendanceCount("
+        + "outcome.code, outcome.description, coalesce(contact.attended, 'N'), coalesce(contact.complied, 'N'), count(contact)) "
+        + "FROM Contact contact LEFT JOIN contact.contactOutcomeType outcome " + ATTENDANCES_OF_EVENT
+        + "GROUP BY outcome.code, outcome.description, coalesce(contact.attended, 'N'), coalesce(contact.complied, 'N') "
+        + "ORDER BY outcome.code, coalesce(contact.attended, 'N'), coalesce(contact.complied, 'N')")
+    List<AttendanceCount> countAttendancesByOutcome(@Param("offenderId") Long offenderId,
+                                                    @Param("eventId") Long eventId,
+                                                    @Param("contactDate") LocalDate contactDate);
 }
@@ -0,0 +1,41 @@
+package uk.gov.justice.digital.delius.jpa.standard.repository;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.time.format.DateTimeFormatter;
+import java.util.Optional;
+
+/**
+ * A position in an offender's contacts ordered by contact date, start time then contact id, written as
+ * {@code <contact date>.<start time>.<contact id>}.
+ * <p>
+ * Offenders with long histories are paged through from the cursor's position in the contact date index, so a page
+ * late in the history does not make the database count its way through every earlier contact first.
+ */
+public record ContactSearchCursor(LocalDate contactDate, LocalTime contactStartTime, long contactId) {
+    // contacts without a start time sort as though they started at midnight, see ContactSearchRepositoryImpl
+    static final LocalTime UNTIMED = LocalTime.MIDNIGHT;
+
+    private static final DateTimeFormatter TIME_FORMAT = DateTimeFormatter.ofPattern("HH:mm:ss");
+
+    public static final ContactSearchCursor START = new ContactSearchCursor(LocalDate.of(1900, 1, 1), UNTIMED, 0L);
+
+    public static ContactSearchCursor of(ContactSearchEntry entry) {
+        return new ContactSearchCursor(entry.contactDate(), Optional.ofNullable(entry.contactStartTime()).orElse(UNTIMED), entry.contactId());
+    }
+
+    /**
+     * @return the cursor written by {@link #toString()}, or the first contact when there is none
+     */
+    public static ContactSearchCursor parse(String cursor) {
+        return Cursors.parse(cursor, "contact", 3, START, values -> new ContactSearchCursor(
+            LocalDate.parse(values[0]),
+            LocalTime.parse(values[1], TIME_FORMAT),
+            Long.parseLong(values[2])));
+    }
+
+    @Override
+    public String toString() {
+        return Cursors.format(contactDate, TIME_FORMAT.format(contactStartTime), contactId);
+    }
+}
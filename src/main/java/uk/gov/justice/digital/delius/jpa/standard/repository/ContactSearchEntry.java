@@ -0,0 +1,33 @@
+package uk.gov.justice.digital.delius.jpa.standard.repository;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+
+/**
+ * The columns of a contact that a contact search summary is built from. The type, outcome, staff, team and provider
+ * come as their codes and descriptions, joined in the search query itself, so a page of results is one query however
+ * many of those it refers to.
+ */
+public record ContactSearchEntry(Long contactId,
+                                 Long eventId,
+                                 LocalDate contactDate,
+                                 LocalTime contactStartTime,
+                                 LocalTime contactEndTime,
+                                 String typeCode,
+                                 String typeDescription,
+                                 String outcomeCode,
+                                 String outcomeDescription,
+                                 String attended,
+                                 String complied,
+                                 String sensitive,
+                                 String rarActivity,
+                                 String description,
+                                 String staffCode,
+                                 String staffForename,
+                                 String staffForename2,
+                                 String staffSurname,
+                                 String teamCode,
+                                 String teamDescription,
+                                 String providerCode,
+                                 String providerDescription) {
+}
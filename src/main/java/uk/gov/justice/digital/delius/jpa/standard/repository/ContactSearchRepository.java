@@ -0,0 +1,16 @@
+package uk.gov.justice.digital.delius.jpa.standard.repository;
+
+import org.springframework.data.jpa.domain.Specification;
+import uk.gov.justice.digital.delius.jpa.standard.entity.Contact;
+
+import java.util.List;
+
+/**
+ * Repository of contacts searched a page at a time.
+ */
+public interface ContactSearchRepository {
+    /**
+     * @return up to limit of the matching contacts after the cursor, in contact date, start time then contact id order
+     */
+    List<ContactSearchEntry> findAll(Specification<Contact> spec, ContactSearchCursor after, int limit);
+}
@@ -0,0 +1,63 @@
+package uk.gov.justice.digital.delius.jpa.standard.repository;
+
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.stereotype.Repository;
+import uk.gov.justice.digital.delius.jpa.standard.entity.Contact;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.criteria.JoinType;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.List;
+
+/**
+ * Repository of contacts searched a page at a time.
+ */
+@Repository
+public class ContactSearchRepositoryImpl implements ContactSearchRepository {
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public List<ContactSearchEntry> findAll(Specification<Contact> spec, ContactSearchCursor after, int limit) {
+        final var builder = entityManager.getCriteriaBuilder();
+        final var query = builder.createQuery(ContactSearchEntry.class);
+        final var root = query.from(Contact.class);
+        final var contactType = root.join("contactType");
+        final var outcome = root.join("contactOutcomeType", JoinType.LEFT);
+        final var staff = root.join("staff", JoinType.LEFT);
+        final var team = root.join("team", JoinType.LEFT);
+        final var provider = root.join("probationArea", JoinType.LEFT);
+
+        final var contactDate = root.<LocalDate>get("contactDate");
+        final var contactStartTime = builder.coalesce(root.<LocalTime>get("contactStartTime"), ContactSearchCursor.UNTIMED);
+        final var contactId = root.<Long>get("contactId");
+
+        // selected as values rather than entities so none of the contact's eager associations are fetched
+        query.select(builder.construct(ContactSearchEntry.class,
+                contactId, root.get("eventId"), contactDate, root.get("contactStartTime"), root.get("contactEndTime"),
+                contactType.get("code"), contactType.get("description"),
+                outcome.get("code"), outcome.get("description"),
+                root.get("attended"), root.get("complied"), root.get("sensitive"), root.get("rarActivity"), root.get("description"),
+                staff.get("officerCode"), staff.get("forename"), staff.get("forname2"), staff.get("surname"),
+                team.get("code"), team.get("description"),
+                provider.get("code"), provider.get("description")))
+            .where(builder.and(
+                builder.equal(root.get("softDeleted"), false),
+                builder.or(
+                    builder.greaterThan(contactDate, after.contactDate()),
+                    builder.and(builder.equal(contactDate, after.contactDate()), builder.or(
+                        builder.greaterThan(contactStartTime, after.contactStartTime()),
+                        builder.and(builder.equal(contactStartTime, after.contactStartTime()), builder.greaterThan(contactId, after.contactId()))))),
+                spec.toPredicate(root, query, builder)))
+            .orderBy(builder.asc(contactDate), builder.asc(contactStartTime), builder.asc(contactId));
+
+        return entityManager.createQuery(query)
+            .setHint(HibernateHints.HINT_READ_ONLY, true)
+            .setMaxResults(limit)
+            .getResultList();
+    }
+}
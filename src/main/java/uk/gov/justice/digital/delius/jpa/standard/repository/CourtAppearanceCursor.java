@@ -0,0 +1,33 @@
+package uk.gov.justice.digital.delius.jpa.standard.repository;
+
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+
+/**
+ * A position in the court appearances ordered by appearance date then court appearance id, written as
+ * {@code <appearance date and time>.<court appearance id>}. The time is always written to the second so that the
+ * cursor never holds a fraction of a second, whose full stop would be taken for the separator.
+ */
+public record CourtAppearanceCursor(LocalDateTime appearanceDate, long courtAppearanceId) {
+    private static final DateTimeFormatter DATE_TIME_FORMAT = DateTimeFormatter.ofPattern("yyyy-MM-dd'T'HH:mm:ss");
+
+    public static final CourtAppearanceCursor START = new CourtAppearanceCursor(LocalDateTime.of(1900, 1, 1, 0, 0), 0L);
+
+    public static CourtAppearanceCursor of(CourtAppearanceEntry entry) {
+        return new CourtAppearanceCursor(entry.appearanceDate(), entry.courtAppearanceId());
+    }
+
+    /**
+     * @return the cursor written by {@link #toString()}, or the first appearance when there is none
+     */
+    public static CourtAppearanceCursor parse(String cursor) {
+        return Cursors.parse(cursor, "court appearance", 2, START, values -> new CourtAppearanceCursor(
+            LocalDateTime.parse(values[0], DATE_TIME_FORMAT),
+            Long.parseLong(values[1])));
+    }
+
+    @Override
+    public String toString() {
+        return Cursors.format(DATE_TIME_FORMAT.format(appearanceDate), courtAppearanceId);
+    }
+}
@@ -0,0 +1,16 @@
+package uk.gov.justice.digital.delius.jpa.standard.repository;
+
+import java.time.LocalDateTime;
+
+/**
+ * One line of the court appearances feed: just the appearance, its court and its type, which is all the feed shows and
+ * leaves out the event, offender and outcome that a CourtAppearance entity would bring with it.
+ */
+public record CourtAppearanceEntry(Long courtAppearanceId,
+                                   Long offenderId,
+                                   LocalDateTime appearanceDate,
+                                   String courtCode,
+                                   String courtName,
+                                   String appearanceTypeCode,
+                                   String appearanceTypeDescription) {
+}
@@ -1,12 +1,18 @@
 package uk.gov.justice.digital.delius.jpa.standard.repository;
 
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import uk.gov.justice.digital.delius.jpa.standard.entity.CourtAppearance;
 
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.stream.Stream;
 
 public interface CourtAppearanceRepository extends JpaRepository<CourtAppearance, Long>  {
     List<CourtAppearance> findByOffenderId(Long offenderId);
@@ -16,5 +22,23 @@ public interface CourtAppearanceRepository extends JpaRepository<CourtAppearance
 
     @EntityGraph("ContactAppearance.minimal")
     List<CourtAppearance> findByAppearanceDateGreaterThanEqualAndSoftDeletedNot(LocalDateTime fromDate, Long softDeleted);
-}
 
+    /**
+     * Streams the appearances from the given date and before the to date, in appearance date then court appearance id
+     * order, starting after the given position. The feed is written as it is read, 500 rows to a fetch,
+     * from inside the transaction that started the query.
+     */
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"))
+    @Query("select new uk.gov.justice.digital.delius.jpa.standard.repository.CourtAppearanceEntry(" +
+        "ca.courtAppearanceId, ca.offenderId, ca.appearanceDate, court.code, court.courtName, st.codeValue, st.codeDescription) " +
+        "from CourtAppearance ca join ca.court court left join ca.appearanceType st " +
+        "where ca.appearanceDate >= :fromDate and ca.appearanceDate < :toDate and ca.softDeleted <> 1 " +
+        "and (ca.appearanceDate > :afterDate or (ca.appearanceDate = :afterDate and ca.courtAppearanceId > :afterId)) " +
+        "order by ca.appearanceDate, ca.courtAppearanceId")
+    Stream<CourtAppearanceEntry> streamEntriesByAppearanceDateBetweenAfter(
+        @Param("fromDate") LocalDateTime fromDate,
+        @Param("toDate") LocalDateTime toDate,
+        @Param("afterDate") LocalDateTime afterDate,
+        @Param("afterId") long afterId,
+        Limit limit);
+}
@@ -0,0 +1,54 @@
+package uk.gov.justice.digital.delius.jpa.standard.repository;
+
+import uk.gov.justice.digital.delius.controller.BadRequestException;
+
+import java.time.format.DateTimeParseException;
+import java.util.Arrays;
+import java.util.Objects;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Reads and writes the keyset cursors handed out by the paged feeds, which are the values of the sort columns of the
+ * last row returned separated by full stops.
+ */
+final class Cursors {
+    private static final String SEPARATOR = ".";
+
+    private Cursors() {
+    }
+
+    /**
+     * @param name    what the cursor is a position in, for the error when it cannot be read
+     * @param parts   how many values the cursor holds
+     * @param start   the position to use when there is no cursor
+     * @param reader  the position the values describe, which may throw when they are not the values it expects
+     * @throws BadRequestException when the cursor does not hold the values the reader expects
+     */
+    static <T> T parse(String cursor, String name, int parts, T start, Function<String[], T> reader) {
+        if (cursor == null || cursor.isBlank()) {
+            return start;
+        }
+
+        final var values = cursor.split("\\" + SEPARATOR, -1);
+        if (values.length != parts) {
+            throw invalid(name, cursor);
+        }
+        try {
+            return reader.apply(values);
+        } catch (DateTimeParseException | NumberFormatException e) {
+            throw invalid(name, cursor);
+        }
+    }
+
+    /**
+     * @return the values in order, with a value that is not set left empty
+     */
+    static String format(Object... values) {
+        return Arrays.stream(values).map(value -> Objects.toString(value, "")).collect(Collectors.joining(SEPARATOR));
+    }
+
+    private static BadRequestException invalid(String name, String cursor) {
+        return new BadRequestException(String.format("Invalid %s cursor %s", name, cursor));
+    }
+}
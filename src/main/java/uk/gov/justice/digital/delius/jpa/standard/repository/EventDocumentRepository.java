@@ -9,6 +9,6 @@ import uk.gov.justice.digital.delius.jpa.standard.entity.EventDocument;
 import java.util.List;
 
 public interface EventDocumentRepository extends JpaRepository<EventDocument, Long> {
-    @Query("select document from EventDocument document, Event entity where document.event = entity and document.offenderId = :offenderId and document.softDeleted = false and document.documentType = :documentType")
+    @Query("select document from EventDocument document join fetch document.event entity left join fetch document.createdByUser left join fetch document.lastUpdatedByUser where document.offenderId = :offenderId and document.softDeleted = false and document.documentType = :documentType")
     List<EventDocument> findByOffenderId(@Param("offenderId") Long offenderId, @Param("documentType") DocumentType documentType);
 }
@@ -1,5 +1,6 @@
 package uk.gov.justice.digital.delius.jpa.standard.repository;
 
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
@@ -14,6 +15,15 @@ public interface EventRepository extends JpaRepository<Event, Long> {
 
     List<Event> findByOffenderId(Long offenderId);
 
+    @EntityGraph("Event.requirements")
+    Optional<Event> findWithRequirementsByEventIdAndOffenderId(Long eventId, Long offenderId);
+
+    @EntityGraph("Event.licenceConditions")
+    Optional<Event> findWithLicenceConditionsByEventIdAndOffenderId(Long eventId, Long offenderId);
+
+    @EntityGraph("Event.pssRequirements")
+    Optional<Event> findWithPssRequirementsByEventIdAndOffenderId(Long eventId, Long offenderId);
+
     List<Event> findByOffenderIdAndActiveFlagTrue(Long offenderId);
     @Query("select event from Event event join DISPOSAL disposal on disposal.event = event join CUSTODY custody on custody.disposal = disposal where event.offenderId  = :offenderId and event.activeFlag = true and event.softDeleted = false")
     List<Event> findActiveByOffenderIdWithCustody(@Param("offenderId") Long offenderId);
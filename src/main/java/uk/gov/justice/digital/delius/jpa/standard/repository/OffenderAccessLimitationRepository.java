@@ -4,9 +4,13 @@ import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.stereotype.Repository;
 import uk.gov.justice.digital.delius.jpa.standard.entity.OffenderAccessLimitations;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 @Repository
 public interface OffenderAccessLimitationRepository extends JpaRepository<OffenderAccessLimitations, Long> {
     Optional<OffenderAccessLimitations> findByCrn(String crn);
+
+    List<OffenderAccessLimitations> findAllByCrnIn(Collection<String> crns);
 }
@@ -0,0 +1,8 @@
+package uk.gov.justice.digital.delius.jpa.standard.repository;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import uk.gov.justice.digital.delius.jpa.standard.entity.OffenderDeltaConsumer;
+import uk.gov.justice.digital.delius.jpa.standard.entity.OffenderDeltaConsumerPk;
+
+public interface OffenderDeltaConsumerRepository extends JpaRepository<OffenderDeltaConsumer, OffenderDeltaConsumerPk> {
+}
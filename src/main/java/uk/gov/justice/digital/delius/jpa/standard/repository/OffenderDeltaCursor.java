@@ -0,0 +1,44 @@
+package uk.gov.justice.digital.delius.jpa.standard.repository;
+
+import uk.gov.justice.digital.delius.controller.BadRequestException;
+import uk.gov.justice.digital.delius.jpa.dao.OffenderDelta;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+/**
+ * A position in the offender delta feed, after the delta for the given offender changed at the given time. Consumers
+ * only ever see it as an opaque token, so how the feed is ordered can change without breaking them.
+ */
+public record OffenderDeltaCursor(LocalDateTime dateChanged, long offenderId) {
+    public static final OffenderDeltaCursor START = new OffenderDeltaCursor(LocalDateTime.of(1900, 1, 1, 0, 0), 0L);
+
+    public static OffenderDeltaCursor of(OffenderDelta delta) {
+        return new OffenderDeltaCursor(delta.getDateChanged(), delta.getOffenderId());
+    }
+
+    /**
+     * @return the position written by {@link #token()}, or the start of the feed when there is none
+     */
+    public static OffenderDeltaCursor parse(String token) {
+        if (token == null || token.isBlank()) {
+            return START;
+        }
+
+        try {
+            final var position = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8).split("\\|");
+            if (position.length != 2) {
+                throw new IllegalArgumentException(token);
+            }
+            return new OffenderDeltaCursor(LocalDateTime.parse(position[0]), Long.parseLong(position[1]));
+        } catch (IllegalArgumentException | DateTimeParseException e) {
+            throw new BadRequestException(String.format("Invalid offender delta cursor %s", token));
+        }
+    }
+
+    public String token() {
+        return Base64.getUrlEncoder().withoutPadding().encodeToString((dateChanged + "|" + offenderId).getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,20 @@
+package uk.gov.justice.digital.delius.jpa.standard.repository;
+
+import org.springframework.data.jpa.domain.Specification;
+import uk.gov.justice.digital.delius.data.api.PrimaryIdentifiers;
+import uk.gov.justice.digital.delius.jpa.standard.entity.OffenderPrimaryIdentifiers;
+
+import java.util.Optional;
+import java.util.stream.Stream;
+
+/**
+ * Repository of offender primary identifiers read in bulk.
+ */
+public interface OffenderPrimaryIdentifiersExportRepository {
+    /**
+     * Streams the identifiers of the matching offenders in offender id order, starting after the given offender id.
+     * An export may run to millions of rows, so they are never all in memory; the stream is backed by a database cursor
+     * that closes with the transaction the export runs in.
+     */
+    Stream<PrimaryIdentifiers> streamAll(Specification<OffenderPrimaryIdentifiers> spec, long afterOffenderId, Optional<Integer> limit);
+}
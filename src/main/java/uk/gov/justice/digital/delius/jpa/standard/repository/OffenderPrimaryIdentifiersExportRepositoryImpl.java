@@ -0,0 +1,45 @@
+package uk.gov.justice.digital.delius.jpa.standard.repository;
+
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.stereotype.Repository;
+import uk.gov.justice.digital.delius.data.api.PrimaryIdentifiers;
+import uk.gov.justice.digital.delius.jpa.standard.entity.OffenderPrimaryIdentifiers;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+/**
+ * Repository of offender primary identifiers read in bulk.
+ */
+@Repository
+public class OffenderPrimaryIdentifiersExportRepositoryImpl implements OffenderPrimaryIdentifiersExportRepository {
+    static final int FETCH_SIZE = 2000;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public Stream<PrimaryIdentifiers> streamAll(Specification<OffenderPrimaryIdentifiers> spec, long afterOffenderId, Optional<Integer> limit) {
+        final var builder = entityManager.getCriteriaBuilder();
+        final var query = builder.createQuery(PrimaryIdentifiers.class);
+        final var root = query.from(OffenderPrimaryIdentifiers.class);
+
+        // selected as values rather than entities so nothing builds up in the persistence context as the rows go by
+        query.select(builder.construct(PrimaryIdentifiers.class,
+                root.get("offenderId"), root.get("crn"), root.get("nomsNumber"), root.get("pncNumber"), root.get("croNumber")))
+            .where(builder.and(
+                builder.greaterThan(root.get("offenderId"), afterOffenderId),
+                spec.toPredicate(root, query, builder)))
+            .orderBy(builder.asc(root.get("offenderId")));
+
+        final var typedQuery = entityManager.createQuery(query)
+            .setHint(HibernateHints.HINT_FETCH_SIZE, FETCH_SIZE)
+            .setHint(HibernateHints.HINT_READ_ONLY, true);
+        limit.ifPresent(typedQuery::setMaxResults);
+
+        return typedQuery.getResultStream();
+    }
+}
@@ -1,6 +1,7 @@
 package uk.gov.justice.digital.delius.jpa.standard.repository;
 
 import io.vavr.control.Either;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
@@ -8,9 +9,12 @@ import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import uk.gov.justice.digital.delius.jpa.dao.OffenderDelta;
 import uk.gov.justice.digital.delius.jpa.standard.entity.Offender;
 
 import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -30,6 +34,37 @@ public interface OffenderRepository extends JpaRepository<Offender, Long>, JpaSp
 
     Optional<Offender> findByCrn(String crn);
 
+    List<Offender> findAllByCrnIn(Collection<String> crns);
+
+    // these initialise the collections of offenders already loaded in the current transaction, rather than
+    // leaving them to be lazily loaded one offender at a time
+    @Query("select o from Offender o left join fetch o.disabilities where o.offenderId in :offenderIds")
+    List<Offender> fetchDisabilities(@Param("offenderIds") Collection<Long> offenderIds);
+
+    @Query("select o from Offender o left join fetch o.provisions where o.offenderId in :offenderIds")
+    List<Offender> fetchProvisions(@Param("offenderIds") Collection<Long> offenderIds);
+
+    // an offender is changed when either its main or its diversity details were last updated
+    String DATE_CHANGED = "greatest(o.lastUpdatedDateTime, coalesce(o.lastUpdatedDateTimeDiversity, o.lastUpdatedDateTime))";
+
+    /**
+     * The latest change to each offender changed after the given position and no later than the given time, in order
+     * of when they changed. The plain comparisons on the two update columns let the database use their indexes before
+     * working out which change is the latest.
+     */
+    @Query("select new uk.gov.justice.digital.delius.jpa.dao.OffenderDelta(o.offenderId, " + DATE_CHANGED + ", " +
+        "case when o.softDeleted = true then 'DELETE' else 'UPSERT' end) " +
+        "from Offender o " +
+        "where (o.lastUpdatedDateTime >= :afterDate or o.lastUpdatedDateTimeDiversity >= :afterDate) " +
+        "and (" + DATE_CHANGED + " > :afterDate or (" + DATE_CHANGED + " = :afterDate and o.offenderId > :afterId)) " +
+        "and " + DATE_CHANGED + " <= :changedBy " +
+        "order by " + DATE_CHANGED + ", o.offenderId")
+    List<OffenderDelta> findDeltasAfter(
+        @Param("afterDate") LocalDateTime afterDate,
+        @Param("afterId") long afterId,
+        @Param("changedBy") LocalDateTime changedBy,
+        Limit limit);
+
     @Query("select o from Offender o where o.softDeleted = false and upper(o.nomsNumber) = upper(:nomsNumber)")
     Optional<Offender> findByNomsNumber(@Param("nomsNumber") String nomsNumber);
 
@@ -38,6 +73,9 @@ public interface OffenderRepository extends JpaRepository<Offender, Long>, JpaSp
     @Query("select o from Offender o where o.softDeleted = false and upper(o.nomsNumber) = upper(:nomsNumber)")
     List<Offender> findAllByNomsNumber(@Param("nomsNumber") String nomsNumber);
 
+    @Query("select o.offenderId from Offender o where o.softDeleted = false and upper(o.nomsNumber) = upper(:nomsNumber)")
+    List<Long> findOffenderIdsByNomsNumber(@Param("nomsNumber") String nomsNumber);
+
     @Query("select o.offenderId from Offender o where o.crn = :crn")
     Optional<Long> getOffenderIdFrom(@Param("crn") String crn);
 
@@ -8,6 +8,6 @@ import uk.gov.justice.digital.delius.jpa.standard.entity.PersonalCircumstanceDoc
 import java.util.List;
 
 public interface PersonalCircumstanceDocumentRepository extends JpaRepository<PersonalCircumstanceDocument, Long> {
-    @Query("select document from PersonalCircumstanceDocument document, PersonalCircumstance entity where document.personalCircumstance = entity and document.offenderId = :offenderId and document.softDeleted = false")
+    @Query("select document from PersonalCircumstanceDocument document join fetch document.personalCircumstance entity left join fetch document.createdByUser left join fetch document.lastUpdatedByUser where document.offenderId = :offenderId and document.softDeleted = false")
     List<PersonalCircumstanceDocument> findByOffenderId(@Param("offenderId") Long offenderId);
 }
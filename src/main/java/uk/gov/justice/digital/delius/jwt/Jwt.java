@@ -9,6 +9,8 @@ import org.springframework.stereotype.Component;
 import uk.gov.justice.digital.delius.user.UserData;
 
 import javax.crypto.SecretKey;
+import java.time.Clock;
+import java.time.Duration;
 import java.util.Date;
 import java.util.Optional;
 
@@ -17,10 +19,13 @@ public class Jwt {
 
     public static final String UID = "uid";
     public static final String PROBATION_AREA_CODES = "probationAreaCodes";
+    private static final String BEARER_PREFIX = "Bearer ";
+    private static final long VERIFIED_TOKENS_MAXIMUM_SIZE = 10_000;
 
     private final SecretKey key;
     private final int lifetimeSeconds;
     private final JwtParser parser;
+    private final VerifiedTokenCache<Claims> verifiedTokens;
 
     public Jwt(@Value("${jwt.secret}") String secret,
                @Value("${jwt.lifetimeSeconds:300}") int lifetimeSeconds) {
@@ -29,14 +34,18 @@ public class Jwt {
         this.parser = Jwts.parser()
             .verifyWith(key)
             .build();
+        this.verifiedTokens = new VerifiedTokenCache<>(VERIFIED_TOKENS_MAXIMUM_SIZE, Duration.ofSeconds(lifetimeSeconds),
+            claims -> Optional.ofNullable(claims.getExpiration()).map(Date::toInstant).orElse(null), Clock.systemUTC());
     }
 
     public Optional<Claims> parseToken(String bearerToken) {
-        return Optional.ofNullable(parser.parseSignedClaims(bearerToken).getPayload());
+        return Optional.ofNullable(verifiedTokens.get(bearerToken, token -> parser.parseSignedClaims(token).getPayload()));
     }
 
     public Optional<Claims> parseAuthorizationHeader(String authorizationHeader) {
-        return parseToken(authorizationHeader.replace("Bearer ", "").replace("bearer ", ""));
+        return parseToken(authorizationHeader.regionMatches(true, 0, BEARER_PREFIX, 0, BEARER_PREFIX.length())
+            ? authorizationHeader.substring(BEARER_PREFIX.length())
+            : authorizationHeader);
     }
 
     public String buildToken(UserData userData) {
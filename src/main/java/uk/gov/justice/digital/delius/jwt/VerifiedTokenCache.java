@@ -0,0 +1,81 @@
+package uk.gov.justice.digital.delius.jwt;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Base64;
+import java.util.function.Function;
+
+/**
+ * Tokens that have already been verified, so a client that sends the same token on every request only has it
+ * verified once.
+ * <p>
+ * Tokens are held by their SHA-256 hash rather than as given, and only until the sooner of their expiry and the
+ * maximum lifetime, so a cached token is never accepted after it would have been rejected. A token that fails
+ * verification is not held, and the failure is thrown to the caller every time.
+ */
+public final class VerifiedTokenCache<T> {
+    private final Cache<String, T> tokens;
+
+    /**
+     * @param expiresAt when a verified token expires, or null if it does not
+     */
+    public VerifiedTokenCache(final long maximumSize, final Duration maximumLifetime, final Function<T, Instant> expiresAt, final Clock clock) {
+        this.tokens = Caffeine.newBuilder()
+            .maximumSize(maximumSize)
+            .expireAfter(new Expiry<String, T>() {
+                @Override
+                public long expireAfterCreate(final String key, final T value, final long currentTime) {
+                    final var expiry = expiresAt.apply(value);
+                    if (expiry == null) {
+                        return maximumLifetime.toNanos();
+                    }
+                    final var untilExpiry = Duration.between(clock.instant(), expiry);
+                    return Math.max(0, Math.min(untilExpiry.toNanos(), maximumLifetime.toNanos()));
+                }
+
+                @Override
+                public long expireAfterUpdate(final String key, final T value, final long currentTime, final long currentDuration) {
+                    return currentDuration;
+                }
+
+                @Override
+                public long expireAfterRead(final String key, final T value, final long currentTime, final long currentDuration) {
+                    return currentDuration;
+                }
+            })
+            .recordStats()
+            .build();
+    }
+
+    /**
+     * @param verify verifies the token, throwing if it is not valid
+     * @return the token as verified earlier, or as verified now if it has not been seen or has since expired
+     */
+    public T get(final String token, final Function<String, T> verify) {
+        return tokens.get(keyOf(token), key -> verify.apply(token));
+    }
+
+    public void monitor(final MeterRegistry meterRegistry, final String cacheName) {
+        CaffeineCacheMetrics.monitor(meterRegistry, tokens, cacheName);
+    }
+
+    private static String keyOf(final String token) {
+        try {
+            final var hash = MessageDigest.getInstance("SHA-256").digest(token.getBytes(StandardCharsets.UTF_8));
+            return Base64.getEncoder().encodeToString(hash);
+        } catch (NoSuchAlgorithmException e) {
+            // every Java platform is required to support SHA-256
+            throw new IllegalStateException(e);
+        }
+    }
+}
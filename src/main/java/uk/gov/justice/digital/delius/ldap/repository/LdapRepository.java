@@ -1,5 +1,10 @@
 package uk.gov.justice.digital.delius.ldap.repository;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.beans.factory.annotation.Value;
@@ -19,8 +24,15 @@ import javax.naming.directory.Attributes;
 import javax.naming.directory.BasicAttribute;
 import javax.naming.directory.BasicAttributes;
 import javax.naming.ldap.LdapName;
+import java.time.Duration;
+import java.util.Collection;
 import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
+import java.util.TreeMap;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
@@ -28,56 +40,94 @@ import static org.springframework.ldap.query.LdapQueryBuilder.query;
 
 @Repository
 public class LdapRepository {
+    private static final String ROLE_CATALOGUE = "roleCatalogue";
 
     private final LdapTemplate ldapTemplate;
     private final LdapTemplate authenticationTemplate;
+    private final MeterRegistry meterRegistry;
+    // roles are looked up by the username they are held under, ignoring case
+    private final Cache<String, List<NDeliusRole>> rolesByUsername;
+    private final Cache<String, List<String>> roleCatalogue;
     @Value("${delius.ldap.users.base}")
     private String ldapUserBase;
+    @Value("${delius.ldap.users.batch-size:100}")
+    private int ldapUserBatchSize;
 
     @Autowired
     public LdapRepository(
             @Qualifier(value = "ldapTemplate")
             final LdapTemplate ldapTemplate,
             @Qualifier(value = "authenticationTemplate")
-            final LdapTemplate authenticationTemplate) {
+            final LdapTemplate authenticationTemplate,
+            final MeterRegistry meterRegistry,
+            @Value("${delius.ldap.roles.cache.maximum-size:10000}") final long cacheMaximumSize,
+            @Value("${delius.ldap.roles.cache.time-to-live:5m}") final Duration cacheTimeToLive) {
         this.ldapTemplate = ldapTemplate;
         this.authenticationTemplate = authenticationTemplate;
+        this.meterRegistry = meterRegistry;
+        this.rolesByUsername = Caffeine.newBuilder()
+            .maximumSize(cacheMaximumSize)
+            .expireAfterWrite(cacheTimeToLive)
+            .recordStats()
+            .build();
+        this.roleCatalogue = Caffeine.newBuilder()
+            .expireAfterWrite(cacheTimeToLive)
+            .recordStats()
+            .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, rolesByUsername, "ldapUserRoles");
+        CaffeineCacheMetrics.monitor(meterRegistry, roleCatalogue, "ldapRoleCatalogue");
     }
 
     public Optional<String> getDeliusUid(final String distinguishedName) {
-        return Optional.ofNullable(ldapTemplate.lookup(distinguishedName,
-                (AttributesMapper<String>) attrs -> (String) attrs.get("uid").get()));
+        return Optional.ofNullable(timed("uid", () -> ldapTemplate.lookup(distinguishedName,
+                (AttributesMapper<String>) attrs -> (String) attrs.get("uid").get())));
     }
 
     public boolean authenticateUser(final String user, final String password) {
-        return authenticationTemplate.authenticate(ldapUserBase, "(cn=" + user + ")", password);
+        return timed("authenticate", () -> authenticationTemplate.authenticate(ldapUserBase, "(cn=" + user + ")", password));
     }
 
     public Optional<NDeliusUser> getDeliusUser(final String username) {
         // this is a two step process:
         //   1. find the user matching the supplied username in the delius LDAP.
         //   2. find the roles associated with the matched user and add them to the user entity.
-        final var nDeliusUser = authenticationTemplate.find(byUsername(username), NDeliusUser.class).stream().findAny();
+        final var nDeliusUser = findUsers(byUsername(username)).stream().findAny();
         return nDeliusUser.map(user -> mapRolesForUser(user));
     }
 
     public Optional<NDeliusUser> getDeliusUserNoRoles(final String username) {
-        return authenticationTemplate.find(byUsername(username), NDeliusUser.class).stream().findAny();
+        return findUsers(byUsername(username)).stream().findAny();
+    }
+
+    /**
+     * Finds many users (without roles) using one search per batch of usernames rather than one search per user.
+     * @return users keyed by username, ignoring case; usernames with no matching user are absent
+     */
+    public Map<String, NDeliusUser> getDeliusUsersNoRoles(final Collection<String> usernames) {
+        final var distinctUsernames = usernames.stream().filter(Objects::nonNull).distinct().toList();
+        final var users = new TreeMap<String, NDeliusUser>(String.CASE_INSENSITIVE_ORDER);
+        for (var from = 0; from < distinctUsernames.size(); from += ldapUserBatchSize) {
+            final var batch = distinctUsernames.subList(from, Math.min(from + ldapUserBatchSize, distinctUsernames.size()));
+            findUsers(byUsernames(batch))
+                .forEach(user -> users.putIfAbsent(user.getCn(), user));
+        }
+        return users;
     }
 
     public List<NDeliusUser> getDeliusUserByEmail(final String email) {
         // this is a two step process:
         //   1. find a list of users matching the supplied email address in the delius LDAP.
         //   2. find the roles associated with the matched users and add them to the user entities.
-        final var users = authenticationTemplate.find(byEmail(email), NDeliusUser.class);
+        final var users = findUsers(byEmail(email));
         return users.stream()
             .map(user -> mapRolesForUser(user))
             .collect(Collectors.toList());
     }
 
     public NDeliusUser mapRolesForUser(final NDeliusUser user) {
-        // query the delius LDAP for the roles associated with this user and return a new user object with the roles added.
-        final var roles = ldapTemplate
+        // query the delius LDAP for the roles associated with this user, unless they were queried recently, and return
+        // a new user object with the roles added.
+        final var roles = rolesByUsername.get(cacheKeyOf(user.getCn()), key -> timed("roles", () -> List.copyOf(ldapTemplate
                 .search(
                         query()
                                 .base(user.getDn())
@@ -87,7 +137,7 @@ public class LdapRepository {
                                 NDeliusRole
                                         .builder()
                                         .cn(attributes.get("cn").get().toString())
-                                        .build());
+                                        .build()))));
 
         return user.toBuilder().roles(roles).build();
     }
@@ -108,7 +158,8 @@ public class LdapRepository {
                 .add("cn", roleId)
                 .build();
 
-        authenticationTemplate.rebind(newRoleAssociationContext, null, attributes);
+        requestTimer("addRole").record(() -> authenticationTemplate.rebind(newRoleAssociationContext, null, attributes));
+        rolesByUsername.invalidate(cacheKeyOf(username));
     }
 
     private Attribute attribute(String id, String... values) {
@@ -118,26 +169,53 @@ public class LdapRepository {
     }
 
     public List<String> getAllRoles() {
-        return ldapTemplate.listBindings(
+        return roleCatalogue.get(ROLE_CATALOGUE, key -> timed("roleCatalogue", () -> List.copyOf(ldapTemplate.listBindings(
                 getRoleCatalogue().build().toString(),
                 (ContextMapper<String>) pair ->
-                    ((DirContextAdapter)pair).getStringAttribute("cn"));
+                    ((DirContextAdapter)pair).getStringAttribute("cn")))));
     }
 
     private LdapNameBuilder getRoleCatalogue() {
         return LdapNameBuilder.newInstance(ldapUserBase).add("cn=ndRoleCatalogue");
     }
 
+    private List<NDeliusUser> findUsers(final ContainerCriteria criteria) {
+        return timed("users", () -> ldapTemplate.find(criteria, NDeliusUser.class));
+    }
+
+    private <T> T timed(final String operation, final Supplier<T> request) {
+        return requestTimer(operation).record(request);
+    }
+
+    private Timer requestTimer(final String operation) {
+        return Timer.builder("delius.ldap.request")
+            .description("Time taken by each request made to the Delius LDAP directory")
+            .tag("operation", operation)
+            .register(meterRegistry);
+    }
+
+    private static String cacheKeyOf(final String username) {
+        return username.toLowerCase(Locale.ROOT);
+    }
+
+    // users sit directly under the user base, so the searches below are one level deep as the authentication
+    // template's are
     private ContainerCriteria byEmail(final String email) {
-        return query().base(ldapUserBase).where("mail").is(email);
+        return query().base(ldapUserBase).searchScope(SearchScope.ONELEVEL).where("mail").is(email);
     }
 
     private ContainerCriteria byUsername(final String username) {
-        return query().base(ldapUserBase).where("cn").is(username);
+        return query().base(ldapUserBase).searchScope(SearchScope.ONELEVEL).where("cn").is(username);
+    }
+
+    private ContainerCriteria byUsernames(final List<String> usernames) {
+        final var criteria = query().base(ldapUserBase).searchScope(SearchScope.ONELEVEL).where("cn").is(usernames.get(0));
+        usernames.stream().skip(1).forEach(username -> criteria.or("cn").is(username));
+        return criteria;
     }
 
     public String getEmail(final String username) {
-        final var nDeliusUser = authenticationTemplate.find(byUsername(username), NDeliusUser.class).stream().findAny();
+        final var nDeliusUser = findUsers(byUsername(username)).stream().findAny();
 
         return nDeliusUser.map(NDeliusUser::getMail).orElse(null);
     }
@@ -1,39 +1,88 @@
 package uk.gov.justice.digital.delius.service;
 
+import io.github.resilience4j.bulkhead.Bulkhead;
+import io.github.resilience4j.bulkhead.BulkheadFullException;
+import io.github.resilience4j.circuitbreaker.CallNotPermittedException;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import io.github.resilience4j.reactor.bulkhead.operator.BulkheadOperator;
+import io.github.resilience4j.reactor.circuitbreaker.operator.CircuitBreakerOperator;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.netty.channel.ConnectTimeoutException;
+import io.netty.handler.timeout.ReadTimeoutException;
 import lombok.val;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.beans.factory.annotation.Value;
-import org.springframework.core.io.Resource;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferUtils;
 import org.springframework.http.ContentDisposition;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.HttpStatusCode;
 import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Service;
 import org.springframework.util.LinkedMultiValueMap;
 import org.springframework.util.MultiValueMap;
 import org.springframework.web.reactive.function.client.WebClient;
+import org.springframework.web.reactive.function.client.WebClientRequestException;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
 import uk.gov.justice.digital.delius.data.api.alfresco.DocumentMeta;
 import uk.gov.justice.digital.delius.data.api.alfresco.SearchResult;
 
 import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.TimeoutException;
 
 import static java.lang.String.format;
 
 @Service
 public class AlfrescoService {
+    private static final List<String> PASSTHROUGH_REQUEST_HEADERS = List.of(HttpHeaders.RANGE, HttpHeaders.IF_RANGE, HttpHeaders.IF_NONE_MATCH);
+
     private final WebClient webClient;
     private final MultiValueMap<String, String> headers;
+    private final boolean optimisticFetch;
+    private final Timer detailsTimer;
+    private final Timer fetchTimer;
+    private final Bulkhead bulkhead;
+    private final CircuitBreaker circuitBreaker;
+    private final Duration searchTimeout;
+    private final Duration detailsTimeout;
+    private final Duration fetchTimeout;
+    private final MeterRegistry meterRegistry;
 
     @Autowired
     public AlfrescoService(@Qualifier("alfrescoWebClient") WebClient webClient,
                            @Value("${alfresco.X-DocRepository-Remote-User}") String alfrescoRemoteUser,
-                           @Value("${alfresco.X-DocRepository-Real-Remote-User}") String alfrescoRealRemoteUser) {
+                           @Value("${alfresco.X-DocRepository-Real-Remote-User}") String alfrescoRealRemoteUser,
+                           @Value("${alfresco.optimistic-fetch.enabled:false}") boolean optimisticFetch,
+                           MeterRegistry meterRegistry,
+                           @Qualifier("alfrescoBulkhead") Bulkhead bulkhead,
+                           @Qualifier("alfrescoCircuitBreaker") CircuitBreaker circuitBreaker,
+                           @Value("${alfresco.timeouts.search:10s}") Duration searchTimeout,
+                           @Value("${alfresco.timeouts.details:5s}") Duration detailsTimeout,
+                           @Value("${alfresco.timeouts.fetch:10s}") Duration fetchTimeout) {
         this.webClient = webClient;
+        this.optimisticFetch = optimisticFetch;
+        this.bulkhead = bulkhead;
+        this.circuitBreaker = circuitBreaker;
+        this.searchTimeout = searchTimeout;
+        this.detailsTimeout = detailsTimeout;
+        this.fetchTimeout = fetchTimeout;
+        this.meterRegistry = meterRegistry;
         headers = new LinkedMultiValueMap<>();
         headers.add("X-DocRepository-Remote-User", alfrescoRemoteUser);
         headers.add("X-DocRepository-Real-Remote-User", alfrescoRealRemoteUser);
+        detailsTimer = downloadPhaseTimer(meterRegistry, "details");
+        fetchTimer = downloadPhaseTimer(meterRegistry, "fetch");
     }
 
 
@@ -43,6 +92,7 @@ public class AlfrescoService {
                 .headers(httpHeaders -> httpHeaders.addAll(headers))
                 .retrieve()
                 .bodyToMono(SearchResult.class)
+                .transform(request -> guarded("search", searchTimeout, request))
                 .block();
     }
 
@@ -52,36 +102,167 @@ public class AlfrescoService {
                 .headers(httpHeaders -> httpHeaders.addAll(headers))
                 .retrieve()
                 .bodyToMono(DocumentMeta.class)
+                .transform(request -> guarded("details", detailsTimeout, request))
                 .blockOptional()
                 .filter(documentMeta -> documentMeta.getCrn().equals(crn));
     }
 
-    public ResponseEntity<Resource> getDocument(String documentId, String crn) {
-        val maybeDocumentMeta = getDocumentDetail(documentId, crn);
+    public ResponseEntity<StreamingResponseBody> getDocument(String documentId, String crn) {
+        return getDocument(documentId, crn, HttpHeaders.EMPTY);
+    }
+
+    /**
+     * Streams the document straight from Alfresco to the caller without holding the body in memory. Range and
+     * conditional request headers are passed through, so partial (206) and not modified (304) responses come back
+     * from Alfresco as they are.
+     * <p>
+     * When alfresco.optimistic-fetch.enabled is set the fetch is started alongside the details check rather than
+     * after it. Nothing from the fetch is returned until the details confirm the document belongs to the CRN, and
+     * the fetch is cancelled if they do not.
+     */
+    public ResponseEntity<StreamingResponseBody> getDocument(String documentId, String crn, HttpHeaders requestHeaders) {
+        if (optimisticFetch) {
+            return getDocumentOptimistically(documentId, crn, requestHeaders);
+        }
+        val maybeDocumentMeta = detailsTimer.record(() -> getDocumentDetail(documentId, crn));
 
         return maybeDocumentMeta
-                .map(documentMeta -> getDocument(documentId, Optional.of(documentMeta.getName())))
+                .map(documentMeta -> documentResponseOf(fetchDocument(documentId, requestHeaders).block(), documentId, Optional.of(documentMeta.getName())))
                 .orElseGet(() -> new ResponseEntity<>(HttpStatus.NOT_FOUND));
     }
 
-    private ResponseEntity<Resource> getDocument(String documentId, Optional<String> filename) {
+    private ResponseEntity<StreamingResponseBody> getDocumentOptimistically(String documentId, String crn, HttpHeaders requestHeaders) {
+        final var fetch = fetchDocument(documentId, requestHeaders).toFuture();
+        final Optional<DocumentMeta> maybeDocumentMeta;
+        try {
+            maybeDocumentMeta = detailsTimer.record(() -> getDocumentDetail(documentId, crn));
+        } catch (RuntimeException e) {
+            discard(fetch);
+            throw e;
+        }
+
+        if (maybeDocumentMeta.isEmpty()) {
+            discard(fetch);
+            return new ResponseEntity<>(HttpStatus.NOT_FOUND);
+        }
+        try {
+            return documentResponseOf(fetch.join(), documentId, Optional.of(maybeDocumentMeta.get().getName()));
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
+    /*
+     * Cancels a fetch that is still waiting for Alfresco, or cancels the body of one that has already responded, so
+     * the connection is closed rather than left holding an unread body.
+     */
+    private static void discard(CompletableFuture<ResponseEntity<Flux<DataBuffer>>> fetch) {
+        if (!fetch.cancel(true)) {
+            fetch.thenAccept(resource -> Optional.ofNullable(resource.getBody()).ifPresent(body -> body.subscribe().dispose()));
+        }
+    }
+
+    private Mono<ResponseEntity<Flux<DataBuffer>>> fetchDocument(String documentId, HttpHeaders requestHeaders) {
+        // only the status and headers are waited for, the body is subscribed to when the response is written
+        final var sample = Timer.start();
         return webClient.get().uri(format("/fetch/%s", documentId))
-            .headers(httpHeaders -> httpHeaders.addAll(headers))
-            .exchangeToMono(response -> {
-                response.mutate().headers(h -> h.remove(HttpHeaders.CONTENT_DISPOSITION));
-                return response.toEntity(Resource.class);
+            .headers(httpHeaders -> {
+                httpHeaders.addAll(headers);
+                PASSTHROUGH_REQUEST_HEADERS.stream()
+                    .filter(requestHeaders::containsKey)
+                    .forEach(header -> httpHeaders.put(header, requestHeaders.get(header)));
             })
-            .map(resource -> new ResponseEntity<>(
-                resource.getBody(),
-                collectDocumentResourceHeaders(resource.getHeaders(), documentId, filename),
-                resource.getStatusCode()))
-            .block();
+            .retrieve()
+            .onStatus(HttpStatusCode::isError, response -> Mono.empty())
+            .toEntityFlux(DataBuffer.class)
+            // a server error is passed on to the caller as it is, but is a failure as far as the circuit breaker is concerned
+            .flatMap(resource -> resource.getStatusCode().is5xxServerError() ? Mono.error(new FetchServerError(resource)) : Mono.just(resource))
+            .transform(request -> guarded("fetch", fetchTimeout, request))
+            .onErrorResume(FetchServerError.class, e -> Mono.just(e.resource))
+            .doOnSuccess(resource -> sample.stop(fetchTimer));
+    }
+
+    private static class FetchServerError extends RuntimeException {
+        private final ResponseEntity<Flux<DataBuffer>> resource;
+
+        private FetchServerError(ResponseEntity<Flux<DataBuffer>> resource) {
+            super(format("Alfresco fetch request failed with %s", resource.getStatusCode()), null, false, false);
+            this.resource = resource;
+        }
+    }
+
+    /*
+     * Bounds a request to Alfresco by its timeout, the bulkhead and the circuit breaker. A request turned away by the
+     * bulkhead is never made, so it does not count against the circuit breaker; one that times out does. The bulkhead
+     * is released once the request has answered, for a fetch that is when the headers arrive, after which the body
+     * is bounded by the connection pool and the read timeout.
+     */
+    private <T> Mono<T> guarded(String operation, Duration timeout, Mono<T> request) {
+        return request
+            .timeout(timeout)
+            .transformDeferred(CircuitBreakerOperator.of(circuitBreaker))
+            .transformDeferred(BulkheadOperator.of(bulkhead))
+            .onErrorMap(AlfrescoService::isUnavailable, e -> {
+                countUnavailable(operation, e);
+                return new AlfrescoUnavailableException(format("Alfresco %s request was not answered: %s", operation, e.getMessage()), e);
+            });
+    }
+
+    private static boolean isUnavailable(Throwable e) {
+        return e instanceof TimeoutException
+            || e instanceof BulkheadFullException
+            || e instanceof CallNotPermittedException
+            || e instanceof WebClientRequestException;
+    }
+
+    private void countUnavailable(String operation, Throwable e) {
+        if (e instanceof BulkheadFullException || e instanceof CallNotPermittedException) {
+            Counter.builder("alfresco.request.rejected")
+                .description("Requests to Alfresco turned away without being made")
+                .tag("operation", operation)
+                .tag("reason", e instanceof BulkheadFullException ? "bulkhead-full" : "circuit-open")
+                .register(meterRegistry)
+                .increment();
+        } else if (e instanceof TimeoutException
+            || e.getCause() instanceof ReadTimeoutException
+            || e.getCause() instanceof ConnectTimeoutException) {
+            Counter.builder("alfresco.request.timeouts")
+                .description("Requests to Alfresco that were not answered in time")
+                .tag("operation", operation)
+                .register(meterRegistry)
+                .increment();
+        }
+    }
+
+    private ResponseEntity<StreamingResponseBody> documentResponseOf(ResponseEntity<Flux<DataBuffer>> resource, String documentId, Optional<String> filename) {
+        return new ResponseEntity<>(
+            streamingBodyOf(resource.getBody()),
+            collectDocumentResourceHeaders(resource.getHeaders(), documentId, filename),
+            resource.getStatusCode());
+    }
+
+    private static Timer downloadPhaseTimer(MeterRegistry meterRegistry, String phase) {
+        return Timer.builder("alfresco.document.download")
+            .description("Time taken by each Alfresco call made when downloading a document, up to the fetch response headers")
+            .tag("phase", phase)
+            .register(meterRegistry);
+    }
+
+    private static StreamingResponseBody streamingBodyOf(final Flux<DataBuffer> body) {
+        return outputStream -> DataBufferUtils
+            .write(body == null ? Flux.empty() : body, outputStream)
+            .map(DataBufferUtils::release)
+            .blockLast();
     }
 
     private HttpHeaders collectDocumentResourceHeaders(final HttpHeaders responseHeaders, final String documentId, final Optional<String> filename) {
         HttpHeaders newHeaders = new HttpHeaders();
         newHeaders.add(HttpHeaders.ACCEPT_RANGES, responseHeaders.getFirst(HttpHeaders.ACCEPT_RANGES));
         newHeaders.add(HttpHeaders.CONTENT_LENGTH, responseHeaders.getFirst(HttpHeaders.CONTENT_LENGTH));
+        newHeaders.add(HttpHeaders.CONTENT_RANGE, responseHeaders.getFirst(HttpHeaders.CONTENT_RANGE));
         newHeaders.add(HttpHeaders.CONTENT_TYPE, responseHeaders.getFirst(HttpHeaders.CONTENT_TYPE));
         newHeaders.add(HttpHeaders.ETAG, responseHeaders.getFirst(HttpHeaders.ETAG));
         newHeaders.add(HttpHeaders.LAST_MODIFIED, responseHeaders.getFirst(HttpHeaders.LAST_MODIFIED));
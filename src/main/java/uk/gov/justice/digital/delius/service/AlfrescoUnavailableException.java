@@ -0,0 +1,11 @@
+package uk.gov.justice.digital.delius.service;
+
+/**
+ * Alfresco did not answer in time, or was not asked because too many requests were already waiting on it or it has
+ * recently been failing.
+ */
+public class AlfrescoUnavailableException extends RuntimeException {
+    public AlfrescoUnavailableException(final String message, final Throwable cause) {
+        super(message, cause);
+    }
+}
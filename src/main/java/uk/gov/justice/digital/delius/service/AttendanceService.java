@@ -2,22 +2,33 @@ package uk.gov.justice.digital.delius.service;
 
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
+import uk.gov.justice.digital.delius.controller.BadRequestException;
 import uk.gov.justice.digital.delius.data.api.Attendance;
 import uk.gov.justice.digital.delius.data.api.Attendance.ContactTypeDetail;
+import uk.gov.justice.digital.delius.data.api.AttendanceSummary;
+import uk.gov.justice.digital.delius.data.api.AttendanceSummary.AttendanceOutcomeCount;
+import uk.gov.justice.digital.delius.data.api.KeyValue;
 import uk.gov.justice.digital.delius.jpa.standard.entity.Contact;
+import uk.gov.justice.digital.delius.jpa.standard.repository.AttendanceCount;
 import uk.gov.justice.digital.delius.jpa.standard.repository.ContactRepository;
 import uk.gov.justice.digital.delius.transformers.TypesTransformer;
 
 import java.time.LocalDate;
+import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Collectors;
 
 @Slf4j
 @Service
 public class AttendanceService {
+    public static final String SUMMARY_TOTALS = "TOTALS";
+    public static final String SUMMARY_OUTCOMES = "OUTCOMES";
 
     private final ContactRepository contactRepository;
 
@@ -34,6 +45,65 @@ public class AttendanceService {
         return contactRepository.findByOffenderIdAndEventId(offenderId, eventId, contactDate);
     }
 
+    public List<Contact> getContactsForEvent(final Long offenderId, final Long eventId, final LocalDate contactDate, final Pageable pageable) {
+        return contactRepository.findByOffenderIdAndEventId(offenderId, eventId, contactDate, pageable);
+    }
+
+    /**
+     * Counts the event's attendances in the database, so however many there are only the counts are read. Totals alone
+     * are a single aggregate; asking for outcomes groups the attendances instead and derives any totals from the groups.
+     *
+     * @param fields any of totals and outcomes
+     */
+    public AttendanceSummary getAttendanceSummaryForEvent(final Long offenderId, final Long eventId, final LocalDate contactDate, final Collection<String> fields) {
+        final var requested = summaryFieldsOf(fields);
+
+        if (requested.contains(SUMMARY_OUTCOMES)) {
+            final var counts = contactRepository.countAttendancesByOutcome(offenderId, eventId, contactDate);
+            final var summary = AttendanceSummary.builder()
+                .outcomes(counts.stream().map(AttendanceService::attendanceOutcomeCountOf).toList());
+            if (requested.contains(SUMMARY_TOTALS)) {
+                summary
+                    .total(counts.stream().mapToLong(AttendanceCount::count).sum())
+                    .attended(counts.stream().filter(count -> "Y".equals(count.attended())).mapToLong(AttendanceCount::count).sum())
+                    .complied(counts.stream().filter(count -> "Y".equals(count.complied())).mapToLong(AttendanceCount::count).sum());
+            }
+            return summary.build();
+        }
+
+        final var totals = contactRepository.countAttendancesByOffenderIdAndEventId(offenderId, eventId, contactDate);
+        return AttendanceSummary.builder()
+            .total(totals.total())
+            .attended(totals.attended())
+            .complied(totals.complied())
+            .build();
+    }
+
+    private static Set<String> summaryFieldsOf(final Collection<String> fields) {
+        final var requested = fields.stream().map(field -> field.trim().toUpperCase()).collect(Collectors.toSet());
+        requested.stream()
+            .filter(field -> !SUMMARY_TOTALS.equals(field) && !SUMMARY_OUTCOMES.equals(field))
+            .findFirst()
+            .ifPresent(field -> {
+                throw new BadRequestException(String.format("Unknown attendance summary field %s", field));
+            });
+        if (requested.isEmpty()) {
+            throw new BadRequestException("No attendance summary fields requested");
+        }
+        return requested;
+    }
+
+    private static AttendanceOutcomeCount attendanceOutcomeCountOf(final AttendanceCount count) {
+        return AttendanceOutcomeCount.builder()
+            .outcome(Optional.ofNullable(count.outcomeCode())
+                .map(code -> KeyValue.builder().code(code).description(count.outcomeDescription()).build())
+                .orElse(null))
+            .attended(Optional.ofNullable(TypesTransformer.ynToBoolean(count.attended())).orElse(false))
+            .complied(Optional.ofNullable(TypesTransformer.ynToBoolean(count.complied())).orElse(false))
+            .count(count.count())
+            .build();
+    }
+
     public static List<Attendance> attendancesFor(final List<Contact> contacts) {
 
         if (contacts == null) {
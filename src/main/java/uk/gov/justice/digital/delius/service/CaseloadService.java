@@ -2,11 +2,15 @@ package uk.gov.justice.digital.delius.service;
 
 import lombok.AllArgsConstructor;
 import lombok.val;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import uk.gov.justice.digital.delius.data.api.Caseload;
+import uk.gov.justice.digital.delius.data.api.CaseloadAllocation;
 import uk.gov.justice.digital.delius.data.api.CaseloadRole;
+import uk.gov.justice.digital.delius.jpa.standard.entity.Team;
+import uk.gov.justice.digital.delius.jpa.standard.repository.CaseloadCursor;
 import uk.gov.justice.digital.delius.jpa.standard.repository.CaseloadRepository;
 import uk.gov.justice.digital.delius.jpa.standard.repository.StaffRepository;
 import uk.gov.justice.digital.delius.jpa.standard.repository.TeamRepository;
@@ -14,6 +18,7 @@ import uk.gov.justice.digital.delius.transformers.CaseloadTransformer;
 
 import java.util.Arrays;
 import java.util.Optional;
+import java.util.function.Consumer;
 import java.util.stream.Stream;
 
 import static java.util.stream.Collectors.toList;
@@ -30,7 +35,7 @@ public class CaseloadService {
         if (!staffRepository.existsById(staffIdentifier)) return Optional.empty();
 
         val roleCodes = Arrays.stream(roles).map(CaseloadRole::getRoleCode).collect(toList());
-        val caseload = caseloadRepository.findByStaffStaffIdAndRoleCodeIn(staffIdentifier, roleCodes);
+        val caseload = caseloadRepository.findEntriesByStaffIdAndRoleCodeIn(staffIdentifier, roleCodes);
 
         return Optional.of(CaseloadTransformer.caseloadOf(caseload));
     }
@@ -40,10 +45,33 @@ public class CaseloadService {
         final String teamCode, final Pageable pageable, final CaseloadRole... roles
     ) {
         return teamRepository.findActiveByCode(teamCode)
-            .map(t -> caseloadRepository.findByTeamTeamIdAndRoleCodeIn(
+            .map(t -> caseloadRepository.findEntriesByTeamIdAndRoleCodeIn(
                 t.getTeamId(),
                 Stream.of(roles).map(CaseloadRole::getRoleCode).toList(),
                 pageable
             )).map(CaseloadTransformer::caseloadOf);
     }
+
+    @Transactional(readOnly = true)
+    public Optional<Long> getActiveTeamIdentifier(final String teamCode) {
+        return teamRepository.findActiveByCode(teamCode).map(Team::getTeamId);
+    }
+
+    /**
+     * Hands each allocation in a page of the team's caseload to the action as it is read, so however large the page
+     * only the row being handled is held in memory.
+     */
+    @Transactional(readOnly = true)
+    public void forEachTeamCaseloadAllocation(
+        final long teamIdentifier, final CaseloadCursor after, final int limit, final Consumer<CaseloadAllocation> action, final CaseloadRole... roles
+    ) {
+        try (val entries = caseloadRepository.streamEntriesByTeamIdAndRoleCodeInAfter(
+            teamIdentifier,
+            Stream.of(roles).map(CaseloadRole::getRoleCode).toList(),
+            after,
+            Limit.of(limit)
+        )) {
+            entries.map(CaseloadTransformer::caseloadAllocationOf).forEach(action);
+        }
+    }
 }
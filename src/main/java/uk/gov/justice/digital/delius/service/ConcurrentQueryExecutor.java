@@ -0,0 +1,128 @@
+package uk.gov.justice.digital.delius.service;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.concurrent.DelegatingSecurityContextExecutorService;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import uk.gov.justice.digital.delius.helpers.ScopedUserContext;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * Runs a group of independent read only queries either one after another in a single read only transaction (the
+ * default) or, when concurrent-queries.enabled is set, each on its own virtual thread in its own read only transaction
+ * on the standard datasource. Concurrent queries are not run inside a transaction of the caller's, so a request never
+ * holds a connection while it waits for its queries to get theirs. The queries in flight are capped at
+ * concurrent-queries.max-per-request for a single batch and at concurrent-queries.max-total across every batch, which
+ * must stay well below the size of the connection pool so that other requests are not starved of connections.
+ * <p>
+ * The caller's security context and {@link ScopedUserContext} are carried onto the worker threads so connections are
+ * still tagged with the current user. Anything a query returns must be fully usable outside its transaction, i.e. transformed before it
+ * is returned rather than relying on lazy loading later.
+ */
+@Component
+@Slf4j
+public class ConcurrentQueryExecutor {
+    private final boolean enabled;
+    private final int maxConcurrentQueriesPerBatch;
+    private final Semaphore queryPermits;
+    private final TransactionTemplate readOnlyTransactionTemplate;
+    private final ExecutorService executorService;
+
+    @Autowired
+    public ConcurrentQueryExecutor(@Qualifier("standardTransactionManager") final PlatformTransactionManager transactionManager,
+                                   @Value("${concurrent-queries.enabled:false}") final boolean enabled,
+                                   @Value("${concurrent-queries.max-per-request:4}") final int maxConcurrentQueriesPerBatch,
+                                   @Value("${concurrent-queries.max-total:10}") final int maxConcurrentQueries) {
+        this.enabled = enabled;
+        this.maxConcurrentQueriesPerBatch = maxConcurrentQueriesPerBatch;
+        this.queryPermits = new Semaphore(maxConcurrentQueries, true);
+        this.readOnlyTransactionTemplate = new TransactionTemplate(transactionManager);
+        this.readOnlyTransactionTemplate.setReadOnly(true);
+        this.executorService = enabled ? new DelegatingSecurityContextExecutorService(Executors.newVirtualThreadPerTaskExecutor()) : null;
+        log.info("Concurrent queries {}", enabled
+            ? "enabled with at most " + maxConcurrentQueriesPerBatch + " per request and " + maxConcurrentQueries + " in total"
+            : "disabled");
+    }
+
+    /**
+     * Runs the work with a batch to submit its queries to. The work must not be called from within a transaction when
+     * concurrent queries are enabled, and must wait for every query it submits before returning.
+     */
+    public <T> T run(final Function<Batch, T> work) {
+        if (enabled) {
+            return work.apply(new ConcurrentBatch(new Semaphore(maxConcurrentQueriesPerBatch)));
+        }
+        return readOnlyTransactionTemplate.execute(status -> work.apply(new SerialBatch()));
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        if (executorService != null) {
+            executorService.shutdownNow();
+        }
+    }
+
+    public interface Batch {
+        /**
+         * Starts the query. The returned supplier blocks until the result is available and rethrows any exception
+         * the query threw.
+         */
+        <T> Supplier<T> submit(Supplier<T> query);
+    }
+
+    private static class SerialBatch implements Batch {
+        @Override
+        public <T> Supplier<T> submit(final Supplier<T> query) {
+            final var result = query.get();
+            return () -> result;
+        }
+    }
+
+    private class ConcurrentBatch implements Batch {
+        private final Semaphore permits;
+
+        private ConcurrentBatch(final Semaphore permits) {
+            this.permits = permits;
+        }
+
+        @Override
+        public <T> Supplier<T> submit(final Supplier<T> query) {
+            final var future = CompletableFuture.supplyAsync(ScopedUserContext.current().wrap(() -> {
+                permits.acquireUninterruptibly();
+                try {
+                    queryPermits.acquireUninterruptibly();
+                    try {
+                        return readOnlyTransactionTemplate.execute(status -> query.get());
+                    } finally {
+                        queryPermits.release();
+                    }
+                } finally {
+                    permits.release();
+                }
+            }), executorService);
+
+            return () -> {
+                try {
+                    return future.join();
+                } catch (CompletionException e) {
+                    if (e.getCause() instanceof RuntimeException cause) {
+                        throw cause;
+                    }
+                    throw e;
+                }
+            };
+        }
+    }
+}
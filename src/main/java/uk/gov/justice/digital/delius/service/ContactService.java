@@ -3,6 +3,8 @@ package uk.gov.justice.digital.delius.service;
 import lombok.AllArgsConstructor;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import uk.gov.justice.digital.delius.data.api.ContactSearchResults;
+import uk.gov.justice.digital.delius.jpa.filters.ContactFilter;
 import uk.gov.justice.digital.delius.jpa.standard.entity.ContactType;
 import uk.gov.justice.digital.delius.jpa.standard.entity.Event;
 import uk.gov.justice.digital.delius.jpa.standard.entity.Offender;
@@ -12,13 +14,17 @@ import uk.gov.justice.digital.delius.jpa.standard.entity.Staff;
 import uk.gov.justice.digital.delius.jpa.standard.entity.StandardReference;
 import uk.gov.justice.digital.delius.jpa.standard.entity.Team;
 import uk.gov.justice.digital.delius.jpa.standard.repository.ContactRepository;
+import uk.gov.justice.digital.delius.jpa.standard.repository.ContactSearchCursor;
+import uk.gov.justice.digital.delius.jpa.standard.repository.ContactSearchRepository;
 import uk.gov.justice.digital.delius.jpa.standard.repository.ContactTypeRepository;
+import uk.gov.justice.digital.delius.transformers.ContactTransformer;
 
 import java.time.LocalDate;
 import java.time.LocalTime;
 import java.time.format.DateTimeFormatter;
 import java.util.Map;
 import java.util.Optional;
+import java.util.stream.Collectors;
 
 import static uk.gov.justice.digital.delius.jpa.standard.entity.Contact.*;
 
@@ -35,6 +41,22 @@ public class ContactService {
     public static final String DELIUS_DATE_FORMAT = "E MMM dd yyyy"; // e.g. "Tue Nov 24 2020"
     private final ContactRepository contactRepository;
     private final ContactTypeRepository contactTypeRepository;
+    private final ReferenceDataCatalogue referenceDataCatalogue;
+    private final ContactSearchRepository contactSearchRepository;
+
+    /**
+     * @return a page of the contacts matching the filter after the cursor, with the cursor of the next page when there is one
+     */
+    @Transactional(readOnly = true)
+    public ContactSearchResults searchContacts(final ContactFilter filter, final String after, final int limit) {
+        // one more than asked for is read to tell whether there is another page
+        final var entries = contactSearchRepository.findAll(filter, ContactSearchCursor.parse(after), limit + 1);
+        final var page = entries.subList(0, Math.min(limit, entries.size()));
+        return ContactSearchResults.builder()
+            .contacts(page.stream().map(ContactTransformer::contactSearchSummaryOf).collect(Collectors.toList()))
+            .next(entries.size() > limit ? ContactSearchCursor.of(page.get(page.size() - 1)).toString() : null)
+            .build();
+    }
 
     @Transactional
     public void addContactForPOMAllocation(final PrisonOffenderManager newPrisonOffenderManager) {
@@ -139,26 +161,30 @@ public class ContactService {
     private ContactType contactTypeForPOMAllocationOf(final StandardReference allocationReason) {
         switch (allocationReason.getCodeValue()) {
             case ReferenceDataService.POM_AUTO_TRANSFER_ALLOCATION_REASON_CODE:
-                return contactTypeRepository.findByCode(PRISONER_OFFENDER_MANAGER_ALLOCATION_CONTACT_TYPE).orElseThrow();
+                return contactTypeOf(PRISONER_OFFENDER_MANAGER_ALLOCATION_CONTACT_TYPE);
             case ReferenceDataService.POM_INTERNAL_TRANSFER_ALLOCATION_REASON_CODE:
-                return contactTypeRepository.findByCode(PRISONER_OFFENDER_MANAGER_INTERNAL_ALLOCATION_CONTACT_TYPE).orElseThrow();
+                return contactTypeOf(PRISONER_OFFENDER_MANAGER_INTERNAL_ALLOCATION_CONTACT_TYPE);
             case ReferenceDataService.POM_EXTERNAL_TRANSFER_ALLOCATION_REASON_CODE:
-                return contactTypeRepository.findByCode(PRISONER_OFFENDER_MANAGER_EXTERNAL_ALLOCATION_CONTACT_TYPE).orElseThrow();
+                return contactTypeOf(PRISONER_OFFENDER_MANAGER_EXTERNAL_ALLOCATION_CONTACT_TYPE);
             default:
                 throw new RuntimeException(String.format("Don't know what sort of contact type for POM allocation reason %s", allocationReason.getCodeValue()));
         }
     }
 
     private ContactType contactTypeForResponsibleOfficerChange() {
-         return contactTypeRepository.findByCode(RESPONSIBLE_OFFICER_CHANGE_CONTACT_TYPE).orElseThrow();
+         return contactTypeOf(RESPONSIBLE_OFFICER_CHANGE_CONTACT_TYPE);
     }
 
     private ContactType contactTypeForPrisonLocationChange() {
-         return contactTypeRepository.findByCode(PRISON_LOCATION_CHANGE_CONTACT_TYPE).orElseThrow();
+         return contactTypeOf(PRISON_LOCATION_CHANGE_CONTACT_TYPE);
     }
 
     private ContactType contactTypeForCustodyAutoUpdate() {
-        return contactTypeRepository.findByCode(CUSTODY_AUTO_UPDATE_CONTACT_TYPE).orElseThrow();
+        return contactTypeOf(CUSTODY_AUTO_UPDATE_CONTACT_TYPE);
+    }
+
+    private ContactType contactTypeOf(final String code) {
+        return referenceDataCatalogue.contactType(code).or(() -> contactTypeRepository.findByCode(code)).orElseThrow();
     }
 
     private String notesForPOMAllocation(final PrisonOffenderManager newPrisonOffenderManager) {
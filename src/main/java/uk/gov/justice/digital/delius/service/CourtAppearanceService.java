@@ -2,10 +2,13 @@ package uk.gov.justice.digital.delius.service;
 
 import org.jetbrains.annotations.NotNull;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 import uk.gov.justice.digital.delius.data.api.CourtAppearance;
 import uk.gov.justice.digital.delius.data.api.CourtAppearanceBasicWrapper;
 import uk.gov.justice.digital.delius.data.api.CourtAppearanceMinimal;
+import uk.gov.justice.digital.delius.jpa.standard.repository.CourtAppearanceCursor;
 import uk.gov.justice.digital.delius.jpa.standard.repository.CourtAppearanceRepository;
 import uk.gov.justice.digital.delius.transformers.CourtAppearanceBasicTransformer;
 import uk.gov.justice.digital.delius.transformers.CourtAppearanceMinimalTransformer;
@@ -17,6 +20,7 @@ import java.util.ArrayList;
 import java.util.Comparator;
 import java.util.List;
 import java.util.Optional;
+import java.util.function.Consumer;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
@@ -66,6 +70,25 @@ public class CourtAppearanceService {
                 .toList();
     }
 
+    /**
+     * Hands each appearance on the given dates after the cursor to the action, up to limit of them, in appearance date
+     * order. The appearances are read from the database as they are handed on rather than all at once.
+     *
+     * @param toDate the last date, inclusive
+     */
+    @Transactional(readOnly = true)
+    public void forEachCourtAppearance(LocalDate fromDate, LocalDate toDate, CourtAppearanceCursor after, int limit, Consumer<? super CourtAppearanceMinimal> action) {
+        try (var entries = courtAppearanceRepository.streamEntriesByAppearanceDateBetweenAfter(
+            fromDate.atStartOfDay(),
+            toDate.plusDays(1).atStartOfDay(),
+            after.appearanceDate(),
+            after.courtAppearanceId(),
+            Limit.of(limit)
+        )) {
+            entries.map(CourtAppearanceMinimalTransformer::courtAppearanceOf).forEach(action);
+        }
+    }
+
     @NotNull
     private List<CourtAppearance> buildCourtAppearanceList(List<uk.gov.justice.digital.delius.jpa.standard.entity.CourtAppearance> courtAppearances) {
         return courtAppearances
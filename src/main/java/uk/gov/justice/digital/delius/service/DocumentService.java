@@ -3,9 +3,9 @@ package uk.gov.justice.digital.delius.service;
 import lombok.AllArgsConstructor;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
 import uk.gov.justice.digital.delius.data.api.ConvictionDocuments;
 import uk.gov.justice.digital.delius.data.api.DocumentLink;
+import uk.gov.justice.digital.delius.data.api.OffenderDocumentDetail;
 import uk.gov.justice.digital.delius.data.api.OffenderDocumentDetail.Type;
 import uk.gov.justice.digital.delius.data.api.OffenderDocuments;
 import uk.gov.justice.digital.delius.data.filters.DocumentFilter;
@@ -50,10 +50,13 @@ import uk.gov.justice.digital.delius.transformers.DocumentTransformer;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.Arrays;
-import java.util.HashSet;
 import java.util.List;
 import java.util.Optional;
+import java.util.function.Function;
+import java.util.stream.IntStream;
 
+import static java.util.stream.Collectors.groupingBy;
+import static java.util.stream.Collectors.mapping;
 import static java.util.stream.Collectors.toList;
 import static uk.gov.justice.digital.delius.helpers.FluentHelper.not;
 
@@ -78,6 +81,7 @@ public class DocumentService {
     private final PersonalCircumstanceDocumentRepository personalCircumstanceDocumentRepository;
     private final UPWAppointmentDocumentRepository upwAppointmentDocumentRepository;
     private final ContactDocumentRepository contactDocumentRepository;
+    private final ConcurrentQueryExecutor concurrentQueryExecutor;
 
 
     @NationalUserOverride
@@ -108,145 +112,118 @@ public class DocumentService {
         documentRepository.save(documentEntity);
     }
 
-    @Transactional(readOnly = true)
     public OffenderDocuments offenderDocumentsFor(Long offenderId, DocumentFilter filter) {
+        // not transactional itself, the executor decides whether the queries share a transaction or have one each
+        return concurrentQueryExecutor.run(batch -> offenderDocumentsFor(offenderId, filter, batch));
+    }
+
+    private OffenderDocuments offenderDocumentsFor(Long offenderId, DocumentFilter filter, ConcurrentQueryExecutor.Batch batch) {
+        // each document type is loaded and transformed independently so the queries can be run concurrently
+        final var eventDocuments = batch.submit(() -> convictionDocumentDetailsOf(
+            eventDocumentsFor(offenderId, filter), this::eventId, DocumentTransformer::offenderDocumentsDetailsOfEventDocuments));
+        final var cpsDocuments = batch.submit(() -> convictionDocumentDetailsOf(
+            cpsDocumentsFor(offenderId, filter), this::eventId, DocumentTransformer::offenderDocumentsDetailsOfEventDocuments));
+        final var courtReportDocuments = batch.submit(() -> convictionDocumentDetailsOf(
+            courtReportDocumentsFor(offenderId, filter), this::eventId, DocumentTransformer::offenderDocumentsDetailsOfCourtReportDocuments));
+        final var institutionReportDocuments = batch.submit(() -> convictionDocumentDetailsOf(
+            institutionReportDocumentsFor(offenderId, filter), this::eventId, DocumentTransformer::offenderDocumentsDetailsOfInstitutionReportDocuments));
+        final var approvedPremisesReferralDocuments = batch.submit(() -> convictionDocumentDetailsOf(
+            approvedPremisesReferralDocumentsFor(offenderId, filter), this::eventId, DocumentTransformer::offenderDocumentsDetailsOfApprovedPremisesReferralDocuments));
+        final var assessmentDocuments = batch.submit(() -> convictionDocumentDetailsOf(
+            assessmentDocumentsFor(offenderId, filter), this::eventId, DocumentTransformer::offenderDocumentsDetailsOfAssessmentDocuments));
+        final var caseAllocationDocuments = batch.submit(() -> convictionDocumentDetailsOf(
+            caseAllocationDocumentsFor(offenderId, filter), this::eventId, DocumentTransformer::offenderDocumentsDetailsOfCaseAllocationDocuments));
+        final var referralDocuments = batch.submit(() -> convictionDocumentDetailsOf(
+            referralDocumentsFor(offenderId, filter), this::eventId, DocumentTransformer::offenderDocumentsDetailsOfReferralDocuments));
+        final var upwAppointmentDocuments = batch.submit(() -> convictionDocumentDetailsOf(
+            upwAppointmentDocumentsFor(offenderId, filter), this::eventId, DocumentTransformer::offenderDocumentsDetailsOfUPWAppointmentDocuments));
+        final var nsiDocuments = batch.submit(() -> {
+            final var allNsiDocuments = nsiDocumentsFor(offenderId, filter);
+            return new DocumentDetails(
+                convictionDocumentDetailsOf(
+                    allNsiDocuments.stream().filter(this::isEventRelated).toList(),
+                    this::eventId, DocumentTransformer::offenderDocumentsDetailsOfNsiDocuments),
+                DocumentTransformer.offenderDocumentsDetailsOfNsiDocuments(
+                    allNsiDocuments.stream().filter(not(this::isEventRelated)).collect(toList())));
+        });
+        final var contactDocuments = batch.submit(() -> {
+            final var allContactDocuments = contactDocumentsFor(offenderId, filter);
+            return new DocumentDetails(
+                convictionDocumentDetailsOf(
+                    allContactDocuments.stream().filter(this::isEventRelated).toList(),
+                    this::eventId, DocumentTransformer::offenderDocumentsDetailsOfContactDocuments),
+                DocumentTransformer.offenderDocumentsDetailsOfContactDocuments(
+                    allContactDocuments.stream().filter(not(this::isEventRelated)).collect(toList())));
+        });
+        final var offenderRelatedDocuments = batch.submit(() -> DocumentTransformer
+            .offenderDocumentsDetailsOfOffenderDocuments(offenderRelatedDocumentsFor(offenderId, filter)));
+        final var offenderPreConsDocuments = batch.submit(() -> DocumentTransformer
+            .offenderDocumentsDetailsOfOffenderDocuments(offenderPreConsDocumentFor(offenderId, filter)));
+        final var addressAssessmentDocuments = batch.submit(() -> DocumentTransformer
+            .offenderDocumentsDetailsOfAddressAssessmentDocuments(addressAssessmentDocumentsFor(offenderId, filter)));
+        final var personalContactDocuments = batch.submit(() -> DocumentTransformer
+            .offenderDocumentsDetailsOfPersonalContactDocuments(personalContactDocumentsFor(offenderId, filter)));
+        final var personalCircumstanceDocuments = batch.submit(() -> DocumentTransformer
+            .offenderDocumentsDetailsOfPersonalCircumstanceDocuments(personalCircumstanceDocumentsFor(offenderId, filter)));
+
+        final var allConvictionDocuments = combine(
+            eventDocuments.get(),
+            cpsDocuments.get(),
+            courtReportDocuments.get(),
+            institutionReportDocuments.get(),
+            contactDocuments.get().convictionDocuments(),
+            approvedPremisesReferralDocuments.get(),
+            assessmentDocuments.get(),
+            caseAllocationDocuments.get(),
+            referralDocuments.get(),
+            nsiDocuments.get().convictionDocuments(),
+            upwAppointmentDocuments.get());
+
+        // bucket every conviction document by its event in a single pass, keeping the order within each event
+        final var documentsByEventId = allConvictionDocuments
+                .stream()
+                .collect(groupingBy(ConvictionDocumentDetail::eventId, mapping(ConvictionDocumentDetail::document, toList())));
 
-        final var eventDocuments = eventDocumentsFor(offenderId, filter);
-        final var cpsDocuments = cpsDocumentsFor(offenderId, filter);
-        final var courtReportDocuments = courtReportDocumentsFor(offenderId, filter);
-        final var institutionReportDocuments = institutionReportDocumentsFor(offenderId, filter);
-        final var approvedPremisesReferralDocuments = approvedPremisesReferralDocumentsFor(offenderId, filter);
-        final var assessmentDocuments = assessmentDocumentsFor(offenderId, filter);
-        final var caseAllocationDocuments = caseAllocationDocumentsFor(offenderId, filter);
-        final var referralDocuments = referralDocumentsFor(offenderId, filter);
-        final var allNsiDocuments = nsiDocumentsFor(offenderId, filter);
-        final var nsiEventDocuments = allNsiDocuments.stream().filter(this::isEventRelated).toList();
-        final var upwAppointmentDocuments = upwAppointmentDocumentsFor(offenderId, filter);
-        final var allContactDocuments = contactDocumentsFor(offenderId, filter);
-        final var contactEventDocuments = allContactDocuments.stream().filter(this::isEventRelated).toList();
-
-        final var setOfRelatedEventIds = new HashSet<>();
-
-        setOfRelatedEventIds.addAll(eventDocuments.stream().map(this::eventId).toList());
-        setOfRelatedEventIds.addAll(cpsDocuments.stream().map(this::eventId).toList());
-        setOfRelatedEventIds.addAll(courtReportDocuments.stream().map(this::eventId).toList());
-        setOfRelatedEventIds.addAll(institutionReportDocuments.stream().map(this::eventId).toList());
-        setOfRelatedEventIds.addAll(approvedPremisesReferralDocuments.stream().map(this::eventId).toList());
-        setOfRelatedEventIds.addAll(assessmentDocuments.stream().filter(d -> d.getAssessment().getReferral() != null).map(this::eventId).toList());
-        setOfRelatedEventIds.addAll(caseAllocationDocuments.stream().map(this::eventId).toList());
-        setOfRelatedEventIds.addAll(referralDocuments.stream().map(this::eventId).toList());
-        setOfRelatedEventIds.addAll(nsiEventDocuments.stream().map(this::eventId).toList());
-        setOfRelatedEventIds.addAll(upwAppointmentDocuments.stream().map(this::eventId).toList());
-        setOfRelatedEventIds.addAll(contactEventDocuments.stream().map(this::eventId).toList());
-
-        final var convictions = setOfRelatedEventIds
+        final var convictions = documentsByEventId
+                .entrySet()
                 .stream()
-                .map(eventId -> ConvictionDocuments
+                .map(eventDocuments -> ConvictionDocuments
                         .builder()
-                        .convictionId(String.valueOf(eventId))
-                        .documents(
-                            combine(
-                                        DocumentTransformer
-                                            .offenderDocumentsDetailsOfEventDocuments(
-                                                    eventDocuments
-                                                            .stream()
-                                                            .filter(document -> eventId(document).equals(eventId))
-                                                            .collect(toList())),
-                                        DocumentTransformer
-                                                .offenderDocumentsDetailsOfEventDocuments(
-                                                    cpsDocuments
-                                                        .stream()
-                                                        .filter(document -> eventId(document).equals(eventId))
-                                                        .collect(toList())),
-                                        DocumentTransformer
-                                                .offenderDocumentsDetailsOfCourtReportDocuments(
-                                                        courtReportDocuments
-                                                                .stream()
-                                                                .filter(document -> eventId(document).equals(eventId))
-                                                                .collect(toList())),
-                                        DocumentTransformer
-                                                .offenderDocumentsDetailsOfInstitutionReportDocuments(
-                                                        institutionReportDocuments
-                                                                .stream()
-                                                                .filter(document -> eventId(document).equals(eventId))
-                                                                .collect(toList())),
-                                        DocumentTransformer
-                                                .offenderDocumentsDetailsOfContactDocuments(
-                                                        contactEventDocuments
-                                                                .stream()
-                                                                .filter(document -> eventId(document).equals(eventId))
-                                                                .collect(toList())),
-                                        DocumentTransformer
-                                                .offenderDocumentsDetailsOfApprovedPremisesReferralDocuments(
-                                                        approvedPremisesReferralDocuments
-                                                                .stream()
-                                                                .filter(document -> eventId(document).equals(eventId))
-                                                                .collect(toList())),
-                                        DocumentTransformer
-                                                .offenderDocumentsDetailsOfAssessmentDocuments(
-                                                        assessmentDocuments
-                                                                .stream()
-                                                                .filter(d -> d.getAssessment().getReferral() != null)
-                                                                .filter(document -> eventId(document).equals(eventId))
-                                                                .collect(toList())),
-                                        DocumentTransformer
-                                                .offenderDocumentsDetailsOfCaseAllocationDocuments(
-                                                        caseAllocationDocuments
-                                                                .stream()
-                                                                .filter(document -> eventId(document).equals(eventId))
-                                                                .collect(toList())),
-                                        DocumentTransformer
-                                                .offenderDocumentsDetailsOfReferralDocuments(
-                                                        referralDocuments
-                                                                .stream()
-                                                                .filter(document -> eventId(document).equals(eventId))
-                                                                .collect(toList())),
-                                        DocumentTransformer
-                                                .offenderDocumentsDetailsOfNsiDocuments(
-                                                        nsiEventDocuments
-                                                                .stream()
-                                                                .filter(document -> eventId(document).equals(eventId))
-                                                                .collect(toList())),
-                                        DocumentTransformer
-                                                .offenderDocumentsDetailsOfUPWAppointmentDocuments(
-                                                        upwAppointmentDocuments
-                                                                .stream()
-                                                                .filter(document -> eventId(document).equals(eventId))
-                                                                .collect(toList()))
-                                        )
-                        )
+                        .convictionId(String.valueOf(eventDocuments.getKey()))
+                        .documents(eventDocuments.getValue())
                         .build())
                 .collect(toList());
         return OffenderDocuments
                 .builder()
                 .documents(
                         combine(
-                                DocumentTransformer
-                                        .offenderDocumentsDetailsOfOffenderDocuments(
-                                            offenderRelatedDocumentsFor(offenderId, filter)),
-                                DocumentTransformer
-                                .offenderDocumentsDetailsOfOffenderDocuments(
-                                        offenderPreConsDocumentFor(offenderId, filter)),
-                                DocumentTransformer
-                                        .offenderDocumentsDetailsOfAddressAssessmentDocuments(
-                                            addressAssessmentDocumentsFor(offenderId, filter)),
-                                DocumentTransformer
-                                        .offenderDocumentsDetailsOfPersonalContactDocuments(
-                                            personalContactDocumentsFor(offenderId, filter)),
-                                DocumentTransformer
-                                        .offenderDocumentsDetailsOfPersonalCircumstanceDocuments(
-                                            personalCircumstanceDocumentsFor(offenderId, filter)),
-                                DocumentTransformer
-                                        .offenderDocumentsDetailsOfContactDocuments(
-                                                allContactDocuments.stream().filter(not(this::isEventRelated)).collect(toList())),
-                                DocumentTransformer
-                                        .offenderDocumentsDetailsOfNsiDocuments(
-                                                allNsiDocuments.stream().filter(not(this::isEventRelated)).collect(toList())))
+                                offenderRelatedDocuments.get(),
+                                offenderPreConsDocuments.get(),
+                                addressAssessmentDocuments.get(),
+                                personalContactDocuments.get(),
+                                personalCircumstanceDocuments.get(),
+                                contactDocuments.get().offenderDocuments(),
+                                nsiDocuments.get().offenderDocuments())
                 )
                 .convictions(convictions)
                 .build();
     }
 
+    private static <T> List<ConvictionDocumentDetail> convictionDocumentDetailsOf(List<T> documents,
+                                                                                  Function<T, Long> eventIdOf,
+                                                                                  Function<List<T>, List<OffenderDocumentDetail>> transformer) {
+        final var details = transformer.apply(documents);
+        return IntStream.range(0, documents.size())
+            .mapToObj(index -> new ConvictionDocumentDetail(eventIdOf.apply(documents.get(index)), details.get(index)))
+            .toList();
+    }
+
+    private record ConvictionDocumentDetail(Long eventId, OffenderDocumentDetail document) {
+    }
+
+    private record DocumentDetails(List<ConvictionDocumentDetail> convictionDocuments, List<OffenderDocumentDetail> offenderDocuments) {
+    }
+
     private List<PersonalCircumstanceDocument> personalCircumstanceDocumentsFor(Long offenderId, DocumentFilter filter) {
         return filter.documentsFor(Type.PERSONAL_CIRCUMSTANCE_DOCUMENT, () -> personalCircumstanceDocumentRepository.findByOffenderId(offenderId));
     }
@@ -27,11 +27,12 @@ public class LookupSupplier {
     private final StaffRepository staffRepository;
     private final TransferReasonRepository transferReasonRepository;
     private final CurrentUserSupplier currentUserSupplier;
+    private final ReferenceDataCatalogue referenceDataCatalogue;
 
     public static final String INITIAL_ORDER_ALLOCATION = "IN1";
     public static final String TRANSFER_CASE_INITIAL_REASON = "CASE ORDER";
 
-    public LookupSupplier(OffenceRepository offenceRepository, UserRepository userRepository, StandardReferenceRepository standardReferenceRepository, CourtRepository courtRepository, ProbationAreaRepository probationAreaRepository, TeamRepository teamRepository, StaffRepository staffRepository, TransferReasonRepository transferReasonRepository, CurrentUserSupplier currentUserSupplier) {
+    public LookupSupplier(OffenceRepository offenceRepository, UserRepository userRepository, StandardReferenceRepository standardReferenceRepository, CourtRepository courtRepository, ProbationAreaRepository probationAreaRepository, TeamRepository teamRepository, StaffRepository staffRepository, TransferReasonRepository transferReasonRepository, CurrentUserSupplier currentUserSupplier, ReferenceDataCatalogue referenceDataCatalogue) {
         this.offenceRepository = offenceRepository;
         this.userRepository = userRepository;
         this.standardReferenceRepository = standardReferenceRepository;
@@ -41,10 +42,12 @@ public class LookupSupplier {
         this.staffRepository = staffRepository;
         this.transferReasonRepository = transferReasonRepository;
         this.currentUserSupplier = currentUserSupplier;
+        this.referenceDataCatalogue = referenceDataCatalogue;
     }
 
     public Function<String, Offence> offenceSupplier() {
-        return offenceCode -> offenceRepository.findByCode(offenceCode)
+        return offenceCode -> referenceDataCatalogue.offence(offenceCode)
+                .or(() -> offenceRepository.findByCode(offenceCode))
                 .orElseThrow(() -> new RuntimeException(String.format("Offence not found for %s", offenceCode)));
     }
 
@@ -54,31 +57,33 @@ public class LookupSupplier {
     }
 
     public Function<String, StandardReference> courtAppearanceOutcomeSupplier() {
-        return code -> standardReferenceRepository.findByCodeAndCodeSetName(code, COURT_APPEARANCE_OUTCOME_REF_DATASET)
+        return code -> standardReferenceOf(code, COURT_APPEARANCE_OUTCOME_REF_DATASET)
                 .orElseThrow(() -> new RuntimeException(String.format("No outcome found for %s", code)));
     }
 
     public Function<String, TransferReason> transferReasonSupplier() {
-        return code -> transferReasonRepository.findByCode(code)
+        return code -> referenceDataCatalogue.transferReason(code)
+                .or(() -> transferReasonRepository.findByCode(code))
                 .orElseThrow(() -> new RuntimeException(String.format("No transfer reason found for %s", code)));
     }
 
     public Function<String, StandardReference> orderAllocationReasonSupplier() {
-        return code -> standardReferenceRepository.findByCodeAndCodeSetName(code, ORDER_ALLOCATION_REASON_REF_DATASET)
+        return code -> standardReferenceOf(code, ORDER_ALLOCATION_REASON_REF_DATASET)
                 .orElseThrow(() -> new RuntimeException(String.format("No allocation reason found for %s", code)));
     }
 
     public Function<String, Optional<StandardReference>> custodyKeyDateTypeSupplier() {
-        return code -> standardReferenceRepository.findByCodeAndCodeSetName(code, CUSTODY_KEY_DATE_TYPE_REF_DATASET);
+        return code -> standardReferenceOf(code, CUSTODY_KEY_DATE_TYPE_REF_DATASET);
     }
 
     public Function<Long, Court> courtSupplier() {
-        return courtId -> courtRepository.findById(courtId)
+        return courtId -> referenceDataCatalogue.court(courtId)
+                .or(() -> courtRepository.findById(courtId))
                 .orElseThrow(() ->  new RuntimeException(String.format("No court found for %d", courtId)));
     }
 
     public Function<uk.gov.justice.digital.delius.data.api.OrderManager, ProbationArea> probationAreaSupplier() {
-        return orderManager -> probationAreaRepository.findById(orderManager.getProbationAreaId())
+        return orderManager -> probationAreaById(orderManager.getProbationAreaId())
                         .orElseThrow(() -> new RuntimeException(String.format("No probation area found for %s", orderManager)));
     }
     public Function<uk.gov.justice.digital.delius.data.api.OrderManager, Team> teamSupplier() {
@@ -117,7 +122,7 @@ public class LookupSupplier {
     }
 
     private String unallocatedTeamCodeForProbationArea(Long probationAreaId) {
-        return probationAreaRepository.findById(probationAreaId)
+        return probationAreaById(probationAreaId)
                 .map(probationArea -> String.format("%sUAT", probationArea.getCode())).orElseThrow(() -> new RuntimeException(String.format("No probation area found for %d", probationAreaId)));
     }
 
@@ -128,9 +133,18 @@ public class LookupSupplier {
     }
 
     public Optional<StandardReference> courtTypeByCode(String code) {
-        return standardReferenceRepository.findByCodeAndCodeSetName(code, COURT_TYPE_REF_DATASET);
+        return standardReferenceOf(code, COURT_TYPE_REF_DATASET);
     }
     public Optional<ProbationArea> probationAreaByCode(String code) {
-        return probationAreaRepository.findByCode(code);
+        return referenceDataCatalogue.probationArea(code).or(() -> probationAreaRepository.findByCode(code));
+    }
+
+    private Optional<StandardReference> standardReferenceOf(String code, String codeSetName) {
+        return referenceDataCatalogue.standardReference(codeSetName, code)
+                .or(() -> standardReferenceRepository.findByCodeAndCodeSetName(code, codeSetName));
+    }
+
+    private Optional<ProbationArea> probationAreaById(Long probationAreaId) {
+        return referenceDataCatalogue.probationArea(probationAreaId).or(() -> probationAreaRepository.findById(probationAreaId));
     }
 }
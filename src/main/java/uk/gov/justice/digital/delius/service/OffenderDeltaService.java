@@ -0,0 +1,77 @@
+package uk.gov.justice.digital.delius.service;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import uk.gov.justice.digital.delius.data.api.OffenderDeltas;
+import uk.gov.justice.digital.delius.jpa.standard.entity.OffenderDeltaConsumer;
+import uk.gov.justice.digital.delius.jpa.standard.entity.OffenderDeltaConsumerPk;
+import uk.gov.justice.digital.delius.jpa.standard.repository.OffenderDeltaConsumerRepository;
+import uk.gov.justice.digital.delius.jpa.standard.repository.OffenderDeltaCursor;
+import uk.gov.justice.digital.delius.jpa.standard.repository.OffenderRepository;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+
+/**
+ * Reads the offenders changed since a position in the feed, so consumers can fetch just those offenders again rather
+ * than sweeping the whole population, and records how far each consumer has got.
+ * <p>
+ * Update times are set when a change is made but only become visible when it commits, so a change can appear after
+ * later ones have already been read. Changes are only handed out once they are older than the settle period, which
+ * should comfortably exceed the longest Delius transaction, so the cursor never moves past one that is still to land.
+ */
+@Service
+public class OffenderDeltaService {
+    private final OffenderRepository offenderRepository;
+    private final OffenderDeltaConsumerRepository offenderDeltaConsumerRepository;
+    private final Duration settlePeriod;
+
+    public OffenderDeltaService(final OffenderRepository offenderRepository,
+                                final OffenderDeltaConsumerRepository offenderDeltaConsumerRepository,
+                                @Value("${offender-deltas.settle-period:PT1M}") final Duration settlePeriod) {
+        this.offenderRepository = offenderRepository;
+        this.offenderDeltaConsumerRepository = offenderDeltaConsumerRepository;
+        this.settlePeriod = settlePeriod;
+    }
+
+    @Transactional(readOnly = true)
+    public OffenderDeltas getDeltasAfter(final String cursor, final int limit) {
+        final var after = OffenderDeltaCursor.parse(cursor);
+        final var deltas = offenderRepository.findDeltasAfter(
+            after.dateChanged(),
+            after.offenderId(),
+            LocalDateTime.now().minus(settlePeriod),
+            Limit.of(limit));
+
+        return OffenderDeltas.builder()
+            .deltas(deltas)
+            .cursor(deltas.isEmpty() ? after.token() : OffenderDeltaCursor.of(deltas.getLast()).token())
+            .build();
+    }
+
+    /**
+     * @return the changes after the position the client's consumer last acknowledged, or from the start for a new
+     * consumer
+     */
+    @Transactional(readOnly = true)
+    public OffenderDeltas getDeltasForConsumer(final String clientId, final String consumerId, final int limit) {
+        return getDeltasAfter(offenderDeltaConsumerRepository.findById(new OffenderDeltaConsumerPk(clientId, consumerId))
+            .map(OffenderDeltaConsumer::getCursor)
+            .orElse(null), limit);
+    }
+
+    @Transactional
+    public void acknowledge(final String clientId, final String consumerId, final String cursor) {
+        // parsed only to reject anything that is not a cursor this feed handed out
+        OffenderDeltaCursor.parse(cursor);
+
+        offenderDeltaConsumerRepository.save(OffenderDeltaConsumer.builder()
+            .clientId(clientId)
+            .consumerId(consumerId)
+            .cursor(cursor)
+            .lastUpdatedDateTime(LocalDateTime.now())
+            .build());
+    }
+}
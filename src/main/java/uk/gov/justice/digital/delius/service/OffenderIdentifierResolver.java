@@ -0,0 +1,117 @@
+package uk.gov.justice.digital.delius.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import uk.gov.justice.digital.delius.jpa.standard.repository.OffenderRepository;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.List;
+import java.util.Locale;
+import java.util.Objects;
+import java.util.Optional;
+
+/**
+ * Resolves the CRN or NOMS number an offender is requested by to their offender id, reading only the id from the
+ * database and remembering it so that repeated requests for the same offender do not read it again.
+ * <p>
+ * A CRN never moves to another offender so its entry only leaves the cache when it expires or is pushed out by
+ * newer ones. NOMS numbers can be reassigned, so {@link OffenderIdentifierService} evicts the numbers it changes once
+ * the change completes; changes made directly in Delius are picked up when the entry expires.
+ */
+@Service
+public class OffenderIdentifierResolver {
+    private final OffenderRepository offenderRepository;
+    private final Cache<String, Long> offenderIdsByCrn;
+    private final Cache<String, List<Long>> offenderIdsByNomsNumber;
+    private final Timer crnTimer;
+    private final Timer nomsNumberTimer;
+
+    @Autowired
+    public OffenderIdentifierResolver(final OffenderRepository offenderRepository,
+                                      final MeterRegistry meterRegistry,
+                                      @Value("${offender-identifiers.cache.maximum-size:100000}") final long cacheMaximumSize,
+                                      @Value("${offender-identifiers.cache.time-to-live:10m}") final Duration cacheTimeToLive) {
+        this.offenderRepository = offenderRepository;
+        this.offenderIdsByCrn = cacheOf(cacheMaximumSize, cacheTimeToLive);
+        this.offenderIdsByNomsNumber = cacheOf(cacheMaximumSize, cacheTimeToLive);
+        CaffeineCacheMetrics.monitor(meterRegistry, offenderIdsByCrn, "offenderIdsByCrn");
+        CaffeineCacheMetrics.monitor(meterRegistry, offenderIdsByNomsNumber, "offenderIdsByNomsNumber");
+        crnTimer = resolveTimer(meterRegistry, "crn");
+        nomsNumberTimer = resolveTimer(meterRegistry, "nomsNumber");
+    }
+
+    public Optional<Long> offenderIdOfCrn(final String crn) {
+        if (crn == null) {
+            return Optional.empty();
+        }
+        return Optional.ofNullable(crnTimer.record(() -> offenderIdsByCrn.get(crn, key -> offenderRepository.getOffenderIdFrom(key).orElse(null))));
+    }
+
+    /**
+     * @return the ids of every offender holding the NOMS number, of which there is normally at most one
+     */
+    public List<Long> offenderIdsOfNomsNumber(final String nomsNumber) {
+        if (nomsNumber == null) {
+            return List.of();
+        }
+        return nomsNumberTimer.record(() -> {
+            final var key = nomsNumberKeyOf(nomsNumber);
+            final var cached = offenderIdsByNomsNumber.getIfPresent(key);
+            if (cached != null) {
+                return cached;
+            }
+            // an unknown number is not remembered, as it is likely to be assigned soon
+            final var offenderIds = List.copyOf(offenderRepository.findOffenderIdsByNomsNumber(key));
+            if (!offenderIds.isEmpty()) {
+                offenderIdsByNomsNumber.put(key, offenderIds);
+            }
+            return offenderIds;
+        });
+    }
+
+    /**
+     * Forgets the offenders holding the NOMS numbers, straight away and again once the current transaction completes
+     * so that a lookup made while it was in flight cannot keep holders that were never committed, or no longer are.
+     */
+    public void evictNomsNumbers(final Collection<String> nomsNumbers) {
+        final var keys = nomsNumbers.stream().filter(Objects::nonNull).map(OffenderIdentifierResolver::nomsNumberKeyOf).distinct().toList();
+        offenderIdsByNomsNumber.invalidateAll(keys);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    offenderIdsByNomsNumber.invalidateAll(keys);
+                }
+            });
+        }
+    }
+
+    private static String nomsNumberKeyOf(final String nomsNumber) {
+        return nomsNumber.toUpperCase(Locale.ROOT);
+    }
+
+    private static <V> Cache<String, V> cacheOf(final long maximumSize, final Duration timeToLive) {
+        return Caffeine.newBuilder()
+            .maximumSize(maximumSize)
+            .expireAfterWrite(timeToLive)
+            .recordStats()
+            .build();
+    }
+
+    private static Timer resolveTimer(final MeterRegistry meterRegistry, final String identifier) {
+        return Timer.builder("offender.identifier.resolve")
+            .description("Time taken to resolve an offender identifier to an offender id, whether or not it was cached")
+            .tag("identifier", identifier)
+            .publishPercentileHistogram()
+            .register(meterRegistry);
+    }
+}
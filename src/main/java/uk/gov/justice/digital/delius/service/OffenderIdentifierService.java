@@ -13,6 +13,7 @@ import uk.gov.justice.digital.delius.jpa.standard.entity.Offender;
 import uk.gov.justice.digital.delius.jpa.standard.repository.OffenderRepository;
 import uk.gov.justice.digital.delius.transformers.OffenderTransformer;
 
+import java.util.Arrays;
 import java.util.List;
 import java.util.Optional;
 import java.util.stream.Collectors;
@@ -23,14 +24,17 @@ public class OffenderIdentifierService {
     private final boolean updateNomsNumberFeatureSwitch;
     private final OffenderRepository offenderRepository;
     private final ReferenceDataService referenceDataService;
+    private final OffenderIdentifierResolver offenderIdentifierResolver;
 
     public OffenderIdentifierService(
             @Value("${features.noms.update.noms.number}") Boolean updateNomsNumberFeatureSwitch,
             OffenderRepository offenderRepository,
-            ReferenceDataService referenceDataService) {
+            ReferenceDataService referenceDataService,
+            OffenderIdentifierResolver offenderIdentifierResolver) {
         this.updateNomsNumberFeatureSwitch = updateNomsNumberFeatureSwitch;
         this.offenderRepository = offenderRepository;
         this.referenceDataService = referenceDataService;
+        this.offenderIdentifierResolver = offenderIdentifierResolver;
         log.debug("NOMIS update NOMS number feature is {}", this.updateNomsNumberFeatureSwitch ? "ON" : "OFF");
     }
 
@@ -69,6 +73,7 @@ public class OffenderIdentifierService {
         return offenders.stream().map(OffenderTransformer::idsOf).collect(Collectors.toList());
     }
     private void doUpdateNomsNumber(String nomsNumber, Offender offender) {
+        offenderIdentifierResolver.evictNomsNumbers(Arrays.asList(nomsNumber, offender.getNomsNumber()));
         offenderRepository.findAllByNomsNumber(nomsNumber).forEach(duplicateOffender -> {
             duplicateOffender.setNomsNumber(null);
             final var additionalIdentifier = AdditionalIdentifier
@@ -0,0 +1,31 @@
+package uk.gov.justice.digital.delius.service;
+
+import lombok.AllArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import uk.gov.justice.digital.delius.data.api.PrimaryIdentifiers;
+import uk.gov.justice.digital.delius.data.filters.OffenderFilter;
+import uk.gov.justice.digital.delius.jpa.filters.OffenderFilterTransformer;
+import uk.gov.justice.digital.delius.jpa.standard.repository.OffenderPrimaryIdentifiersExportRepository;
+
+import java.util.Optional;
+import java.util.function.Consumer;
+
+@Service
+@AllArgsConstructor
+public class OffenderPrimaryIdentifiersService {
+    private final OffenderPrimaryIdentifiersExportRepository offenderPrimaryIdentifiersExportRepository;
+
+    /**
+     * Hands the identifiers of each offender matching the filter to the action as they are read, in offender id order
+     * from after the given offender id, so an interrupted export can carry on from the last offender it received.
+     */
+    @Transactional(readOnly = true)
+    public void forEachOffenderPrimaryIdentifiers(
+        final OffenderFilter filter, final long afterOffenderId, final Optional<Integer> limit, final Consumer<? super PrimaryIdentifiers> action
+    ) {
+        try (final var identifiers = offenderPrimaryIdentifiersExportRepository.streamAll(OffenderFilterTransformer.fromFilter(filter), afterOffenderId, limit)) {
+            identifiers.forEach(action);
+        }
+    }
+}
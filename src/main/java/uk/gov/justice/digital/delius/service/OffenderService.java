@@ -3,6 +3,7 @@ package uk.gov.justice.digital.delius.service;
 import io.vavr.control.Either;
 import lombok.AllArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.IncorrectResultSizeDataAccessException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import uk.gov.justice.digital.delius.controller.CustodyNotFoundException;
@@ -23,20 +24,31 @@ import uk.gov.justice.digital.delius.jpa.standard.repository.OffenderRepository.
 import uk.gov.justice.digital.delius.transformers.OffenderTransformer;
 import uk.gov.justice.digital.delius.transformers.ReleaseTransformer;
 
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Objects;
 import java.util.Optional;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
 
+import static java.util.function.Function.identity;
 import static java.util.function.Predicate.not;
+import static java.util.stream.Collectors.toMap;
 
 @Service
 @Slf4j
 @AllArgsConstructor
 public class OffenderService {
+    // comfortably inside Oracle's limit of 1000 expressions in an IN list
+    static final int CRN_BATCH_SIZE = 100;
 
     private final OffenderRepository offenderRepository;
     private final OffenderAccessLimitationRepository offenderAccessLimitationRepository;
     private final ConvictionService convictionService;
 
     private final OffenderDocumentRepository documentRepository;
+    private final OffenderIdentifierResolver offenderIdentifierResolver;
 
     @Transactional(readOnly = true)
     public Optional<OffenderDetail> getOffenderByCrn(String crn) {
@@ -62,28 +74,77 @@ public class OffenderService {
         );
     }
 
+    /**
+     * Summaries of all the offenders found, in the order of the CRNs given. The CRNs are looked up in batches of
+     * {@value #CRN_BATCH_SIZE} and each batch takes the same handful of queries however many offenders it holds.
+     */
+    @Transactional(readOnly = true)
+    public List<OffenderDetailSummary> getOffenderSummariesByCrns(Collection<String> crns) {
+        final var summariesByCrn = new HashMap<String, OffenderDetailSummary>();
+
+        batchesOf(crns).forEach(batch -> {
+            final var offenders = offenderRepository.findAllByCrnIn(batch);
+            if (offenders.isEmpty()) {
+                return;
+            }
+            final var offenderIds = offenders.stream().map(Offender::getOffenderId).toList();
+            offenderRepository.fetchDisabilities(offenderIds);
+            offenderRepository.fetchProvisions(offenderIds);
+            final var preconsByOffenderId = documentRepository
+                .findAllByOffenderIdInAndDocumentTypeAndSoftDeletedIsFalse(offenderIds, DocumentType.PREVIOUS_CONVICTION)
+                .stream()
+                .collect(toMap(OffenderDocument::getOffenderId, identity(), (first, second) -> first));
+
+            offenders.forEach(o -> summariesByCrn.put(o.getCrn(), OffenderTransformer.offenderSummaryOf(o, preconsByOffenderId.get(o.getOffenderId()))));
+        });
+
+        return crns.stream().distinct().map(summariesByCrn::get).filter(Objects::nonNull).toList();
+    }
+
     @Transactional(readOnly = true)
     public Optional<OffenderAccessLimitations> getOffenderAccessLimitationsByCrn(String crn) {
         return offenderAccessLimitationRepository.findByCrn(crn);
     }
 
+    @Transactional(readOnly = true)
+    public List<OffenderAccessLimitations> getOffenderAccessLimitationsByCrns(Collection<String> crns) {
+        return batchesOf(crns)
+            .flatMap(batch -> offenderAccessLimitationRepository.findAllByCrnIn(batch).stream())
+            .toList();
+    }
+
+    private static Stream<List<String>> batchesOf(Collection<String> crns) {
+        final var distinctCrns = crns.stream().filter(Objects::nonNull).distinct().toList();
+        return IntStream.iterate(0, start -> start < distinctCrns.size(), start -> start + CRN_BATCH_SIZE)
+            .mapToObj(start -> distinctCrns.subList(start, Math.min(start + CRN_BATCH_SIZE, distinctCrns.size())));
+    }
+
     public Optional<String> crnOf(String nomsNumber) {
         return offenderRepository.findByNomsNumber(nomsNumber).map(Offender::getCrn);
     }
 
     public Optional<Long> offenderIdOfCrn(String crn) {
-        return offenderRepository.findByCrn(crn).map(Offender::getOffenderId);
+        return offenderIdentifierResolver.offenderIdOfCrn(crn);
     }
 
     public Optional<Long> offenderIdOfNomsNumber(String nomsNumber) {
-        return offenderRepository.findByNomsNumber(nomsNumber).map(Offender::getOffenderId);
+        final var offenderIds = offenderIdentifierResolver.offenderIdsOfNomsNumber(nomsNumber);
+        if (offenderIds.size() > 1) {
+            throw new IncorrectResultSizeDataAccessException(1, offenderIds.size());
+        }
+        return offenderIds.stream().findFirst();
     }
 
     public Either<DuplicateOffenderException, Optional<Long>> singleOffenderIdOfNomsNumber(String nomsNumber) {
-        return tryToGetSingleOffenderByNomsNumber(nomsNumber).fold(
-            Either::left,
-            offender -> Either.right(offender.map(Offender::getOffenderId))
-        );
+        final var offenderIds = offenderIdentifierResolver.offenderIdsOfNomsNumber(nomsNumber);
+        if (offenderIds.size() > 1) {
+            return Either.left(new DuplicateOffenderException(String.format(
+                "Expect a single offender with noms number %s but foud %d",
+                nomsNumber,
+                offenderIds.size()
+            )));
+        }
+        return Either.right(offenderIds.stream().findFirst());
     }
 
     public Either<DuplicateOffenderException, Optional<Long>> mostLikelyOffenderIdOfNomsNumber(String nomsNumber) {
@@ -0,0 +1,230 @@
+package uk.gov.justice.digital.delius.service;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.TimeGauge;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import uk.gov.justice.digital.delius.data.api.LocalDeliveryUnit;
+import uk.gov.justice.digital.delius.jpa.standard.entity.ContactType;
+import uk.gov.justice.digital.delius.jpa.standard.entity.Court;
+import uk.gov.justice.digital.delius.jpa.standard.entity.Offence;
+import uk.gov.justice.digital.delius.jpa.standard.entity.ProbationArea;
+import uk.gov.justice.digital.delius.jpa.standard.entity.StandardReference;
+import uk.gov.justice.digital.delius.jpa.standard.entity.TransferReason;
+import uk.gov.justice.digital.delius.jpa.standard.repository.ContactTypeRepository;
+import uk.gov.justice.digital.delius.jpa.standard.repository.CourtRepository;
+import uk.gov.justice.digital.delius.jpa.standard.repository.OffenceRepository;
+import uk.gov.justice.digital.delius.jpa.standard.repository.ProbationAreaRepository;
+import uk.gov.justice.digital.delius.jpa.standard.repository.StandardReferenceRepository;
+import uk.gov.justice.digital.delius.jpa.standard.repository.TransferReasonRepository;
+import uk.gov.justice.digital.delius.transformers.ProbationAreaTransformer;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Function;
+import java.util.function.ToDoubleFunction;
+
+import static java.util.function.Function.identity;
+import static java.util.stream.Collectors.collectingAndThen;
+import static java.util.stream.Collectors.groupingBy;
+import static java.util.stream.Collectors.toMap;
+
+/**
+ * An in memory copy of the reference data tables that are looked up on almost every write: offences, courts,
+ * transfer reasons, standard reference code sets, contact types and probation areas.
+ * <p>
+ * When reference-data.catalogue.enabled is set the tables are loaded shortly after startup and reloaded every
+ * reference-data.catalogue.refresh-interval, or on demand via {@link #refresh()}. Each load builds a complete new
+ * snapshot which then replaces the old one in a single step, so readers never wait for a load and never see a
+ * partly loaded catalogue.
+ * <p>
+ * Every lookup returns empty when the catalogue is disabled, not yet loaded or does not hold the entry, in which case
+ * the caller should fall back to its repository. Entities handed out are detached, so they are fine to reference
+ * from new entities but any lazy association that was not initialised when loading must not be touched.
+ */
+@Component
+@Slf4j
+public class ReferenceDataCatalogue {
+    private final boolean enabled;
+    private final TransactionTemplate readOnlyTransactionTemplate;
+    private final OffenceRepository offenceRepository;
+    private final CourtRepository courtRepository;
+    private final TransferReasonRepository transferReasonRepository;
+    private final StandardReferenceRepository standardReferenceRepository;
+    private final ContactTypeRepository contactTypeRepository;
+    private final ProbationAreaRepository probationAreaRepository;
+    private final AtomicReference<Snapshot> snapshot = new AtomicReference<>();
+    // a lock rather than synchronized, so a virtual thread waiting on the database while loading does not pin its carrier
+    private final ReentrantLock refreshLock = new ReentrantLock();
+
+    public ReferenceDataCatalogue(@Value("${reference-data.catalogue.enabled:false}") final boolean enabled,
+                                  @Qualifier("standardTransactionManager") final PlatformTransactionManager transactionManager,
+                                  final OffenceRepository offenceRepository,
+                                  final CourtRepository courtRepository,
+                                  final TransferReasonRepository transferReasonRepository,
+                                  final StandardReferenceRepository standardReferenceRepository,
+                                  final ContactTypeRepository contactTypeRepository,
+                                  final ProbationAreaRepository probationAreaRepository,
+                                  final MeterRegistry meterRegistry) {
+        this.enabled = enabled;
+        this.readOnlyTransactionTemplate = new TransactionTemplate(transactionManager);
+        this.readOnlyTransactionTemplate.setReadOnly(true);
+        this.offenceRepository = offenceRepository;
+        this.courtRepository = courtRepository;
+        this.transferReasonRepository = transferReasonRepository;
+        this.standardReferenceRepository = standardReferenceRepository;
+        this.contactTypeRepository = contactTypeRepository;
+        this.probationAreaRepository = probationAreaRepository;
+
+        TimeGauge.builder("reference.data.catalogue.age", snapshot, TimeUnit.SECONDS,
+                current -> Optional.ofNullable(current.get()).map(loaded -> (double) Duration.between(loaded.loadedAt(), Instant.now()).toSeconds()).orElse(Double.NaN))
+            .description("Time since the reference data catalogue was last loaded")
+            .register(meterRegistry);
+        registerSizeGauge(meterRegistry, "offences", loaded -> loaded.offencesByCode().size());
+        registerSizeGauge(meterRegistry, "courts", loaded -> loaded.courtsById().size());
+        registerSizeGauge(meterRegistry, "transferReasons", loaded -> loaded.transferReasonsByCode().size());
+        registerSizeGauge(meterRegistry, "standardReferences", loaded -> loaded.standardReferencesByCodeSet().values().stream().mapToInt(Map::size).sum());
+        registerSizeGauge(meterRegistry, "contactTypes", loaded -> loaded.contactTypesByCode().size());
+        registerSizeGauge(meterRegistry, "probationAreas", loaded -> loaded.probationAreas().size());
+    }
+
+    @Scheduled(initialDelayString = "${reference-data.catalogue.initial-delay:PT5S}", fixedDelayString = "${reference-data.catalogue.refresh-interval:PT1H}")
+    public void scheduledRefresh() {
+        if (enabled) {
+            try {
+                refresh();
+            } catch (RuntimeException e) {
+                log.error("Unable to refresh the reference data catalogue, keeping the previous snapshot", e);
+            }
+        }
+    }
+
+    /**
+     * Loads a new snapshot and swaps it in. Lookups carry on being served from the previous snapshot while loading.
+     */
+    public void refresh() {
+        if (!enabled) {
+            return;
+        }
+        refreshLock.lock();
+        try {
+            final var started = System.currentTimeMillis();
+            final var loaded = readOnlyTransactionTemplate.execute(status -> load());
+            snapshot.set(loaded);
+            log.info("Reference data catalogue loaded in {}ms", System.currentTimeMillis() - started);
+        } finally {
+            refreshLock.unlock();
+        }
+    }
+
+    public Optional<Offence> offence(String code) {
+        return lookup(Snapshot::offencesByCode, code);
+    }
+
+    public Optional<Court> court(Long courtId) {
+        return lookup(Snapshot::courtsById, courtId);
+    }
+
+    public Optional<TransferReason> transferReason(String code) {
+        return lookup(Snapshot::transferReasonsByCode, code);
+    }
+
+    public Optional<StandardReference> standardReference(String codeSetName, String code) {
+        return lookup(Snapshot::standardReferencesByCodeSet, codeSetName).flatMap(codeSet -> Optional.ofNullable(code).map(codeSet::get));
+    }
+
+    public Optional<ContactType> contactType(String code) {
+        return lookup(Snapshot::contactTypesByCode, code);
+    }
+
+    public Optional<ProbationArea> probationArea(Long probationAreaId) {
+        return lookup(Snapshot::probationAreasById, probationAreaId).map(CataloguedProbationArea::probationArea);
+    }
+
+    public Optional<ProbationArea> probationArea(String code) {
+        return lookup(Snapshot::probationAreasByCode, code).map(CataloguedProbationArea::probationArea);
+    }
+
+    /**
+     * @return every probation area, or empty when the catalogue is not loaded
+     */
+    public Optional<List<CataloguedProbationArea>> probationAreas() {
+        return current().map(Snapshot::probationAreas);
+    }
+
+    private Optional<Snapshot> current() {
+        return Optional.ofNullable(snapshot.get());
+    }
+
+    private <K, V> Optional<V> lookup(Function<Snapshot, Map<K, V>> index, K key) {
+        return Optional.ofNullable(key).flatMap(present -> current().map(loaded -> index.apply(loaded).get(present)));
+    }
+
+    private Snapshot load() {
+        final var probationAreas = probationAreaRepository.findAll()
+            .stream()
+            // transform while still attached so the teams and local delivery units are read now rather than lazily
+            .map(probationArea -> new CataloguedProbationArea(
+                probationArea,
+                ProbationAreaTransformer.probationAreaOf(probationArea),
+                ReferenceDataService.localDeliveryUnitsOf(probationArea)))
+            .toList();
+
+        return new Snapshot(
+            Instant.now(),
+            indexBy(offenceRepository.findAll(), Offence::getCode),
+            indexBy(courtRepository.findAll(), Court::getCourtId),
+            indexBy(transferReasonRepository.findAll(), TransferReason::getCode),
+            standardReferenceRepository.findAllWithCodeSet()
+                .stream()
+                .filter(standardReference -> standardReference.getCodeValue() != null)
+                .collect(collectingAndThen(groupingBy(
+                    standardReference -> standardReference.getReferenceDataMaster().getCodeSetName(),
+                    collectingAndThen(toMap(StandardReference::getCodeValue, identity(), (first, second) -> first), Map::copyOf)), Map::copyOf)),
+            indexBy(contactTypeRepository.findAll(), ContactType::getCode),
+            probationAreas,
+            indexBy(probationAreas, catalogued -> catalogued.probationArea().getProbationAreaId()),
+            indexBy(probationAreas, catalogued -> catalogued.probationArea().getCode()));
+    }
+
+    private static <K, V> Map<K, V> indexBy(List<V> values, Function<V, K> keyOf) {
+        return values.stream()
+            .filter(value -> keyOf.apply(value) != null)
+            .collect(collectingAndThen(toMap(keyOf, identity(), (first, second) -> first), Map::copyOf));
+    }
+
+    private void registerSizeGauge(MeterRegistry meterRegistry, String table, ToDoubleFunction<Snapshot> sizeOf) {
+        Gauge.builder("reference.data.catalogue.size", snapshot, current -> Optional.ofNullable(current.get()).map(sizeOf::applyAsDouble).orElse(0D))
+            .description("Number of entries held by the reference data catalogue")
+            .tag("table", table)
+            .register(meterRegistry);
+    }
+
+    public record CataloguedProbationArea(ProbationArea probationArea,
+                                          uk.gov.justice.digital.delius.data.api.ProbationArea view,
+                                          List<LocalDeliveryUnit> localDeliveryUnits) {
+    }
+
+    private record Snapshot(Instant loadedAt,
+                            Map<String, Offence> offencesByCode,
+                            Map<Long, Court> courtsById,
+                            Map<String, TransferReason> transferReasonsByCode,
+                            Map<String, Map<String, StandardReference>> standardReferencesByCodeSet,
+                            Map<String, ContactType> contactTypesByCode,
+                            List<CataloguedProbationArea> probationAreas,
+                            Map<Long, CataloguedProbationArea> probationAreasById,
+                            Map<String, CataloguedProbationArea> probationAreasByCode) {
+    }
+}
@@ -14,6 +14,7 @@ import uk.gov.justice.digital.delius.jpa.standard.entity.StandardReference;
 import uk.gov.justice.digital.delius.jpa.standard.repository.ProbationAreaRepository;
 import uk.gov.justice.digital.delius.jpa.standard.repository.ReferenceDataMasterRepository;
 import uk.gov.justice.digital.delius.jpa.standard.repository.StandardReferenceRepository;
+import uk.gov.justice.digital.delius.service.ReferenceDataCatalogue.CataloguedProbationArea;
 import uk.gov.justice.digital.delius.transformers.ProbationAreaTransformer;
 
 import java.util.List;
@@ -35,18 +36,25 @@ public class ReferenceDataService {
     private static final String FORMER_NOMS_NUMBER_CODE = "XNOMS";
     private final ProbationAreaRepository probationAreaRepository;
     private final StandardReferenceRepository standardReferenceRepository;
+    private final ReferenceDataCatalogue referenceDataCatalogue;
 
 
     @Autowired
-    public ReferenceDataService(ProbationAreaRepository probationAreaRepository, StandardReferenceRepository standardReferenceRepository, ReferenceDataMasterRepository referenceDataMasterRepository) {
+    public ReferenceDataService(ProbationAreaRepository probationAreaRepository, StandardReferenceRepository standardReferenceRepository, ReferenceDataMasterRepository referenceDataMasterRepository, ReferenceDataCatalogue referenceDataCatalogue) {
         this.probationAreaRepository = probationAreaRepository;
         this.standardReferenceRepository = standardReferenceRepository;
+        this.referenceDataCatalogue = referenceDataCatalogue;
     }
 
     public List<ProbationArea> getProbationAreasForCode(String code, boolean restrictActive) {
         ProbationAreaFilter probationAreaFilter = ProbationAreaFilter.builder().probationAreaCodes(Optional.of(List.of(code))).restrictActive(restrictActive).build();
 
-        return ProbationAreaTransformer.probationAreasOf(probationAreaRepository.findAll(probationAreaFilter));
+        return referenceDataCatalogue.probationAreas()
+                .map(probationAreas -> probationAreas.stream()
+                        .filter(area -> probationAreaFilter.matches(area.probationArea()))
+                        .map(CataloguedProbationArea::view)
+                        .toList())
+                .orElseGet(() -> ProbationAreaTransformer.probationAreasOf(probationAreaRepository.findAll(probationAreaFilter)));
     }
 
     public Page<KeyValue> getProbationAreasCodes(boolean restrictActive, boolean excludeEstablishments) {
@@ -55,18 +63,23 @@ public class ReferenceDataService {
                 .restrictActive(restrictActive)
                 .excludeEstablishments(excludeEstablishments).build();
 
-        return probationAreaRepository.findAll(filter).stream()
+        return referenceDataCatalogue.probationAreas()
+                .map(probationAreas -> probationAreas.stream().map(CataloguedProbationArea::probationArea).filter(filter::matches).toList())
+                .orElseGet(() -> probationAreaRepository.findAll(filter))
+                .stream()
                 .map(area -> new KeyValue(area.getCode(), area.getDescription()))
                 .collect(collectingAndThen(toList(), PageImpl::new));
     }
 
 
     public StandardReference duplicateNomsNumberAdditionalIdentifier() {
-        return standardReferenceRepository.findByCodeAndCodeSetName(DUPLICATE_NOMS_NUMBER_CODE, ADDITIONAL_IDENTIFIER_DATASET).orElseThrow();
+        return referenceDataCatalogue.standardReference(ADDITIONAL_IDENTIFIER_DATASET, DUPLICATE_NOMS_NUMBER_CODE)
+                .or(() -> standardReferenceRepository.findByCodeAndCodeSetName(DUPLICATE_NOMS_NUMBER_CODE, ADDITIONAL_IDENTIFIER_DATASET)).orElseThrow();
     }
 
     public StandardReference formerNomsNumberAdditionalIdentifier() {
-        return standardReferenceRepository.findByCodeAndCodeSetName(FORMER_NOMS_NUMBER_CODE, ADDITIONAL_IDENTIFIER_DATASET).orElseThrow();
+        return referenceDataCatalogue.standardReference(ADDITIONAL_IDENTIFIER_DATASET, FORMER_NOMS_NUMBER_CODE)
+                .or(() -> standardReferenceRepository.findByCodeAndCodeSetName(FORMER_NOMS_NUMBER_CODE, ADDITIONAL_IDENTIFIER_DATASET)).orElseThrow();
     }
 
     public List<ProbationAreaWithLocalDeliveryUnits> getProbationAreasAndLocalDeliveryUnits(boolean restrictActive) {
@@ -74,25 +87,27 @@ public class ReferenceDataService {
                 .builder()
                 .restrictActive(restrictActive)
                 .excludeEstablishments(true).build();
-        final var probationAreas =  probationAreaRepository.findAll(filter);
-
-        return probationAreas.stream().map(
-                pa -> {
-                    final var ldus = pa.getBoroughs().stream()
-                            // LDUs are represented as districts in the delius schema
-                            .flatMap(borough -> borough.getDistricts().stream())
-                            .filter(this::getPossibleActiveLdus) // current (non-historic) only
-                            .map(ldu -> LocalDeliveryUnit.builder().localDeliveryUnitId(ldu.getDistrictId()).code(ldu.getCode()).description(ldu.getDescription()).build())
-                            .toList();
-
-                    return ProbationAreaWithLocalDeliveryUnits.builder().code(pa.getCode()).description(pa.getDescription()).localDeliveryUnits(ldus).build();
-
+        final var probationAreas = referenceDataCatalogue.probationAreas()
+                .map(catalogued -> catalogued.stream()
+                        .filter(area -> filter.matches(area.probationArea()))
+                        .map(area -> ProbationAreaWithLocalDeliveryUnits.builder().code(area.probationArea().getCode()).description(area.probationArea().getDescription()).localDeliveryUnits(area.localDeliveryUnits()).build())
+                        .toList());
+
+        return probationAreas.orElseGet(() -> probationAreaRepository.findAll(filter).stream().map(
+                pa -> ProbationAreaWithLocalDeliveryUnits.builder().code(pa.getCode()).description(pa.getDescription()).localDeliveryUnits(localDeliveryUnitsOf(pa)).build()
+        ).toList());
+    }
 
-                }
-        ).toList();
+    static List<LocalDeliveryUnit> localDeliveryUnitsOf(uk.gov.justice.digital.delius.jpa.standard.entity.ProbationArea probationArea) {
+        return probationArea.getBoroughs().stream()
+                // LDUs are represented as districts in the delius schema
+                .flatMap(borough -> borough.getDistricts().stream())
+                .filter(ReferenceDataService::getPossibleActiveLdus) // current (non-historic) only
+                .map(ldu -> LocalDeliveryUnit.builder().localDeliveryUnitId(ldu.getDistrictId()).code(ldu.getCode()).description(ldu.getDescription()).build())
+                .toList();
     }
 
-    private boolean getPossibleActiveLdus(District district) {
+    private static boolean getPossibleActiveLdus(District district) {
         return ynToBoolean(district.getSelectable()) || district.getCode().endsWith("UAT") || district.getCode().endsWith("UNA") || district.getCode().endsWith("IAV");
     }
 
@@ -13,12 +13,12 @@ import uk.gov.justice.digital.delius.jpa.standard.entity.Custody;
 import uk.gov.justice.digital.delius.jpa.standard.entity.Disposal;
 import uk.gov.justice.digital.delius.jpa.standard.entity.Event;
 import uk.gov.justice.digital.delius.jpa.standard.repository.EventRepository;
-import uk.gov.justice.digital.delius.jpa.standard.repository.OffenderRepository;
 import uk.gov.justice.digital.delius.transformers.ContactTransformer;
 import uk.gov.justice.digital.delius.transformers.RequirementTransformer;
 
 import java.util.Collection;
 import java.util.Optional;
+import java.util.function.BiFunction;
 
 import static java.lang.String.format;
 import static java.util.Comparator.comparing;
@@ -32,7 +32,7 @@ import static java.util.stream.Collectors.toList;
 public class RequirementService {
 
     @Autowired
-    private OffenderRepository offenderRepository;
+    private OffenderIdentifierResolver offenderIdentifierResolver;
     @Autowired
     private EventRepository eventRepository;
 
@@ -52,11 +52,11 @@ public class RequirementService {
     }
 
     public ConvictionRequirements getRequirementsByConvictionId(String crn, Long convictionId, boolean includeInactive, boolean includeDeleted) {
-        return getConvictionRequirements(getEvent(crn, convictionId), includeInactive, includeDeleted);
+        return getConvictionRequirements(getEvent(crn, convictionId, eventRepository::findWithRequirementsByEventIdAndOffenderId), includeInactive, includeDeleted);
     }
 
     public PssRequirements getPssRequirementsByConvictionId(String crn, Long convictionId) {
-        var pssRequirements = Optional.of(getEvent(crn, convictionId))
+        var pssRequirements = Optional.of(getEvent(crn, convictionId, eventRepository::findWithPssRequirementsByEventIdAndOffenderId))
                 .map(Event::getDisposal)
                 .map(Disposal::getCustody)
                 .map(Custody::getPssRequirements)
@@ -69,22 +69,21 @@ public class RequirementService {
         return new PssRequirements(pssRequirements);
     }
 
-    private Event getEvent(String crn, Long convictionId) {
+    // each caller passes the finder that fetches just what it reads from the conviction, so that only the one
+    // conviction is read however many the offender has
+    private Event getEvent(String crn, Long convictionId, BiFunction<Long, Long, Optional<Event>> finder) {
         var offenderId = getOffenderId(crn);
-        return eventRepository.findByOffenderId(offenderId)
-                .stream()
-                .filter(event -> convictionId.equals(event.getEventId()))
-                .findAny()
+        return finder.apply(convictionId, offenderId)
                 .orElseThrow(() ->  new NotFoundException(format("Conviction with convictionId '%s' not found", convictionId)));
     }
 
     private Long getOffenderId(String crn) {
-        return offenderRepository.getOffenderIdFrom(crn)
+        return offenderIdentifierResolver.offenderIdOfCrn(crn)
                 .orElseThrow(() -> new NotFoundException(format("Offender with CRN '%s' not found", crn)));
     }
 
     public LicenceConditions getLicenceConditionsByConvictionId(String crn, Long convictionId) {
-        var conditionsList = Optional.of(getEvent(crn, convictionId))
+        var conditionsList = Optional.of(getEvent(crn, convictionId, eventRepository::findWithLicenceConditionsByEventIdAndOffenderId))
                 .map(Event::getDisposal)
                 .map(Disposal::getLicenceConditions)
                 .stream()
@@ -8,6 +8,7 @@ import uk.gov.justice.digital.delius.jpa.standard.repository.OffenderRepository;
 import uk.gov.justice.digital.delius.jpa.standard.repository.StandardReferenceRepository;
 
 import jakarta.transaction.Transactional;
+import java.util.Collections;
 
 @Service
 public class SmokeTestHelperService {
@@ -15,16 +16,18 @@ public class SmokeTestHelperService {
     private final ConvictionService convictionService;
     private final StandardReferenceRepository standardReferenceRepository;
     private final InstitutionRepository institutionRepository;
+    private final OffenderIdentifierResolver offenderIdentifierResolver;
 
     private static final String CUSTODY_STATUS_DATASET = "THROUGHCARE STATUS";
     private static final String SENTENCED_IN_CUSTODY = "A";
 
 
-    public SmokeTestHelperService(OffenderRepository offenderRepository, ConvictionService convictionService, StandardReferenceRepository standardReferenceRepository, InstitutionRepository institutionRepository) {
+    public SmokeTestHelperService(OffenderRepository offenderRepository, ConvictionService convictionService, StandardReferenceRepository standardReferenceRepository, InstitutionRepository institutionRepository, OffenderIdentifierResolver offenderIdentifierResolver) {
         this.offenderRepository = offenderRepository;
         this.convictionService = convictionService;
         this.standardReferenceRepository = standardReferenceRepository;
         this.institutionRepository = institutionRepository;
+        this.offenderIdentifierResolver = offenderIdentifierResolver;
     }
 
     @Transactional
@@ -38,6 +41,7 @@ public class SmokeTestHelperService {
         custody.getKeyDates().clear();
         custody.setInstitution(institutionRepository.findByCode("UNKNOW").orElseThrow());
         custody.setCustodialStatus(standardReferenceRepository.findByCodeAndCodeSetName(SENTENCED_IN_CUSTODY, CUSTODY_STATUS_DATASET).orElseThrow());
+        offenderIdentifierResolver.evictNomsNumbers(Collections.singletonList(offender.getNomsNumber()));
         offender.setNomsNumber(null);
     }
 
@@ -16,6 +16,8 @@ import uk.gov.justice.digital.delius.ldap.repository.entity.NDeliusUser;
 import uk.gov.justice.digital.delius.transformers.StaffTransformer;
 
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
 import java.util.function.Function;
@@ -62,20 +64,18 @@ public class StaffService {
     public List<StaffDetails> getStaffDetailsByUsernames(final Set<String> usernames) {
         final var capitalisedUsernames = usernames.stream().map(String::toUpperCase).collect(Collectors.toSet());
 
-        return staffRepository.findByUsernames(capitalisedUsernames)
+        return addFieldsFromLdapToAll(staffRepository.findByUsernames(capitalisedUsernames)
             .stream()
             .map(StaffTransformer::staffDetailsOf)
-            .map(addFieldsFromLdap())
-            .toList();
+            .toList());
     }
 
     @Transactional(readOnly = true)
     public List<StaffDetails> getStaffDetailsByStaffCodes(final Set<String> staffCodes) {
-        return staffRepository.findByOfficerCodeIn(staffCodes)
+        return addFieldsFromLdapToAll(staffRepository.findByOfficerCodeIn(staffCodes)
             .stream()
             .map(StaffTransformer::staffDetailsOf)
-            .map(addFieldsFromLdap())
-            .toList();
+            .toList());
     }
 
     @Transactional
@@ -104,19 +104,32 @@ public class StaffService {
             .map(Borough::getHeadsOfProbationDeliveryUnit)
             .map(list -> list.stream()
                 .map(StaffTransformer::staffDetailsOf)
-                .map(addFieldsFromLdap())
-                .toList());
+                .toList())
+            .map(this::addFieldsFromLdapToAll);
     }
 
     private Function<StaffDetails, StaffDetails> addFieldsFromLdap() {
-        return staffDetails -> {
-            var nDeliusUser = ldapRepository.getDeliusUserNoRoles(staffDetails.getUsername());
-            return staffDetails
-                .toBuilder()
-                .email(nDeliusUser.map(NDeliusUser::getMail).orElse(null))
-                .telephoneNumber(nDeliusUser.map(NDeliusUser::getTelephoneNumber).orElse(null))
-                .build();
-        };
+        return staffDetails -> addFieldsFromLdap(staffDetails, ldapRepository.getDeliusUserNoRoles(staffDetails.getUsername()));
+    }
+
+    private List<StaffDetails> addFieldsFromLdapToAll(final List<StaffDetails> staffDetailsList) {
+        final var usernames = staffDetailsList.stream()
+            .map(StaffDetails::getUsername)
+            .filter(Objects::nonNull)
+            .collect(Collectors.toSet());
+        final Map<String, NDeliusUser> nDeliusUsers = usernames.isEmpty() ? Map.of() : ldapRepository.getDeliusUsersNoRoles(usernames);
+
+        return staffDetailsList.stream()
+            .map(staffDetails -> addFieldsFromLdap(staffDetails, Optional.ofNullable(staffDetails.getUsername()).map(nDeliusUsers::get)))
+            .toList();
+    }
+
+    private StaffDetails addFieldsFromLdap(final StaffDetails staffDetails, final Optional<NDeliusUser> nDeliusUser) {
+        return staffDetails
+            .toBuilder()
+            .email(nDeliusUser.map(NDeliusUser::getMail).orElse(null))
+            .telephoneNumber(nDeliusUser.map(NDeliusUser::getTelephoneNumber).orElse(null))
+            .build();
     }
 
     private Staff createStaffInArea(final String surname, final String forename, final ProbationArea probationArea) {
@@ -142,10 +155,9 @@ public class StaffService {
     }
 
     public List<StaffDetails> findStaffByTeam(Long teamId) {
-        return staffRepository.findStaffByTeamId(teamId)
+        return addFieldsFromLdapToAll(staffRepository.findStaffByTeamId(teamId)
             .stream()
             .map(StaffTransformer::staffDetailsOnlyOf)
-            .map(addFieldsFromLdap())
-            .toList();
+            .toList());
     }
 }
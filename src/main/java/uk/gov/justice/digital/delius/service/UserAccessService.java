@@ -9,8 +9,11 @@ import uk.gov.justice.digital.delius.helpers.CurrentUserSupplier;
 import uk.gov.justice.digital.delius.jpa.standard.entity.OffenderAccessLimitations;
 
 import java.util.Collection;
+import java.util.Optional;
 import java.util.Set;
 
+import static java.util.stream.Collectors.toSet;
+
 @Service
 public class UserAccessService {
     private final UserService userService;
@@ -33,27 +36,61 @@ public class UserAccessService {
 
     public void checkExclusionsAndRestrictions(String crn, Collection<? extends GrantedAuthority> authorities) {
         final var username = currentUserSupplier.username();
-        if (username.isPresent() && shouldCheckExclusion(authorities)) {
+        final var checkExclusion = username.isPresent() && shouldCheckExclusion(authorities);
+        final var checkRestriction = shouldCheckRestriction(authorities);
+
+        if (!checkExclusion && !checkRestriction) {
+            return;
+        }
 
-            final var excludedException = offenderService.getOffenderAccessLimitationsByCrn(crn)
-                .map(o -> userService.accessLimitationOf(username.get(), o))
-                .filter(AccessLimitation::isUserExcluded)
-                .map(accessLimitation -> new AccessDeniedException(accessLimitation.getExclusionMessage()));
+        // resolve the offender's limitations and the user's access to them once, then apply both checks
+        final var maybeAccessLimitation = offenderService.getOffenderAccessLimitationsByCrn(crn)
+            .map(o -> accessLimitationOf(username, o));
 
-            if (excludedException.isPresent())
-                throw excludedException.get();
+        if (maybeAccessLimitation.isEmpty()) {
+            return;
         }
 
-        if (shouldCheckRestriction(authorities)) {
-            final var restrictedException = offenderService.getOffenderAccessLimitationsByCrn(crn)
-                .map(o -> username.map(u -> userService.accessLimitationOf(u, o))
-                                         .orElseGet(() -> buildAnonymousUserAccessLimitation(o)))
-                .filter(AccessLimitation::isUserRestricted)
-                .map(accessLimitation -> new AccessDeniedException(accessLimitation.getRestrictionMessage()));
+        final var accessLimitation = maybeAccessLimitation.get();
 
-            if (restrictedException.isPresent())
-                throw restrictedException.get();
+        if (checkExclusion && accessLimitation.isUserExcluded()) {
+            throw new AccessDeniedException(accessLimitation.getExclusionMessage());
         }
+
+        if (checkRestriction && accessLimitation.isUserRestricted()) {
+            throw new AccessDeniedException(accessLimitation.getRestrictionMessage());
+        }
+    }
+
+    /**
+     * Finds which of the given offenders the current user is not allowed to see, applying the same exclusion and
+     * restriction rules as {@link #checkExclusionsAndRestrictions} but with the limitations of every offender looked
+     * up together.
+     *
+     * @return the CRNs of the offenders that would be denied
+     */
+    public Set<String> inaccessibleCrnsOf(Collection<String> crns, Collection<? extends GrantedAuthority> authorities) {
+        final var username = currentUserSupplier.username();
+        final var checkExclusion = username.isPresent() && shouldCheckExclusion(authorities);
+        final var checkRestriction = shouldCheckRestriction(authorities);
+
+        if (!checkExclusion && !checkRestriction) {
+            return Set.of();
+        }
+
+        return offenderService.getOffenderAccessLimitationsByCrns(crns)
+            .stream()
+            .filter(o -> {
+                final var accessLimitation = accessLimitationOf(username, o);
+                return (checkExclusion && accessLimitation.isUserExcluded()) || (checkRestriction && accessLimitation.isUserRestricted());
+            })
+            .map(OffenderAccessLimitations::getCrn)
+            .collect(toSet());
+    }
+
+    private AccessLimitation accessLimitationOf(Optional<String> username, OffenderAccessLimitations offender) {
+        return username.map(u -> userService.accessLimitationOf(u, offender))
+            .orElseGet(() -> buildAnonymousUserAccessLimitation(offender));
     }
 
     private boolean shouldCheckExclusion(Collection<? extends GrantedAuthority> authorities) {
@@ -1,18 +1,33 @@
 package uk.gov.justice.digital.delius.service;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
 import com.microsoft.applicationinsights.TelemetryClient;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import uk.gov.justice.digital.delius.data.api.AccessLimitation;
 import uk.gov.justice.digital.delius.data.api.UserDetails;
 import uk.gov.justice.digital.delius.data.api.UserRole;
+import uk.gov.justice.digital.delius.jpa.national.entity.Exclusion;
+import uk.gov.justice.digital.delius.jpa.national.entity.Restriction;
+import uk.gov.justice.digital.delius.jpa.national.entity.User;
 import uk.gov.justice.digital.delius.jpa.standard.entity.OffenderAccessLimitations;
 import uk.gov.justice.digital.delius.ldap.repository.LdapRepository;
 import uk.gov.justice.digital.delius.service.wrapper.UserRepositoryWrapper;
 
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Locale;
 import java.util.Optional;
+import java.util.function.Function;
 
 import static java.util.stream.Collectors.toList;
 
@@ -21,11 +36,23 @@ import static java.util.stream.Collectors.toList;
 public class UserService {
     private final UserRepositoryWrapper userRepositoryWrapper;
     private final LdapRepository ldapRepository;
+    private final Cache<String, UserAccessLimitations> userAccessLimitationsCache;
 
     @Autowired
-    public UserService(final UserRepositoryWrapper userRepositoryWrapper, final LdapRepository ldapRepository, final TelemetryClient telemetryClient) {
+    public UserService(final UserRepositoryWrapper userRepositoryWrapper,
+                       final LdapRepository ldapRepository,
+                       final TelemetryClient telemetryClient,
+                       final MeterRegistry meterRegistry,
+                       @Value("${user-access.cache.maximum-size:10000}") final long cacheMaximumSize,
+                       @Value("${user-access.cache.time-to-live:60s}") final Duration cacheTimeToLive) {
         this.userRepositoryWrapper = userRepositoryWrapper;
         this.ldapRepository = ldapRepository;
+        this.userAccessLimitationsCache = Caffeine.newBuilder()
+            .maximumSize(cacheMaximumSize)
+            .expireAfterWrite(cacheTimeToLive)
+            .recordStats()
+            .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, userAccessLimitationsCache, "userAccessLimitations");
     }
 
     @Transactional(readOnly = true)
@@ -33,7 +60,7 @@ public class UserService {
         final var accessLimitationBuilder = AccessLimitation.builder();
 
         if (offenderDetail.getCurrentExclusion() || offenderDetail.getCurrentRestriction()) {
-            final var user = userRepositoryWrapper.getUser(subject);
+            final var user = userAccessLimitationsOf(subject);
 
             if (offenderDetail.getCurrentExclusion()) {
                 final var userExcluded = user.isExcludedFrom(offenderDetail.getOffenderId());
@@ -71,4 +98,86 @@ public class UserService {
                         .build();
         });
     }
+
+    public void evictUserAccessLimitations(final String username) {
+        userAccessLimitationsCache.invalidate(cacheKeyOf(username));
+    }
+
+    private UserAccessLimitations userAccessLimitationsOf(final String subject) {
+        return userAccessLimitationsCache.get(cacheKeyOf(subject), key -> UserAccessLimitations.of(userRepositoryWrapper.getUser(subject)));
+    }
+
+    private static String cacheKeyOf(final String username) {
+        return username.toLowerCase(Locale.ROOT);
+    }
+
+    /**
+     * Snapshot of a user's exclusions and restrictions, held as offender ids sorted for binary search alongside the
+     * latest end time for each offender (null meaning open ended) so that whether an entry is still active is decided
+     * at the time of the check rather than when the snapshot was taken.
+     */
+    static final class UserAccessLimitations {
+        private final long[] excludedOffenderIds;
+        private final LocalDateTime[] exclusionEndTimes;
+        private final long[] restrictedOffenderIds;
+        private final LocalDateTime[] restrictionEndTimes;
+
+        private UserAccessLimitations(final long[] excludedOffenderIds, final LocalDateTime[] exclusionEndTimes,
+                                      final long[] restrictedOffenderIds, final LocalDateTime[] restrictionEndTimes) {
+            this.excludedOffenderIds = excludedOffenderIds;
+            this.exclusionEndTimes = exclusionEndTimes;
+            this.restrictedOffenderIds = restrictedOffenderIds;
+            this.restrictionEndTimes = restrictionEndTimes;
+        }
+
+        static UserAccessLimitations of(final User user) {
+            final var exclusions = indexOf(user.getExclusions(), Exclusion::getOffenderId, Exclusion::getExclusionEnd);
+            final var restrictions = indexOf(user.getRestrictions(), Restriction::getOffenderId, Restriction::getRestrictionEnd);
+            return new UserAccessLimitations(exclusions.offenderIds, exclusions.endTimes, restrictions.offenderIds, restrictions.endTimes);
+        }
+
+        boolean isExcludedFrom(final Long offenderId) {
+            return isActive(excludedOffenderIds, exclusionEndTimes, offenderId);
+        }
+
+        boolean isRestrictedUserFor(final Long offenderId) {
+            return isActive(restrictedOffenderIds, restrictionEndTimes, offenderId);
+        }
+
+        private static boolean isActive(final long[] offenderIds, final LocalDateTime[] endTimes, final Long offenderId) {
+            if (offenderId == null) {
+                return false;
+            }
+            final var index = Arrays.binarySearch(offenderIds, offenderId);
+            return index >= 0 && (endTimes[index] == null || endTimes[index].isAfter(LocalDateTime.now()));
+        }
+
+        private static <T> Index indexOf(final List<T> entries, final Function<T, Long> offenderIdOf, final Function<T, LocalDateTime> endTimeOf) {
+            final var sorted = Optional.ofNullable(entries).orElse(List.of()).stream()
+                .filter(entry -> offenderIdOf.apply(entry) != null)
+                .sorted(Comparator.comparing(offenderIdOf))
+                .toList();
+
+            final var offenderIds = new long[sorted.size()];
+            final var endTimes = new LocalDateTime[sorted.size()];
+            var size = 0;
+            for (final var entry : sorted) {
+                final long offenderId = offenderIdOf.apply(entry);
+                final var endTime = endTimeOf.apply(entry);
+                if (size > 0 && offenderIds[size - 1] == offenderId) {
+                    // keep whichever entry for the offender lasts longest
+                    final var current = endTimes[size - 1];
+                    endTimes[size - 1] = (current == null || endTime == null) ? null : (endTime.isAfter(current) ? endTime : current);
+                } else {
+                    offenderIds[size] = offenderId;
+                    endTimes[size] = endTime;
+                    size++;
+                }
+            }
+            return new Index(Arrays.copyOf(offenderIds, size), Arrays.copyOf(endTimes, size));
+        }
+
+        private record Index(long[] offenderIds, LocalDateTime[] endTimes) {
+        }
+    }
 }
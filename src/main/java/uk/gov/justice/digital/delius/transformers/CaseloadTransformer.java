@@ -2,10 +2,18 @@ package uk.gov.justice.digital.delius.transformers;
 
 import lombok.val;
 import uk.gov.justice.digital.delius.data.api.Caseload;
+import uk.gov.justice.digital.delius.data.api.CaseloadAllocation;
+import uk.gov.justice.digital.delius.data.api.KeyValue;
 import uk.gov.justice.digital.delius.data.api.ManagedEventId;
 import uk.gov.justice.digital.delius.data.api.ManagedOffenderCrn;
+import uk.gov.justice.digital.delius.data.api.StaffHuman;
+import uk.gov.justice.digital.delius.data.api.Team;
+import uk.gov.justice.digital.delius.jpa.standard.repository.CaseloadCursor;
+import uk.gov.justice.digital.delius.jpa.standard.repository.CaseloadEntry;
 
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 import static java.util.Collections.emptySet;
@@ -15,42 +23,68 @@ import static uk.gov.justice.digital.delius.data.api.CaseloadRole.OFFENDER_MANAG
 import static uk.gov.justice.digital.delius.data.api.CaseloadRole.ORDER_SUPERVISOR;
 
 public class CaseloadTransformer {
-    public static Caseload caseloadOf(final List<uk.gov.justice.digital.delius.jpa.standard.entity.Caseload> caseload) {
-        val groupedCaseload = caseload.stream().collect(groupingBy(entity -> entity.getRoleCode()));
+    /**
+     * Builds the caseload from joined caseload entries. The same staff and teams repeat across the entries, so each
+     * is only transformed once and then shared.
+     */
+    public static Caseload caseloadOf(final List<CaseloadEntry> entries) {
+        final Map<Long, StaffHuman> staff = new HashMap<>();
+        final Map<Long, Team> teams = new HashMap<>();
+        val groupedCaseload = entries.stream().collect(groupingBy(CaseloadEntry::roleCode));
         return Caseload.builder()
             .managedOffenders(Optional.ofNullable(groupedCaseload.get(OFFENDER_MANAGER.getRoleCode()))
                 .map(managedOffenders -> managedOffenders.stream()
-                    .map(CaseloadTransformer::managedOffenderCrnOf)
+                    .map(entry -> ManagedOffenderCrn.builder()
+                        .offenderCrn(entry.crn())
+                        .allocationDate(entry.allocationDate())
+                        .staff(staff.computeIfAbsent(entry.staffId(), id -> staffOf(entry)))
+                        .staffIdentifier(entry.staffId())
+                        .team(teams.computeIfAbsent(entry.teamId(), id -> teamOf(entry)))
+                        .teamIdentifier(entry.teamId())
+                        .build())
                     .collect(toSet()))
                 .orElse(emptySet()))
             .supervisedOrders(Optional.ofNullable(groupedCaseload.get(ORDER_SUPERVISOR.getRoleCode()))
                 .map(supervisedOrders -> supervisedOrders.stream()
-                    .map(CaseloadTransformer::managedEventIdOf)
+                    .map(entry -> ManagedEventId.builder()
+                        .offenderCrn(entry.crn())
+                        .eventId(entry.eventId())
+                        .allocationDate(entry.allocationDate())
+                        .staff(staff.computeIfAbsent(entry.staffId(), id -> staffOf(entry)))
+                        .staffIdentifier(entry.staffId())
+                        .team(teams.computeIfAbsent(entry.teamId(), id -> teamOf(entry)))
+                        .teamIdentifier(entry.teamId())
+                        .build())
                     .collect(toSet()))
                 .orElse(emptySet()))
             .build();
     }
 
-    public static ManagedOffenderCrn managedOffenderCrnOf(final uk.gov.justice.digital.delius.jpa.standard.entity.Caseload caseload) {
-        return ManagedOffenderCrn.builder()
-            .offenderCrn(caseload.getCrn())
-            .allocationDate(caseload.getAllocationDate())
-            .staff(StaffTransformer.staffOf(caseload.getStaff()))
-            .staffIdentifier(caseload.getStaff().getStaffId())
-            .team(TeamTransformer.teamOf(caseload.getTeam()))
-            .teamIdentifier(caseload.getTeam().getTeamId())
+    public static CaseloadAllocation caseloadAllocationOf(final CaseloadEntry entry) {
+        return CaseloadAllocation.builder()
+            .cursor(CaseloadCursor.of(entry).toString())
+            .roleCode(entry.roleCode())
+            .offenderCrn(entry.crn())
+            .eventId(entry.eventId())
+            .allocationDate(entry.allocationDate())
+            .staffIdentifier(entry.staffId())
+            .staff(staffOf(entry))
             .build();
     }
 
-    public static ManagedEventId managedEventIdOf(final uk.gov.justice.digital.delius.jpa.standard.entity.Caseload caseload) {
-        return ManagedEventId.builder()
-            .offenderCrn(caseload.getCrn())
-            .eventId(caseload.getEventId())
-            .allocationDate(caseload.getAllocationDate())
-            .staff(StaffTransformer.staffOf(caseload.getStaff()))
-            .staffIdentifier(caseload.getStaff().getStaffId())
-            .team(TeamTransformer.teamOf(caseload.getTeam()))
-            .teamIdentifier(caseload.getTeam().getTeamId())
+    private static StaffHuman staffOf(final CaseloadEntry entry) {
+        return StaffHuman.builder()
+            .forenames(StaffTransformer.combinedMiddleNamesOf(entry.staffForename(), entry.staffForename2()))
+            .surname(entry.staffSurname())
+            .code(entry.staffCode())
             .build();
     }
+
+    private static Team teamOf(final CaseloadEntry entry) {
+        return TeamTransformer.teamOf(entry.teamCode(), entry.teamDescription(), entry.teamTelephone(), entry.teamEmailAddress(),
+            KeyValue.builder().code(entry.boroughCode()).description(entry.boroughDescription()).build(),
+            KeyValue.builder().code(entry.districtCode()).description(entry.districtDescription()).build(),
+            KeyValue.builder().code(entry.localDeliveryUnitCode()).description(entry.localDeliveryUnitDescription()).build(),
+            entry.teamStartDate(), entry.teamEndDate());
+    }
 }
@@ -6,6 +6,7 @@ import uk.gov.justice.digital.delius.data.api.AvailableContactOutcomeTypes;
 import uk.gov.justice.digital.delius.data.api.ContactOutcomeTypeDetail;
 import uk.gov.justice.digital.delius.data.api.ContactRarActivity;
 import uk.gov.justice.digital.delius.data.api.Contact;
+import uk.gov.justice.digital.delius.data.api.ContactSearchSummary;
 import uk.gov.justice.digital.delius.data.api.ContactSummary;
 import uk.gov.justice.digital.delius.data.api.Enforcement;
 import uk.gov.justice.digital.delius.data.api.EnforcementAction;
@@ -30,6 +31,7 @@ import uk.gov.justice.digital.delius.jpa.standard.entity.Staff;
 import uk.gov.justice.digital.delius.jpa.standard.entity.StandardReference;
 import uk.gov.justice.digital.delius.jpa.standard.entity.Team;
 import uk.gov.justice.digital.delius.jpa.standard.entity.User;
+import uk.gov.justice.digital.delius.jpa.standard.repository.ContactSearchEntry;
 import uk.gov.justice.digital.delius.utils.DateConverter;
 
 import java.time.LocalTime;
@@ -68,6 +70,38 @@ public class ContactTransformer {
             .build();
     }
 
+    public static ContactSearchSummary contactSearchSummaryOf(ContactSearchEntry entry) {
+        return ContactSearchSummary.builder()
+            .contactId(entry.contactId())
+            .convictionId(entry.eventId())
+            .contactDate(entry.contactDate())
+            .contactStartTime(entry.contactStartTime())
+            .contactEndTime(entry.contactEndTime())
+            .type(KeyValue.builder().code(entry.typeCode()).description(entry.typeDescription()).build())
+            .outcome(Optional.ofNullable(entry.outcomeCode())
+                .map(code -> KeyValue.builder().code(code).description(entry.outcomeDescription()).build())
+                .orElse(null))
+            .attended(ynToBoolean(entry.attended()))
+            .complied(ynToBoolean(entry.complied()))
+            .sensitive(ynToBoolean(entry.sensitive()))
+            .rarActivity(ynToBoolean(entry.rarActivity()))
+            .description(entry.description())
+            .provider(Optional.ofNullable(entry.providerCode())
+                .map(code -> KeyValue.builder().code(code).description(entry.providerDescription()).build())
+                .orElse(null))
+            .team(Optional.ofNullable(entry.teamCode())
+                .map(code -> KeyValue.builder().code(code).description(entry.teamDescription()).build())
+                .orElse(null))
+            .staff(Optional.ofNullable(entry.staffCode())
+                .map(code -> StaffHuman.builder()
+                    .code(code)
+                    .forenames(combinedForenamesOf(entry.staffForename(), entry.staffForename2()))
+                    .surname(entry.staffSurname())
+                    .build())
+                .orElse(null))
+            .build();
+    }
+
     public static List<Contact> contactsOf(List<uk.gov.justice.digital.delius.jpa.standard.entity.Contact> contacts) {
         return contacts.stream()
                 .sorted(comparing(uk.gov.justice.digital.delius.jpa.standard.entity.Contact::getCreatedDateTime))
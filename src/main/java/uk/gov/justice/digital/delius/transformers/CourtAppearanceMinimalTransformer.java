@@ -1,6 +1,11 @@
 package uk.gov.justice.digital.delius.transformers;
 
 import uk.gov.justice.digital.delius.data.api.CourtAppearanceMinimal;
+import uk.gov.justice.digital.delius.data.api.KeyValue;
+import uk.gov.justice.digital.delius.jpa.standard.repository.CourtAppearanceCursor;
+import uk.gov.justice.digital.delius.jpa.standard.repository.CourtAppearanceEntry;
+
+import java.util.Optional;
 
 public class CourtAppearanceMinimalTransformer {
 
@@ -14,4 +19,18 @@ public class CourtAppearanceMinimalTransformer {
             .appearanceType(CourtAppearanceBasicTransformer.appearanceTypeOf(courtAppearance.getAppearanceType()))
             .build();
     }
+
+    public static CourtAppearanceMinimal courtAppearanceOf(CourtAppearanceEntry entry) {
+        return CourtAppearanceMinimal.builder()
+            .cursor(CourtAppearanceCursor.of(entry).toString())
+            .offenderId(entry.offenderId())
+            .courtAppearanceId(entry.courtAppearanceId())
+            .appearanceDate(entry.appearanceDate())
+            .courtCode(entry.courtCode())
+            .courtName(entry.courtName())
+            .appearanceType(Optional.ofNullable(entry.appearanceTypeCode())
+                .map(code -> KeyValue.builder().code(code).description(entry.appearanceTypeDescription()).build())
+                .orElse(null))
+            .build();
+    }
 }
@@ -6,19 +6,31 @@ import uk.gov.justice.digital.delius.jpa.standard.entity.Borough;
 import uk.gov.justice.digital.delius.jpa.standard.entity.District;
 import uk.gov.justice.digital.delius.jpa.standard.entity.LocalDeliveryUnit;
 
+import java.time.LocalDate;
+
 public class TeamTransformer {
     public static Team teamOf(uk.gov.justice.digital.delius.jpa.standard.entity.Team team) {
-        return Team.builder().code(team.getCode()).description(team.getDescription())
-                .telephone(team.getTelephone())
-                .emailAddress(team.getEmailAddress())
-                .borough(keyValueOf(team.getDistrict().getBorough()))
-                .district(keyValueOf(team.getDistrict()))
+        return teamOf(team.getCode(), team.getDescription(), team.getTelephone(), team.getEmailAddress(),
+                keyValueOf(team.getDistrict().getBorough()),
+                keyValueOf(team.getDistrict()),
+                keyValueOf(team.getLocalDeliveryUnit()),
+                team.getStartDate(), team.getEndDate());
+    }
+
+    static Team teamOf(String code, String description, String telephone, String emailAddress,
+                       KeyValue borough, KeyValue district, KeyValue localDeliveryUnit,
+                       LocalDate startDate, LocalDate endDate) {
+        return Team.builder().code(code).description(description)
+                .telephone(telephone)
+                .emailAddress(emailAddress)
+                .borough(borough)
+                .district(district)
                 // Delius exposes districts as local delivery units.
-                .localDeliveryUnit(keyValueOf(team.getDistrict()))
+                .localDeliveryUnit(district)
                 // Delius repurposes LDUs to represent a logical grouping of teams which it describes as "team types"
-                .teamType(keyValueOf(team.getLocalDeliveryUnit()))
-                .startDate(team.getStartDate())
-                .endDate(team.getEndDate())
+                .teamType(localDeliveryUnit)
+                .startDate(startDate)
+                .endDate(endDate)
                 .build();
     }
 
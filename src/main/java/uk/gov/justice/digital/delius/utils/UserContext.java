@@ -1,18 +1,13 @@
 package uk.gov.justice.digital.delius.utils;
 
 import org.springframework.stereotype.Component;
+import uk.gov.justice.digital.delius.helpers.ScopedUserContext;
 
 
 @Component
 public class UserContext {
 
-    private static final ThreadLocal<String> authToken = new ThreadLocal<>();
-
     public static String getAuthToken() {
-        return authToken.get();
-    }
-
-    static void setAuthToken(final String aToken) {
-        authToken.set(aToken);
+        return ScopedUserContext.current().authToken().orElse(null);
     }
 }
@@ -10,6 +10,7 @@ import jakarta.servlet.http.HttpServletRequest;
 import org.springframework.core.annotation.Order;
 import org.springframework.http.HttpHeaders;
 import org.springframework.stereotype.Component;
+import uk.gov.justice.digital.delius.helpers.ScopedUserContext;
 
 import java.io.IOException;
 
@@ -25,9 +26,10 @@ public class UserContextFilter implements Filter {
 
         final String authToken = httpServletRequest.getHeader(HttpHeaders.AUTHORIZATION);
 
-        UserContext.setAuthToken(authToken);
-
-        filterChain.doFilter(httpServletRequest, servletResponse);
+        // everything bound to the user context during the request, such as legacy JWT claims, is dropped when it ends
+        try (final var ignored = ScopedUserContext.current().withAuthToken(authToken).open()) {
+            filterChain.doFilter(httpServletRequest, servletResponse);
+        }
     }
 
     @Override
@@ -0,0 +1,9 @@
+create table OFFENDER_DELTA_CONSUMER
+(
+    CLIENT_ID             VARCHAR2(100) not null,
+    CONSUMER_ID           VARCHAR2(100) not null,
+    DELTA_CURSOR          VARCHAR2(200) not null,
+    LAST_UPDATED_DATETIME TIMESTAMP     not null,
+    primary key (CLIENT_ID, CONSUMER_ID)
+)
+;
@@ -6,6 +6,8 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
 import org.springframework.http.HttpStatus;
 import uk.gov.justice.digital.delius.controller.advice.SecureControllerAdvice;
 import uk.gov.justice.digital.delius.data.api.Attendances;
@@ -78,4 +80,30 @@ public class AttendanceResourceTest {
         verify(attendanceService).getContactsForEvent(SOME_OFFENDER_ID, SOME_EVENT_ID, today);
         verifyNoMoreInteractions(attendanceService, offenderService);
     }
+
+    @Test
+    public void whenGetAttendancesWithPageSize_thenReadOnlyThatPage() {
+        final Contact contact = AttendanceServiceTest.getContactEntity(SOME_CONTACT_ID_1, LocalDate.of(2020, Month.FEBRUARY, 29), null, null);
+        final LocalDate today = LocalDate.now();
+        final PageRequest pageRequest = PageRequest.of(2, 10, Sort.by("contactDate", "contactId"));
+
+        when(offenderService.offenderIdOfCrn(SOME_CRN)).thenReturn(Optional.of(SOME_OFFENDER_ID));
+        when(attendanceService.getContactsForEvent(SOME_OFFENDER_ID, SOME_EVENT_ID, today, pageRequest))
+            .thenReturn(List.of(contact));
+
+        final Attendances actual = given()
+            .queryParam("page", 2)
+            .queryParam("pageSize", 10)
+            .when()
+            .get(FILTER_PATH)
+            .then()
+            .statusCode(HttpStatus.OK.value())
+            .extract()
+            .body()
+            .as(Attendances.class);
+
+        assertThat(actual.getAttendances()).hasSize(1);
+        verify(attendanceService).getContactsForEvent(SOME_OFFENDER_ID, SOME_EVENT_ID, today, pageRequest);
+        verifyNoMoreInteractions(attendanceService);
+    }
 }
@@ -26,8 +26,7 @@ public class CurrentUserSupplierTest {
     @BeforeEach
     public void before() {
         currentUserSupplier = new CurrentUserSupplier(securityUserContext);
-        CurrentUserSupplier.unsetClaims();
-        CurrentUserSupplier.unsetNationalUserOverride();
+        ScopedUserContext.clear();
     }
 
     @Test
@@ -83,9 +82,9 @@ public class CurrentUserSupplierTest {
         lenient().when(securityUserContext.isSecure()).thenReturn(false);
         CurrentUserSupplier.setClaims(new DefaultClaims(Map.of(Jwt.UID, "testy.test")));
 
-        CurrentUserSupplier.setNationalUserOverride();
-
-        assertThat(currentUserSupplier.username()).contains("NationalUser");
+        try (final var ignored = CurrentUserSupplier.overrideWithNationalUser()) {
+            assertThat(currentUserSupplier.username()).contains("NationalUser");
+        }
     }
 
     @Test
@@ -93,9 +92,9 @@ public class CurrentUserSupplierTest {
         lenient().when(securityUserContext.isSecure()).thenReturn(false);
 
         CurrentUserSupplier.unsetClaims();
-        CurrentUserSupplier.setNationalUserOverride();
-
-        assertThat(currentUserSupplier.username()).get().isEqualTo("NationalUser");
+        try (final var ignored = CurrentUserSupplier.overrideWithNationalUser()) {
+            assertThat(currentUserSupplier.username()).get().isEqualTo("NationalUser");
+        }
     }
 
     @Test
@@ -104,9 +103,9 @@ public class CurrentUserSupplierTest {
         lenient().when(securityUserContext.isClientOnly()).thenReturn(false);
         lenient().when(securityUserContext.getCurrentUsername()).thenReturn(Optional.of("testy.test"));
 
-        CurrentUserSupplier.setNationalUserOverride();
-
-        assertThat(currentUserSupplier.username()).contains("NationalUser");
+        try (final var ignored = CurrentUserSupplier.overrideWithNationalUser()) {
+            assertThat(currentUserSupplier.username()).contains("NationalUser");
+        }
     }
 
     @Test
@@ -114,8 +113,24 @@ public class CurrentUserSupplierTest {
         lenient().when(securityUserContext.isSecure()).thenReturn(true);
         lenient().when(securityUserContext.isClientOnly()).thenReturn(true);
 
-        CurrentUserSupplier.setNationalUserOverride();
+        try (final var ignored = CurrentUserSupplier.overrideWithNationalUser()) {
+            assertThat(currentUserSupplier.username()).contains("NationalUser");
+        }
+    }
 
-        assertThat(currentUserSupplier.username()).contains("NationalUser");
+    @Test
+    public void willRestoreTheUserWhenNationalOverrideEnds() {
+        when(securityUserContext.isSecure()).thenReturn(false);
+        CurrentUserSupplier.setClaims(new DefaultClaims(Map.of(Jwt.UID, "testy.test")));
+
+        try (final var ignored = CurrentUserSupplier.overrideWithNationalUser()) {
+            try (final var nested = CurrentUserSupplier.overrideWithNationalUser()) {
+                assertThat(currentUserSupplier.username()).contains("NationalUser");
+            }
+            // the inner override ending must not end the outer one
+            assertThat(currentUserSupplier.username()).contains("NationalUser");
+        }
+
+        assertThat(currentUserSupplier.username()).contains("testy.test");
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,54 @@
+package uk.gov.justice.digital.delius.helpers;
+
+import io.jsonwebtoken.impl.DefaultClaims;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class ScopedUserContextTest {
+    @BeforeEach
+    public void before() {
+        ScopedUserContext.clear();
+    }
+
+    @Test
+    public void nothingIsLeftOnTheThreadOnceTheOutermostScopeCloses() {
+        try (final var ignored = ScopedUserContext.current().withAuthToken("token").open()) {
+            CurrentUserSupplier.setClaims(new DefaultClaims(Map.of("uid", "testy.test")));
+            assertThat(ScopedUserContext.current().authToken()).contains("token");
+            assertThat(ScopedUserContext.current().claims()).isPresent();
+        }
+
+        assertThat(ScopedUserContext.current().authToken()).isEmpty();
+        assertThat(ScopedUserContext.current().claims()).isEmpty();
+    }
+
+    @Test
+    public void closingANestedScopeRestoresTheEnclosingContext() {
+        try (final var outer = ScopedUserContext.current().withAuthToken("outer").open()) {
+            try (final var inner = ScopedUserContext.current().withAuthToken("inner").withNationalUserOverride(true).open()) {
+                assertThat(ScopedUserContext.current().authToken()).contains("inner");
+                assertThat(ScopedUserContext.current().nationalUserOverride()).isTrue();
+            }
+            assertThat(ScopedUserContext.current().authToken()).contains("outer");
+            assertThat(ScopedUserContext.current().nationalUserOverride()).isFalse();
+        }
+    }
+
+    @Test
+    public void wrappedWorkCarriesTheContextOntoAnotherThread() {
+        try (final var executor = Executors.newVirtualThreadPerTaskExecutor();
+             final var ignored = ScopedUserContext.current().withNationalUserOverride(true).open()) {
+            final var wrapped = ScopedUserContext.current().wrap(() -> ScopedUserContext.current().nationalUserOverride());
+            final var unwrapped = CompletableFuture.supplyAsync(() -> ScopedUserContext.current().nationalUserOverride(), executor);
+
+            assertThat(CompletableFuture.supplyAsync(wrapped, executor).join()).isTrue();
+            assertThat(unwrapped.join()).isFalse();
+        }
+    }
+}
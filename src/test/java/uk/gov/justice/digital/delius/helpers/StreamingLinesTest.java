@@ -0,0 +1,65 @@
+package uk.gov.justice.digital.delius.helpers;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class StreamingLinesTest {
+    @Test
+    void itemsAreWrittenAsOneJsonDocumentPerLine() throws IOException {
+        final var body = StreamingLines.<Map<String, String>>ndjsonOf(new ObjectMapper().writer(),
+            items -> List.of(Map.of("crn", "X320741"), Map.of("crn", "X320811")).forEach(items));
+
+        final var outputStream = new ByteArrayOutputStream();
+        body.writeTo(outputStream);
+
+        assertThat(outputStream.toString()).isEqualTo("{\"crn\":\"X320741\"}\n{\"crn\":\"X320811\"}\n");
+    }
+
+    @Test
+    void textStartsWithTheHeader() throws IOException {
+        final var body = StreamingLines.<String>textOf("crn", crn -> crn.toUpperCase(),
+            items -> List.of("x320741", "x320811").forEach(items));
+
+        final var outputStream = new ByteArrayOutputStream();
+        body.writeTo(outputStream);
+
+        assertThat(outputStream.toString()).isEqualTo("crn\nX320741\nX320811\n");
+    }
+
+    @Test
+    void theCallersContextIsBoundWhileTheBodyIsWritten() throws IOException {
+        final StringBuilder seen = new StringBuilder();
+        final StreamingResponseBody body;
+        try (final var ignored = ScopedUserContext.current().withAuthToken("token").open()) {
+            body = StreamingLines.<String>textOf(null, line -> line,
+                items -> seen.append(ScopedUserContext.current().authToken().orElse("none")));
+        }
+
+        body.writeTo(new ByteArrayOutputStream());
+
+        assertThat(seen).hasToString("token");
+        assertThat(ScopedUserContext.current().authToken()).isEmpty();
+    }
+
+    @Test
+    void writeFailuresAreRethrownAsTheyHappened() {
+        final var body = StreamingLines.<String>textOf(null, line -> line, items -> items.accept("X320741"));
+
+        assertThatThrownBy(() -> body.writeTo(new OutputStream() {
+            @Override
+            public void write(int b) throws IOException {
+                throw new IOException("client went away");
+            }
+        })).isInstanceOf(IOException.class).hasMessage("client went away");
+    }
+}
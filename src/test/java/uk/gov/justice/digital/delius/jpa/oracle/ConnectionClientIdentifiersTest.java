@@ -0,0 +1,147 @@
+package uk.gov.justice.digital.delius.jpa.oracle;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class ConnectionClientIdentifiersTest {
+    // counts the calls that reach the database, standing in for the round trips made to Oracle
+    private static final AtomicInteger setCalls = new AtomicInteger();
+    private static final AtomicInteger clearCalls = new AtomicInteger();
+    private static final AtomicBoolean callsFail = new AtomicBoolean();
+
+    private SimpleMeterRegistry meterRegistry;
+    private ConnectionClientIdentifiers connectionClientIdentifiers;
+    private Connection connection;
+    private Connection anotherConnection;
+
+    public static void setClientIdentifier(String username) {
+        failIfAsked();
+        setCalls.incrementAndGet();
+    }
+
+    public static void clearClientIdentifier() {
+        failIfAsked();
+        clearCalls.incrementAndGet();
+    }
+
+    private static void failIfAsked() {
+        if (callsFail.get()) {
+            throw new IllegalStateException("PKG_VPD_CTX is unavailable");
+        }
+    }
+
+    @BeforeEach
+    void setUp() throws SQLException {
+        setCalls.set(0);
+        clearCalls.set(0);
+        callsFail.set(false);
+        meterRegistry = new SimpleMeterRegistry();
+        connectionClientIdentifiers = new ConnectionClientIdentifiers(meterRegistry);
+        connection = DriverManager.getConnection("jdbc:h2:mem:vpd;DB_CLOSE_DELAY=-1");
+        anotherConnection = DriverManager.getConnection("jdbc:h2:mem:vpd;DB_CLOSE_DELAY=-1");
+        try (final var statement = connection.createStatement()) {
+            statement.execute("create schema if not exists PKG_VPD_CTX");
+            statement.execute("create alias if not exists PKG_VPD_CTX.SET_CLIENT_IDENTIFIER for '" + getClass().getName() + ".setClientIdentifier'");
+            statement.execute("create alias if not exists PKG_VPD_CTX.CLEAR_CLIENT_IDENTIFIER for '" + getClass().getName() + ".clearClientIdentifier'");
+        }
+    }
+
+    @AfterEach
+    void tearDown() throws SQLException {
+        connection.close();
+        anotherConnection.close();
+    }
+
+    @Test
+    void identifierIsOnlySetOnceWhileTheSameUserKeepsCheckingOutTheConnection() throws SQLException {
+        connectionClientIdentifiers.switchTo(connection, "bobby.davro");
+        connectionClientIdentifiers.switchTo(connection, "bobby.davro");
+        connectionClientIdentifiers.switchTo(connection, "bobby.davro");
+
+        assertThat(setCalls).hasValue(1);
+        assertThat(clearCalls).hasValue(0);
+        assertThat(switches("set")).isEqualTo(1);
+        assertThat(switches("skipped")).isEqualTo(2);
+    }
+
+    @Test
+    void switchingUserTakesASingleCall() throws SQLException {
+        connectionClientIdentifiers.switchTo(connection, "bobby.davro");
+        connectionClientIdentifiers.switchTo(connection, "john.smith");
+
+        assertThat(setCalls).hasValue(2);
+        assertThat(clearCalls).hasValue(0);
+    }
+
+    @Test
+    void identifierIsClearedWhenCheckedOutWithoutAUser() throws SQLException {
+        connectionClientIdentifiers.switchTo(connection, "bobby.davro");
+        connectionClientIdentifiers.switchTo(connection, null);
+        connectionClientIdentifiers.switchTo(connection, null);
+
+        assertThat(setCalls).hasValue(1);
+        assertThat(clearCalls).hasValue(1);
+        assertThat(switches("cleared")).isEqualTo(1);
+        assertThat(switches("skipped")).isEqualTo(1);
+    }
+
+    @Test
+    void connectionNotSeenBeforeIsClearedWhenCheckedOutWithoutAUser() throws SQLException {
+        // what a connection carries before it is first seen is not known, so no identifier is not assumed
+        connectionClientIdentifiers.switchTo(connection, null);
+
+        assertThat(clearCalls).hasValue(1);
+        assertThat(switches("skipped")).isZero();
+    }
+
+    @Test
+    void connectionWhoseIdentifierCouldNotBeSetIsClearedWhenNextCheckedOutWithoutAUser() throws SQLException {
+        connectionClientIdentifiers.switchTo(connection, "bobby.davro");
+        callsFail.set(true);
+        assertThatThrownBy(() -> connectionClientIdentifiers.switchTo(connection, "john.smith")).isInstanceOf(SQLException.class);
+        callsFail.set(false);
+
+        connectionClientIdentifiers.switchTo(connection, null);
+
+        assertThat(clearCalls).hasValue(1);
+        assertThat(switches("skipped")).isZero();
+    }
+
+    @Test
+    void connectionWhoseIdentifierCouldNotBeClearedIsClearedAgainWhenNextCheckedOutWithoutAUser() throws SQLException {
+        connectionClientIdentifiers.switchTo(connection, "bobby.davro");
+        callsFail.set(true);
+        assertThatThrownBy(() -> connectionClientIdentifiers.switchTo(connection, null)).isInstanceOf(SQLException.class);
+        callsFail.set(false);
+
+        connectionClientIdentifiers.switchTo(connection, null);
+
+        assertThat(clearCalls).hasValue(1);
+        assertThat(switches("skipped")).isZero();
+    }
+
+    @Test
+    void eachConnectionIsTrackedSeparately() throws SQLException {
+        connectionClientIdentifiers.switchTo(connection, "bobby.davro");
+        connectionClientIdentifiers.switchTo(anotherConnection, "bobby.davro");
+        connectionClientIdentifiers.switchTo(connection, "bobby.davro");
+        connectionClientIdentifiers.switchTo(anotherConnection, "bobby.davro");
+
+        assertThat(setCalls).hasValue(2);
+    }
+
+    private double switches(String outcome) {
+        return meterRegistry.get("vpd.client.identifier.switches").tag("outcome", outcome).counter().count();
+    }
+}
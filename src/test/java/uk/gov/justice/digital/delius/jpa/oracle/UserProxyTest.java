@@ -0,0 +1,66 @@
+package uk.gov.justice.digital.delius.jpa.oracle;
+
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.aop.Advisor;
+import uk.gov.justice.digital.delius.helpers.CurrentUserSupplier;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+public class UserProxyTest {
+    @Mock
+    private Advisor closeConnectionAdvisor;
+    @Mock
+    private CurrentUserSupplier currentUserSupplier;
+    @Mock
+    private ProceedingJoinPoint joinPoint;
+    @Mock
+    private Connection connection;
+
+    private UserProxy userProxy;
+
+    @BeforeEach
+    public void setUp() throws Throwable {
+        userProxy = new UserProxy(closeConnectionAdvisor, currentUserSupplier, true, new SimpleMeterRegistry());
+        when(joinPoint.proceed(any())).thenReturn(connection);
+        when(currentUserSupplier.username()).thenReturn(Optional.of("bobby.davro"));
+        when(connection.unwrap(Connection.class)).thenReturn(connection);
+        when(connection.prepareStatement(anyString())).thenThrow(new SQLException("PKG_VPD_CTX is unavailable"));
+    }
+
+    @Test
+    public void connectionIsEvictedFromThePoolWhenItsIdentifierCannotBeSet(@Mock HikariDataSource dataSource) throws SQLException {
+        when(joinPoint.getTarget()).thenReturn(dataSource);
+
+        assertThatThrownBy(() -> userProxy.doOracleProxyThing(joinPoint)).isInstanceOf(SQLException.class);
+
+        verify(dataSource).evictConnection(connection);
+        verify(connection, never()).close();
+    }
+
+    @Test
+    public void connectionIsReturnedWhenItsIdentifierCannotBeSetAndItCannotBeEvicted(@Mock DataSource dataSource) throws SQLException {
+        when(joinPoint.getTarget()).thenReturn(dataSource);
+
+        assertThatThrownBy(() -> userProxy.doOracleProxyThing(joinPoint)).isInstanceOf(SQLException.class);
+
+        verify(connection).close();
+    }
+}
@@ -0,0 +1,51 @@
+package uk.gov.justice.digital.delius.jpa.standard.repository;
+
+import org.junit.jupiter.api.Test;
+import uk.gov.justice.digital.delius.controller.BadRequestException;
+
+import java.time.LocalDate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class CaseloadCursorTest {
+    @Test
+    void cursorIsReadBackAsWritten() {
+        final var cursor = new CaseloadCursor(LocalDate.of(2018, 5, 4), 2502094561L);
+
+        assertThat(cursor.toString()).isEqualTo("2018-05-04.2502094561");
+        assertThat(CaseloadCursor.parse(cursor.toString())).isEqualTo(cursor);
+    }
+
+    @Test
+    void noCursorStartsFromTheBeginning() {
+        assertThat(CaseloadCursor.parse(null)).isEqualTo(CaseloadCursor.START);
+        assertThat(CaseloadCursor.parse("")).isEqualTo(CaseloadCursor.START);
+    }
+
+    @Test
+    void undatedCursorIsReadBackAsWritten() {
+        final var cursor = new CaseloadCursor(null, 2502094561L);
+
+        assertThat(cursor.toString()).isEqualTo(".2502094561");
+        assertThat(CaseloadCursor.parse(cursor.toString())).isEqualTo(cursor);
+    }
+
+    @Test
+    void undatedEntriesAreGivenAnUndatedCursor() {
+        final var entry = new CaseloadEntry(42L, "OM", "X123456", null, null,
+            1L, "John", null, "Smith", "A1234",
+            2L, "TEAM-1", "Team 1", null, null, null, null,
+            "XX", "DD description", "BB", "Borough description", "LDU", "LDU description");
+
+        assertThat(CaseloadCursor.of(entry)).isEqualTo(new CaseloadCursor(null, 42L));
+    }
+
+    @Test
+    void malformedCursorIsABadRequest() {
+        assertThatThrownBy(() -> CaseloadCursor.parse("2018-05-04")).isInstanceOf(BadRequestException.class);
+        assertThatThrownBy(() -> CaseloadCursor.parse("yesterday.1")).isInstanceOf(BadRequestException.class);
+        assertThatThrownBy(() -> CaseloadCursor.parse("2018-05-04.first")).isInstanceOf(BadRequestException.class);
+        assertThatThrownBy(() -> CaseloadCursor.parse("2502094561")).isInstanceOf(BadRequestException.class);
+    }
+}
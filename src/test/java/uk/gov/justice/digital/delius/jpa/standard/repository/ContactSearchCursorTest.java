@@ -0,0 +1,43 @@
+package uk.gov.justice.digital.delius.jpa.standard.repository;
+
+import org.junit.jupiter.api.Test;
+import uk.gov.justice.digital.delius.controller.BadRequestException;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class ContactSearchCursorTest {
+    @Test
+    void cursorIsReadBackAsWritten() {
+        final var cursor = new ContactSearchCursor(LocalDate.of(2021, 5, 25), LocalTime.of(10, 0), 2500123456L);
+
+        assertThat(cursor.toString()).isEqualTo("2021-05-25.10:00:00.2500123456");
+        assertThat(ContactSearchCursor.parse(cursor.toString())).isEqualTo(cursor);
+    }
+
+    @Test
+    void noCursorStartsFromTheFirstContact() {
+        assertThat(ContactSearchCursor.parse(null)).isEqualTo(ContactSearchCursor.START);
+        assertThat(ContactSearchCursor.parse("")).isEqualTo(ContactSearchCursor.START);
+    }
+
+    @Test
+    void untimedContactsAreGivenACursorAtMidnight() {
+        final var entry = new ContactSearchEntry(42L, null, LocalDate.of(2021, 5, 25), null, null,
+            "APAT", "Appointment", null, null, null, null, "N", "N", null,
+            null, null, null, null, null, null, null, null);
+
+        assertThat(ContactSearchCursor.of(entry)).isEqualTo(new ContactSearchCursor(LocalDate.of(2021, 5, 25), LocalTime.MIDNIGHT, 42L));
+    }
+
+    @Test
+    void malformedCursorIsABadRequest() {
+        assertThatThrownBy(() -> ContactSearchCursor.parse("2021-05-25.42")).isInstanceOf(BadRequestException.class);
+        assertThatThrownBy(() -> ContactSearchCursor.parse("yesterday.10:00:00.42")).isInstanceOf(BadRequestException.class);
+        assertThatThrownBy(() -> ContactSearchCursor.parse("2021-05-25.noon.42")).isInstanceOf(BadRequestException.class);
+        assertThatThrownBy(() -> ContactSearchCursor.parse("2021-05-25.10:00:00.first")).isInstanceOf(BadRequestException.class);
+    }
+}
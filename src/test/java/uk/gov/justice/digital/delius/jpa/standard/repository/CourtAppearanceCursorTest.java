@@ -0,0 +1,32 @@
+package uk.gov.justice.digital.delius.jpa.standard.repository;
+
+import org.junit.jupiter.api.Test;
+import uk.gov.justice.digital.delius.controller.BadRequestException;
+
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class CourtAppearanceCursorTest {
+    @Test
+    void cursorIsReadBackAsWritten() {
+        final var cursor = new CourtAppearanceCursor(LocalDateTime.of(2019, 9, 4, 0, 0), 2500316926L);
+
+        assertThat(cursor.toString()).isEqualTo("2019-09-04T00:00:00.2500316926");
+        assertThat(CourtAppearanceCursor.parse(cursor.toString())).isEqualTo(cursor);
+    }
+
+    @Test
+    void noCursorStartsFromTheFirstAppearance() {
+        assertThat(CourtAppearanceCursor.parse(null)).isEqualTo(CourtAppearanceCursor.START);
+        assertThat(CourtAppearanceCursor.parse("")).isEqualTo(CourtAppearanceCursor.START);
+    }
+
+    @Test
+    void malformedCursorIsABadRequest() {
+        assertThatThrownBy(() -> CourtAppearanceCursor.parse("2019-09-04T00:00:00")).isInstanceOf(BadRequestException.class);
+        assertThatThrownBy(() -> CourtAppearanceCursor.parse("2019-09-04.2500316926")).isInstanceOf(BadRequestException.class);
+        assertThatThrownBy(() -> CourtAppearanceCursor.parse("2019-09-04T00:00:00.first")).isInstanceOf(BadRequestException.class);
+    }
+}
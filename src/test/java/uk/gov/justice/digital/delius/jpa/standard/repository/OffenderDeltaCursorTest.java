@@ -0,0 +1,38 @@
+package uk.gov.justice.digital.delius.jpa.standard.repository;
+
+import org.junit.jupiter.api.Test;
+import uk.gov.justice.digital.delius.controller.BadRequestException;
+import uk.gov.justice.digital.delius.jpa.dao.OffenderDelta;
+
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class OffenderDeltaCursorTest {
+    @Test
+    void tokenIsReadBackAsWritten() {
+        final var cursor = new OffenderDeltaCursor(LocalDateTime.of(2019, 11, 27, 15, 12, 43, 123_000_000), 232423L);
+
+        assertThat(OffenderDeltaCursor.parse(cursor.token())).isEqualTo(cursor);
+    }
+
+    @Test
+    void noTokenStartsFromTheBeginning() {
+        assertThat(OffenderDeltaCursor.parse(null)).isEqualTo(OffenderDeltaCursor.START);
+        assertThat(OffenderDeltaCursor.parse(" ")).isEqualTo(OffenderDeltaCursor.START);
+    }
+
+    @Test
+    void cursorOfADeltaIsPositionedAfterIt() {
+        final var delta = OffenderDelta.builder().offenderId(232423L).dateChanged(LocalDateTime.of(2019, 11, 27, 15, 12)).action("UPSERT").build();
+
+        assertThat(OffenderDeltaCursor.of(delta)).isEqualTo(new OffenderDeltaCursor(LocalDateTime.of(2019, 11, 27, 15, 12), 232423L));
+    }
+
+    @Test
+    void anythingElseIsABadRequest() {
+        assertThatThrownBy(() -> OffenderDeltaCursor.parse("not base 64!")).isInstanceOf(BadRequestException.class);
+        assertThatThrownBy(() -> OffenderDeltaCursor.parse("MjAxOS0xMS0yNw")).isInstanceOf(BadRequestException.class);
+    }
+}
@@ -46,6 +46,15 @@ public class JwtTest {
 
     }
 
+    @Test
+    public void decodingTheSameTokenAgainReturnsTheClaimsAlreadyVerified() {
+        Jwt jwt = new Jwt(secret512chars, 60);
+
+        String token = jwt.buildToken(UserData.builder().distinguishedName("Colin").build());
+
+        assertThat(jwt.parseAuthorizationHeader("Bearer " + token).get()).isSameAs(jwt.parseToken(token).get());
+    }
+
     @Test
     public void cannotDecodeSomebodyElsesSignedJwt() {
         Jwt jwt = new Jwt(secret512chars, 1);
@@ -0,0 +1,66 @@
+package uk.gov.justice.digital.delius.jwt;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class VerifiedTokenCacheTest {
+    private static final Instant NOW = Instant.parse("2026-10-17T09:00:00Z");
+    private static final Clock CLOCK = Clock.fixed(NOW, ZoneOffset.UTC);
+
+    private final AtomicInteger verifications = new AtomicInteger();
+
+    @Test
+    void tokenIsVerifiedOnceUntilItExpires() {
+        final var cache = new VerifiedTokenCache<Instant>(100, Duration.ofMinutes(10), expiry -> expiry, CLOCK);
+
+        assertThat(cache.get("token", token -> verify(NOW.plusSeconds(60)))).isEqualTo(NOW.plusSeconds(60));
+        assertThat(cache.get("token", token -> verify(NOW.plusSeconds(60)))).isEqualTo(NOW.plusSeconds(60));
+
+        assertThat(verifications).hasValue(1);
+    }
+
+    @Test
+    void expiredTokenIsVerifiedEveryTime() {
+        final var cache = new VerifiedTokenCache<Instant>(100, Duration.ofMinutes(10), expiry -> expiry, CLOCK);
+
+        cache.get("token", token -> verify(NOW.minusSeconds(1)));
+        cache.get("token", token -> verify(NOW.minusSeconds(1)));
+
+        assertThat(verifications).hasValue(2);
+    }
+
+    @Test
+    void tokensAreHeldApart() {
+        final var cache = new VerifiedTokenCache<String>(100, Duration.ofMinutes(10), value -> null, CLOCK);
+
+        assertThat(cache.get("token-1", token -> token)).isEqualTo("token-1");
+        assertThat(cache.get("token-2", token -> token)).isEqualTo("token-2");
+    }
+
+    @Test
+    void tokenThatFailsVerificationIsVerifiedEveryTime() {
+        final var cache = new VerifiedTokenCache<Instant>(100, Duration.ofMinutes(10), expiry -> expiry, CLOCK);
+
+        for (var attempt = 0; attempt < 2; attempt++) {
+            assertThatThrownBy(() -> cache.get("token", token -> {
+                verifications.incrementAndGet();
+                throw new IllegalArgumentException("bad signature");
+            })).isInstanceOf(IllegalArgumentException.class);
+        }
+
+        assertThat(verifications).hasValue(2);
+    }
+
+    private Instant verify(final Instant expiry) {
+        verifications.incrementAndGet();
+        return expiry;
+    }
+}
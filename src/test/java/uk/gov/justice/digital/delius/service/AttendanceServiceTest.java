@@ -2,6 +2,7 @@ package uk.gov.justice.digital.delius.service;
 
 import static java.util.Collections.singletonList;
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
@@ -19,10 +20,16 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import uk.gov.justice.digital.delius.controller.BadRequestException;
 import uk.gov.justice.digital.delius.data.api.Attendance;
+import uk.gov.justice.digital.delius.data.api.AttendanceSummary;
+import uk.gov.justice.digital.delius.data.api.AttendanceSummary.AttendanceOutcomeCount;
+import uk.gov.justice.digital.delius.data.api.KeyValue;
 import uk.gov.justice.digital.delius.jpa.standard.entity.Contact;
 import uk.gov.justice.digital.delius.jpa.standard.entity.ContactOutcomeType;
 import uk.gov.justice.digital.delius.jpa.standard.entity.ContactType;
+import uk.gov.justice.digital.delius.jpa.standard.repository.AttendanceCount;
+import uk.gov.justice.digital.delius.jpa.standard.repository.AttendanceTotals;
 import uk.gov.justice.digital.delius.jpa.standard.repository.ContactRepository;
 
 @ExtendWith(MockitoExtension.class)
@@ -105,6 +112,59 @@ public class AttendanceServiceTest {
         assertThat(attendance.getOutcome()).isEqualTo(OUTCOME);
     }
 
+    @Test
+    public void summaryOfTotalsAloneIsASingleAggregate() {
+        final LocalDate today = LocalDate.now();
+        when(contactRepository.countAttendancesByOffenderIdAndEventId(SOME_OFFENDER_ID, SOME_EVENT_ID, today))
+            .thenReturn(new AttendanceTotals(5L, 4L, 3L));
+
+        final AttendanceSummary summary = attendanceService.getAttendanceSummaryForEvent(SOME_OFFENDER_ID, SOME_EVENT_ID, today, List.of("totals"));
+
+        assertThat(summary).isEqualTo(AttendanceSummary.builder().total(5L).attended(4L).complied(3L).build());
+        verify(contactRepository).countAttendancesByOffenderIdAndEventId(SOME_OFFENDER_ID, SOME_EVENT_ID, today);
+        verifyNoMoreInteractions(contactRepository);
+    }
+
+    @Test
+    public void summaryTotalsAreDerivedFromTheOutcomeCounts() {
+        final LocalDate today = LocalDate.now();
+        when(contactRepository.countAttendancesByOutcome(SOME_OFFENDER_ID, SOME_EVENT_ID, today)).thenReturn(List.of(
+            new AttendanceCount("ATTC", "Attended - Complied", "Y", "Y", 3L),
+            new AttendanceCount("AFTA", "Failed to Attend", "N", "N", 2L),
+            new AttendanceCount(null, null, "Y", null, 1L)));
+
+        final AttendanceSummary summary = attendanceService.getAttendanceSummaryForEvent(SOME_OFFENDER_ID, SOME_EVENT_ID, today, List.of("totals", "outcomes"));
+
+        assertThat(summary.getTotal()).isEqualTo(6L);
+        assertThat(summary.getAttended()).isEqualTo(4L);
+        assertThat(summary.getComplied()).isEqualTo(3L);
+        assertThat(summary.getOutcomes()).containsExactly(
+            AttendanceOutcomeCount.builder().outcome(KeyValue.builder().code("ATTC").description("Attended - Complied").build()).attended(true).complied(true).count(3L).build(),
+            AttendanceOutcomeCount.builder().outcome(KeyValue.builder().code("AFTA").description("Failed to Attend").build()).attended(false).complied(false).count(2L).build(),
+            AttendanceOutcomeCount.builder().attended(true).complied(false).count(1L).build());
+        verify(contactRepository).countAttendancesByOutcome(SOME_OFFENDER_ID, SOME_EVENT_ID, today);
+        verifyNoMoreInteractions(contactRepository);
+    }
+
+    @Test
+    public void summaryOfOutcomesAloneHasNoTotals() {
+        final LocalDate today = LocalDate.now();
+        when(contactRepository.countAttendancesByOutcome(SOME_OFFENDER_ID, SOME_EVENT_ID, today))
+            .thenReturn(List.of(new AttendanceCount("ATTC", "Attended - Complied", "Y", "Y", 3L)));
+
+        final AttendanceSummary summary = attendanceService.getAttendanceSummaryForEvent(SOME_OFFENDER_ID, SOME_EVENT_ID, today, List.of("OUTCOMES"));
+
+        assertThat(summary.getTotal()).isNull();
+        assertThat(summary.getOutcomes()).hasSize(1);
+    }
+
+    @Test
+    public void unknownSummaryFieldIsABadRequest() {
+        assertThatThrownBy(() -> attendanceService.getAttendanceSummaryForEvent(SOME_OFFENDER_ID, SOME_EVENT_ID, LocalDate.now(), List.of("totals", "names")))
+            .isInstanceOf(BadRequestException.class);
+        verifyNoMoreInteractions(contactRepository);
+    }
+
     public static Contact getContactEntity(final Long contactId, final LocalDate attendanceDate, final String attended, final String complied) {
         return Contact.builder()
                 .contactId(contactId)
@@ -5,17 +5,23 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import uk.gov.justice.digital.delius.data.api.CaseloadAllocation;
 import uk.gov.justice.digital.delius.data.api.ManagedEventId;
 import uk.gov.justice.digital.delius.data.api.ManagedOffenderCrn;
-import uk.gov.justice.digital.delius.jpa.standard.entity.Caseload;
 import uk.gov.justice.digital.delius.jpa.standard.entity.Team;
+import uk.gov.justice.digital.delius.jpa.standard.repository.CaseloadCursor;
+import uk.gov.justice.digital.delius.jpa.standard.repository.CaseloadEntry;
 import uk.gov.justice.digital.delius.jpa.standard.repository.CaseloadRepository;
 import uk.gov.justice.digital.delius.jpa.standard.repository.StaffRepository;
 import uk.gov.justice.digital.delius.jpa.standard.repository.TeamRepository;
 
+import java.time.LocalDate;
+import java.util.ArrayList;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 import static java.util.Arrays.asList;
 import static org.assertj.core.api.Assertions.assertThat;
@@ -24,8 +30,6 @@ import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.when;
 import static uk.gov.justice.digital.delius.data.api.CaseloadRole.OFFENDER_MANAGER;
 import static uk.gov.justice.digital.delius.data.api.CaseloadRole.ORDER_SUPERVISOR;
-import static uk.gov.justice.digital.delius.util.EntityHelper.aStaff;
-import static uk.gov.justice.digital.delius.util.EntityHelper.aTeam;
 
 @ExtendWith(MockitoExtension.class)
 public class CaseloadServiceTest {
@@ -51,10 +55,10 @@ public class CaseloadServiceTest {
     @Test
     public void whenCaseloadIsReturnedFromRepository_thenMapAndReturnIt() {
         when(staffRepository.existsById(1L)).thenReturn(true);
-        when(caseloadRepository.findByStaffStaffIdAndRoleCodeIn(1L, asList("OM", "OS")))
+        when(caseloadRepository.findEntriesByStaffIdAndRoleCodeIn(1L, asList("OM", "OS")))
             .thenReturn(asList(
-                Caseload.builder().roleCode("OM").team(aTeam().toBuilder().teamId(2L).build()).staff(aStaff()).build(),
-                Caseload.builder().roleCode("OS").team(aTeam().toBuilder().teamId(3L).build()).staff(aStaff()).build()
+                aCaseloadEntry("OM", 1L, 2L),
+                aCaseloadEntry("OS", 1L, 3L)
             ));
 
         var caseload = caseloadService.getCaseloadByStaffIdentifier(1L, OFFENDER_MANAGER, ORDER_SUPERVISOR);
@@ -74,10 +78,10 @@ public class CaseloadServiceTest {
         team.setTeamId(37L);
 
         when(teamRepository.findActiveByCode("TEST")).thenReturn(Optional.of(team));
-        when(caseloadRepository.findByTeamTeamIdAndRoleCodeIn(eq(team.getTeamId()), eq(asList("OM", "OS")), any(Pageable.class)))
+        when(caseloadRepository.findEntriesByTeamIdAndRoleCodeIn(eq(team.getTeamId()), eq(asList("OM", "OS")), any(Pageable.class)))
             .thenReturn(asList(
-                Caseload.builder().roleCode("OM").team(aTeam()).staff(aStaff().toBuilder().staffId(2L).build()).build(),
-                Caseload.builder().roleCode("OS").team(aTeam()).staff(aStaff().toBuilder().staffId(3L).build()).build()
+                aCaseloadEntry("OM", 2L, 37L),
+                aCaseloadEntry("OS", 3L, 37L)
             ));
 
         var caseload =
@@ -92,4 +96,26 @@ public class CaseloadServiceTest {
             .element(0).extracting(ManagedEventId::getStaffIdentifier).isEqualTo(3L);
     }
 
-}
\ No newline at end of file
+    @Test
+    public void teamCaseloadAllocationsAreHandedOnInOrderWithTheirCursors() {
+        final var after = new CaseloadCursor(LocalDate.of(2018, 5, 4), 100L);
+        final var closed = new boolean[1];
+        when(caseloadRepository.streamEntriesByTeamIdAndRoleCodeInAfter(37L, asList("OM", "OS"), after, Limit.of(2)))
+            .thenReturn(Stream.of(aCaseloadEntry("OM", 2L, 37L), aCaseloadEntry("OS", 3L, 37L)).onClose(() -> closed[0] = true));
+
+        final var allocations = new ArrayList<CaseloadAllocation>();
+        caseloadService.forEachTeamCaseloadAllocation(37L, after, 2, allocations::add, OFFENDER_MANAGER, ORDER_SUPERVISOR);
+
+        assertThat(allocations).extracting(CaseloadAllocation::getRoleCode).containsExactly("OM", "OS");
+        assertThat(allocations).extracting(CaseloadAllocation::getStaffIdentifier).containsExactly(2L, 3L);
+        assertThat(allocations.get(0).getCursor()).isEqualTo(LocalDate.now() + ".1");
+        assertThat(closed[0]).isTrue();
+    }
+
+    private static CaseloadEntry aCaseloadEntry(String roleCode, Long staffId, Long teamId) {
+        return new CaseloadEntry(1L, roleCode, "X123456", 10L, LocalDate.now(),
+            staffId, "John", null, "Smith", "A1234",
+            teamId, "TEAM-1", "Team 1", null, null, LocalDate.now(), null,
+            "XX", "DD description", "BB", "Borough description", "LDU", "LDU description");
+    }
+}
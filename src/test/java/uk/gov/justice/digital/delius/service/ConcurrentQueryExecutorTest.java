@@ -0,0 +1,74 @@
+package uk.gov.justice.digital.delius.service;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+public class ConcurrentQueryExecutorTest {
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private ConcurrentQueryExecutor concurrentQueryExecutor;
+
+    @AfterEach
+    public void shutdown() {
+        concurrentQueryExecutor.shutdown();
+    }
+
+    @Test
+    public void serialQueriesShareOneTransaction() {
+        concurrentQueryExecutor = new ConcurrentQueryExecutor(transactionManager, false, 4, 10);
+
+        final var results = concurrentQueryExecutor.run(batch -> IntStream.range(0, 3)
+            .mapToObj(i -> batch.submit(() -> i))
+            .map(Supplier::get)
+            .toList());
+
+        assertThat(results).containsExactly(0, 1, 2);
+        verify(transactionManager, times(1)).getTransaction(any());
+    }
+
+    @Test
+    public void queriesInFlightAcrossBatchesAreCappedAtTheTotal() {
+        concurrentQueryExecutor = new ConcurrentQueryExecutor(transactionManager, true, 4, 3);
+        final var inFlight = new AtomicInteger();
+        final var mostInFlight = new AtomicInteger();
+
+        final var batches = IntStream.range(0, 3)
+            .mapToObj(i -> CompletableFuture.supplyAsync(() -> concurrentQueryExecutor.run(batch -> IntStream.range(0, 4)
+                .mapToObj(query -> batch.submit(() -> {
+                    mostInFlight.accumulateAndGet(inFlight.incrementAndGet(), Math::max);
+                    sleep();
+                    return inFlight.decrementAndGet();
+                }))
+                .map(Supplier::get)
+                .toList())))
+            .toList();
+        batches.forEach(CompletableFuture::join);
+
+        assertThat(mostInFlight.get()).isEqualTo(3);
+        verify(transactionManager, times(12)).getTransaction(any());
+    }
+
+    private static void sleep() {
+        try {
+            Thread.sleep(50);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
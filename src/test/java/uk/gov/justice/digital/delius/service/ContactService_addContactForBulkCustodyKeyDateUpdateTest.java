@@ -40,6 +40,8 @@ public class ContactService_addContactForBulkCustodyKeyDateUpdateTest {
     private ContactRepository contactRepository;
     @Mock
     private ContactTypeRepository contactTypeRepository;
+    @Mock
+    private ReferenceDataCatalogue referenceDataCatalogue;
     @Captor
     private ArgumentCaptor<Contact> contactArgumentCaptor;
 
@@ -44,6 +44,8 @@ public class ContactService_addContactForPrisonLocationChangeTest {
     private ContactDateRepository contactDateRepository;
     @Mock
     private ContactTypeRepository contactTypeRepository;
+    @Mock
+    private ReferenceDataCatalogue referenceDataCatalogue;
     @Captor
     private ArgumentCaptor<Contact> contactArgumentCaptor;
 
@@ -0,0 +1,84 @@
+package uk.gov.justice.digital.delius.service;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import uk.gov.justice.digital.delius.data.api.ContactSearchSummary;
+import uk.gov.justice.digital.delius.jpa.filters.ContactFilter;
+import uk.gov.justice.digital.delius.jpa.standard.repository.ContactRepository;
+import uk.gov.justice.digital.delius.jpa.standard.repository.ContactSearchCursor;
+import uk.gov.justice.digital.delius.jpa.standard.repository.ContactSearchEntry;
+import uk.gov.justice.digital.delius.jpa.standard.repository.ContactSearchRepository;
+import uk.gov.justice.digital.delius.jpa.standard.repository.ContactTypeRepository;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+public class ContactService_searchContactsTest {
+    private static final ContactFilter FILTER = ContactFilter.builder().offenderId(1L).build();
+
+    @InjectMocks
+    private ContactService contactService;
+
+    @Mock
+    private ContactRepository contactRepository;
+    @Mock
+    private ContactTypeRepository contactTypeRepository;
+    @Mock
+    private ReferenceDataCatalogue referenceDataCatalogue;
+    @Mock
+    private ContactSearchRepository contactSearchRepository;
+
+    @Test
+    public void fullPageCarriesTheCursorOfItsLastContact() {
+        final var after = new ContactSearchCursor(LocalDate.of(2021, 5, 1), LocalTime.of(9, 0), 10L);
+        when(contactSearchRepository.findAll(FILTER, after, 3)).thenReturn(List.of(aContact(11L), aContact(12L), aContact(13L)));
+
+        final var results = contactService.searchContacts(FILTER, after.toString(), 2);
+
+        assertThat(results.getContacts()).extracting(ContactSearchSummary::getContactId).containsExactly(11L, 12L);
+        assertThat(results.getNext()).isEqualTo("2021-05-25.10:00:00.12");
+    }
+
+    @Test
+    public void lastPageHasNoCursor() {
+        when(contactSearchRepository.findAll(FILTER, ContactSearchCursor.START, 3)).thenReturn(List.of(aContact(11L)));
+
+        final var results = contactService.searchContacts(FILTER, null, 2);
+
+        assertThat(results.getContacts()).extracting(ContactSearchSummary::getContactId).containsExactly(11L);
+        assertThat(results.getNext()).isNull();
+        verify(contactSearchRepository).findAll(FILTER, ContactSearchCursor.START, 3);
+    }
+
+    @Test
+    public void contactsAreDescribedFromTheirProjection() {
+        when(contactSearchRepository.findAll(FILTER, ContactSearchCursor.START, 2)).thenReturn(List.of(aContact(11L)));
+
+        final var contact = contactService.searchContacts(FILTER, null, 1).getContacts().get(0);
+
+        assertThat(contact.getConvictionId()).isEqualTo(2500295343L);
+        assertThat(contact.getType().getCode()).isEqualTo("APAT");
+        assertThat(contact.getOutcome().getCode()).isEqualTo("ATTC");
+        assertThat(contact.getAttended()).isTrue();
+        assertThat(contact.getComplied()).isTrue();
+        assertThat(contact.getSensitive()).isFalse();
+        assertThat(contact.getStaff().getForenames()).isEqualTo("John Michael");
+        assertThat(contact.getTeam().getCode()).isEqualTo("N02T01");
+        assertThat(contact.getProvider().getCode()).isEqualTo("N02");
+    }
+
+    private static ContactSearchEntry aContact(final long contactId) {
+        return new ContactSearchEntry(contactId, 2500295343L, LocalDate.of(2021, 5, 25), LocalTime.of(10, 0), LocalTime.of(11, 0),
+            "APAT", "Office visit", "ATTC", "Attended - complied", "Y", "Y", "N", "N", null,
+            "N02T01A", "John", "Michael", "Smith", "N02T01", "Team 1", "N02", "NPS North East");
+    }
+}
@@ -6,9 +6,12 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Limit;
 import uk.gov.justice.digital.delius.data.api.Conviction;
 import uk.gov.justice.digital.delius.data.api.CourtAppearance;
 import uk.gov.justice.digital.delius.data.api.CourtAppearanceBasic;
+import uk.gov.justice.digital.delius.data.api.CourtAppearanceMinimal;
+import uk.gov.justice.digital.delius.data.api.KeyValue;
 import uk.gov.justice.digital.delius.jpa.standard.entity.AdditionalOffence;
 import uk.gov.justice.digital.delius.jpa.standard.entity.Court;
 import uk.gov.justice.digital.delius.jpa.standard.entity.CourtReport;
@@ -16,13 +19,17 @@ import uk.gov.justice.digital.delius.jpa.standard.entity.Event;
 import uk.gov.justice.digital.delius.jpa.standard.entity.MainOffence;
 import uk.gov.justice.digital.delius.jpa.standard.entity.Offender;
 import uk.gov.justice.digital.delius.jpa.standard.entity.StandardReference;
+import uk.gov.justice.digital.delius.jpa.standard.repository.CourtAppearanceCursor;
+import uk.gov.justice.digital.delius.jpa.standard.repository.CourtAppearanceEntry;
 import uk.gov.justice.digital.delius.jpa.standard.repository.CourtAppearanceRepository;
 
 import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.Mockito.mock;
@@ -165,4 +172,24 @@ class CourtAppearanceServiceTest {
             )).build();
     }
 
+    @Test
+    void feedReadsUpToTheStartOfTheDayAfterTheToDate() {
+        final var after = new CourtAppearanceCursor(LocalDateTime.of(2019, 9, 4, 10, 0), 2500316926L);
+        when(courtAppearanceRepository.streamEntriesByAppearanceDateBetweenAfter(
+            LocalDateTime.of(2019, 9, 4, 0, 0), LocalDateTime.of(2019, 10, 1, 0, 0), after.appearanceDate(), 2500316926L, Limit.of(10)))
+            .thenReturn(Stream.of(new CourtAppearanceEntry(2500319107L, OFFENDER_ID, LocalDateTime.of(2019, 9, 16, 9, 30), "SHF", "Sheffield Magistrates Court", "S", "Sentence")));
+
+        final var appearances = new ArrayList<CourtAppearanceMinimal>();
+        courtAppearanceService.forEachCourtAppearance(LocalDate.of(2019, 9, 4), LocalDate.of(2019, 9, 30), after, 10, appearances::add);
+
+        assertThat(appearances).containsExactly(CourtAppearanceMinimal.builder()
+            .cursor("2019-09-16T09:30:00.2500319107")
+            .offenderId(OFFENDER_ID)
+            .courtAppearanceId(2500319107L)
+            .appearanceDate(LocalDateTime.of(2019, 9, 16, 9, 30))
+            .courtCode("SHF")
+            .courtName("Sheffield Magistrates Court")
+            .appearanceType(KeyValue.builder().code("S").description("Sentence").build())
+            .build());
+    }
 }
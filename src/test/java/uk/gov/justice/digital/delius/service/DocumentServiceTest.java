@@ -15,6 +15,8 @@ import org.mockito.junit.jupiter.MockitoExtension;
 import org.mockito.junit.jupiter.MockitoSettings;
 import org.mockito.quality.Strictness;
 import org.springframework.data.jpa.domain.Specification;
+import org.springframework.transaction.PlatformTransactionManager;
+import uk.gov.justice.digital.delius.data.api.ConvictionDocuments;
 import uk.gov.justice.digital.delius.data.api.OffenderDocumentDetail;
 import uk.gov.justice.digital.delius.data.api.OffenderDocumentDetail.Type;
 import uk.gov.justice.digital.delius.data.api.OffenderDocuments;
@@ -43,6 +45,7 @@ import uk.gov.justice.digital.delius.jpa.standard.repository.PersonalContactDocu
 import uk.gov.justice.digital.delius.jpa.standard.repository.ReferralDocumentRepository;
 import uk.gov.justice.digital.delius.jpa.standard.repository.UPWAppointmentDocumentRepository;
 
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.List;
@@ -112,6 +115,8 @@ public class DocumentServiceTest {
     private UPWAppointmentDocumentRepository upwAppointmentDocumentRepository;
     @Mock
     private ContactDocumentRepository contactDocumentRepository;
+    @Mock
+    private PlatformTransactionManager transactionManager;
     @Captor
     private ArgumentCaptor<Specification<CourtReportDocument>> courtReportDocumentSpecification;
 
@@ -136,7 +141,8 @@ public class DocumentServiceTest {
             nsiDocumentRepository,
             personalCircumstanceDocumentRepository,
             upwAppointmentDocumentRepository,
-            contactDocumentRepository
+            contactDocumentRepository,
+            new ConcurrentQueryExecutor(transactionManager, false, 4, 10)
         );
         when(offenderDocumentRepository.findByOffenderId(any(), any())).thenReturn(List.of());
         when(eventDocumentRepository.findByOffenderId(any(), any())).thenReturn(List.of());
@@ -252,6 +258,35 @@ public class DocumentServiceTest {
         assertThat(documents.getConvictions().get(1).getDocuments()).hasSize(3);
     }
 
+    @Test
+    public void documentsKeepTheirOrderWithinEachConvictionWhenEventsAreInterleaved() {
+        final var eventIds = List.of(3L, 1L, 2L, 1L, 3L, 3L, 2L, 1L);
+        final var documents = new ArrayList<EventDocument>();
+        for (var index = 0; index < eventIds.size(); index++) {
+            final var document = anEventDocument(eventIds.get(index));
+            document.setAlfrescoId(String.valueOf(index));
+            documents.add(document);
+        }
+        when(eventDocumentRepository.findByOffenderId(any(), eq(DocumentType.DOCUMENT))).thenReturn(documents);
+
+        final OffenderDocuments offenderDocuments = documentService.offenderDocumentsFor(1L, DocumentFilter.noFilter());
+
+        assertThat(offenderDocuments.getConvictions())
+            .extracting(ConvictionDocuments::getConvictionId)
+            .containsExactlyInAnyOrder("1", "2", "3");
+        assertThat(documentIdsForConviction(offenderDocuments, "1")).containsExactly("1", "3", "7");
+        assertThat(documentIdsForConviction(offenderDocuments, "2")).containsExactly("2", "6");
+        assertThat(documentIdsForConviction(offenderDocuments, "3")).containsExactly("0", "4", "5");
+    }
+
+    private List<String> documentIdsForConviction(OffenderDocuments offenderDocuments, String convictionId) {
+        return offenderDocuments.getConvictions().stream()
+            .filter(conviction -> conviction.getConvictionId().equals(convictionId))
+            .flatMap(conviction -> conviction.getDocuments().stream())
+            .map(OffenderDocumentDetail::getId)
+            .toList();
+    }
+
     @Test
     public void courtReportsDocumentsDistributedToEachConviction() {
         when(courtReportDocumentRepository.findAll(courtReportDocumentSpecification.capture())).thenReturn(List
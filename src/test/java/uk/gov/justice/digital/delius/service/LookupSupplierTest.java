@@ -17,6 +17,7 @@ import java.util.Optional;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
 
 @ExtendWith(MockitoExtension.class)
@@ -41,6 +42,8 @@ public class LookupSupplierTest {
     private TransferReasonRepository transferReasonRepository;
     @Mock
     private CurrentUserSupplier currentUserSupplier;
+    @Mock
+    private ReferenceDataCatalogue referenceDataCatalogue;
 
     @BeforeEach
     public void before() {
@@ -53,7 +56,8 @@ public class LookupSupplierTest {
                 teamRepository,
                 staffRepository,
                 transferReasonRepository,
-                currentUserSupplier);
+                currentUserSupplier,
+                referenceDataCatalogue);
     }
 
     @Test
@@ -83,6 +87,15 @@ public class LookupSupplierTest {
         verify(standardReferenceRepository).findByCodeAndCodeSetName("AA", "COURT APPEARANCE OUTCOME");
     }
 
+    @Test
+    public void courtAppearanceOutcomeSupplierWillUseTheReferenceDataCatalogueWhenItHasTheOutcome() {
+        when(referenceDataCatalogue.standardReference("COURT APPEARANCE OUTCOME", "AA")).thenReturn(Optional.of(StandardReference.builder().codeValue("AA").build()));
+
+        assertThat(lookupSupplier.courtAppearanceOutcomeSupplier().apply("AA").getCodeValue()).isEqualTo("AA");
+
+        verifyNoInteractions(standardReferenceRepository);
+    }
+
     @Test
     public void transferReasonSupplierWillLookupByCode() {
         when(transferReasonRepository.findByCode(any())).thenReturn(Optional.of(TransferReason.builder().build()));
@@ -131,6 +144,15 @@ public class LookupSupplierTest {
         verify(courtRepository).findById(1L);
     }
 
+    @Test
+    public void courtSupplierWillUseTheReferenceDataCatalogueWhenItHasTheCourt() {
+        when(referenceDataCatalogue.court(1L)).thenReturn(Optional.of(Court.builder().courtId(1L).build()));
+
+        assertThat(lookupSupplier.courtSupplier().apply(1L).getCourtId()).isEqualTo(1L);
+
+        verifyNoInteractions(courtRepository);
+    }
+
     @Test
     public void probationAreaSupplierWillLookupById() {
         when(probationAreaRepository.findById(any(Long.class))).thenReturn(Optional.ofNullable(ProbationArea.builder().build()));
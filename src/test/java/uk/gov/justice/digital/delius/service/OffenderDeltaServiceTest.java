@@ -0,0 +1,119 @@
+package uk.gov.justice.digital.delius.service;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Limit;
+import uk.gov.justice.digital.delius.controller.BadRequestException;
+import uk.gov.justice.digital.delius.jpa.dao.OffenderDelta;
+import uk.gov.justice.digital.delius.jpa.standard.entity.OffenderDeltaConsumer;
+import uk.gov.justice.digital.delius.jpa.standard.entity.OffenderDeltaConsumerPk;
+import uk.gov.justice.digital.delius.jpa.standard.repository.OffenderDeltaConsumerRepository;
+import uk.gov.justice.digital.delius.jpa.standard.repository.OffenderDeltaCursor;
+import uk.gov.justice.digital.delius.jpa.standard.repository.OffenderRepository;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class OffenderDeltaServiceTest {
+    private static final LocalDateTime CHANGED = LocalDateTime.of(2019, 11, 27, 15, 12, 43);
+
+    @Mock
+    private OffenderRepository offenderRepository;
+    @Mock
+    private OffenderDeltaConsumerRepository offenderDeltaConsumerRepository;
+
+    private OffenderDeltaService offenderDeltaService;
+
+    @BeforeEach
+    void setUp() {
+        offenderDeltaService = new OffenderDeltaService(offenderRepository, offenderDeltaConsumerRepository, Duration.ofMinutes(1));
+    }
+
+    @Test
+    void batchCursorIsPositionedAfterTheLastDelta() {
+        final var after = new OffenderDeltaCursor(CHANGED, 1L);
+        when(offenderRepository.findDeltasAfter(eq(CHANGED), eq(1L), any(), eq(Limit.of(2))))
+            .thenReturn(List.of(aDelta(3L, CHANGED), aDelta(2L, CHANGED.plusSeconds(1))));
+
+        final var deltas = offenderDeltaService.getDeltasAfter(after.token(), 2);
+
+        assertThat(deltas.getDeltas()).extracting(OffenderDelta::getOffenderId).containsExactly(3L, 2L);
+        assertThat(OffenderDeltaCursor.parse(deltas.getCursor())).isEqualTo(new OffenderDeltaCursor(CHANGED.plusSeconds(1), 2L));
+    }
+
+    @Test
+    void changesYetToSettleAreLeftForALaterBatch() {
+        final var changedBy = ArgumentCaptor.forClass(LocalDateTime.class);
+        when(offenderRepository.findDeltasAfter(any(), eq(0L), changedBy.capture(), any())).thenReturn(List.of());
+
+        offenderDeltaService.getDeltasAfter(null, 100);
+
+        assertThat(changedBy.getValue()).isBefore(LocalDateTime.now().minusSeconds(59));
+    }
+
+    @Test
+    void emptyBatchKeepsTheCursorItWasGiven() {
+        final var after = new OffenderDeltaCursor(CHANGED, 1L);
+        when(offenderRepository.findDeltasAfter(any(), eq(1L), any(), any())).thenReturn(List.of());
+
+        assertThat(offenderDeltaService.getDeltasAfter(after.token(), 100).getCursor()).isEqualTo(after.token());
+    }
+
+    @Test
+    void consumerCarriesOnFromItsAcknowledgedCursor() {
+        final var acknowledged = new OffenderDeltaCursor(CHANGED, 7L);
+        when(offenderDeltaConsumerRepository.findById(new OffenderDeltaConsumerPk("search", "indexer")))
+            .thenReturn(Optional.of(OffenderDeltaConsumer.builder().clientId("search").consumerId("indexer").cursor(acknowledged.token()).build()));
+        when(offenderRepository.findDeltasAfter(eq(CHANGED), eq(7L), any(), any())).thenReturn(List.of(aDelta(8L, CHANGED)));
+
+        assertThat(offenderDeltaService.getDeltasForConsumer("search", "indexer", 100).getDeltas())
+            .extracting(OffenderDelta::getOffenderId)
+            .containsExactly(8L);
+    }
+
+    @Test
+    void newConsumerStartsFromTheBeginning() {
+        when(offenderDeltaConsumerRepository.findById(new OffenderDeltaConsumerPk("search", "indexer"))).thenReturn(Optional.empty());
+        when(offenderRepository.findDeltasAfter(eq(OffenderDeltaCursor.START.dateChanged()), eq(0L), any(), any())).thenReturn(List.of());
+
+        assertThat(offenderDeltaService.getDeltasForConsumer("search", "indexer", 100).getDeltas()).isEmpty();
+    }
+
+    @Test
+    void acknowledgementIsSavedAgainstTheClientsConsumer() {
+        final var cursor = new OffenderDeltaCursor(CHANGED, 7L).token();
+
+        offenderDeltaService.acknowledge("search", "indexer", cursor);
+
+        final var saved = ArgumentCaptor.forClass(OffenderDeltaConsumer.class);
+        verify(offenderDeltaConsumerRepository).save(saved.capture());
+        assertThat(saved.getValue().getClientId()).isEqualTo("search");
+        assertThat(saved.getValue().getConsumerId()).isEqualTo("indexer");
+        assertThat(saved.getValue().getCursor()).isEqualTo(cursor);
+    }
+
+    @Test
+    void malformedAcknowledgementIsRejected() {
+        assertThatThrownBy(() -> offenderDeltaService.acknowledge("search", "indexer", "rubbish")).isInstanceOf(BadRequestException.class);
+        verify(offenderDeltaConsumerRepository, never()).save(any());
+    }
+
+    private static OffenderDelta aDelta(long offenderId, LocalDateTime dateChanged) {
+        return OffenderDelta.builder().offenderId(offenderId).dateChanged(dateChanged).action("UPSERT").build();
+    }
+}
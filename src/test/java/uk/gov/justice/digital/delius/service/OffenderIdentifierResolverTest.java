@@ -0,0 +1,83 @@
+package uk.gov.justice.digital.delius.service;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import uk.gov.justice.digital.delius.jpa.standard.repository.OffenderRepository;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class OffenderIdentifierResolverTest {
+    @Mock
+    private OffenderRepository offenderRepository;
+
+    private SimpleMeterRegistry meterRegistry;
+    private OffenderIdentifierResolver resolver;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        resolver = new OffenderIdentifierResolver(offenderRepository, meterRegistry, 100, Duration.ofMinutes(1));
+    }
+
+    @Test
+    void crnIsOnlyReadOnce() {
+        when(offenderRepository.getOffenderIdFrom("X320741")).thenReturn(Optional.of(2500343964L));
+
+        assertThat(resolver.offenderIdOfCrn("X320741")).hasValue(2500343964L);
+        assertThat(resolver.offenderIdOfCrn("X320741")).hasValue(2500343964L);
+
+        verify(offenderRepository, times(1)).getOffenderIdFrom("X320741");
+        assertThat(meterRegistry.get("cache.gets").tag("cache", "offenderIdsByCrn").tag("result", "hit").functionCounter().count()).isEqualTo(1);
+        assertThat(meterRegistry.get("offender.identifier.resolve").tag("identifier", "crn").timer().count()).isEqualTo(2);
+    }
+
+    @Test
+    void unknownCrnIsReadAgain() {
+        when(offenderRepository.getOffenderIdFrom("X999999")).thenReturn(Optional.empty());
+
+        assertThat(resolver.offenderIdOfCrn("X999999")).isEmpty();
+        assertThat(resolver.offenderIdOfCrn("X999999")).isEmpty();
+
+        verify(offenderRepository, times(2)).getOffenderIdFrom("X999999");
+    }
+
+    @Test
+    void nomsNumberIsReadOnceWhateverItsCase() {
+        when(offenderRepository.findOffenderIdsByNomsNumber("G9542VP")).thenReturn(List.of(2500343964L));
+
+        assertThat(resolver.offenderIdsOfNomsNumber("G9542VP")).containsExactly(2500343964L);
+        assertThat(resolver.offenderIdsOfNomsNumber("g9542vp")).containsExactly(2500343964L);
+
+        verify(offenderRepository, times(1)).findOffenderIdsByNomsNumber("G9542VP");
+    }
+
+    @Test
+    void unassignedNomsNumberIsReadAgain() {
+        when(offenderRepository.findOffenderIdsByNomsNumber("G9542VP")).thenReturn(List.of(), List.of(2500343964L));
+
+        assertThat(resolver.offenderIdsOfNomsNumber("G9542VP")).isEmpty();
+        assertThat(resolver.offenderIdsOfNomsNumber("G9542VP")).containsExactly(2500343964L);
+    }
+
+    @Test
+    void evictedNomsNumberIsReadAgain() {
+        when(offenderRepository.findOffenderIdsByNomsNumber("G9542VP")).thenReturn(List.of(2500343964L), List.of(2500343965L));
+
+        assertThat(resolver.offenderIdsOfNomsNumber("G9542VP")).containsExactly(2500343964L);
+        resolver.evictNomsNumbers(List.of("g9542vp"));
+
+        assertThat(resolver.offenderIdsOfNomsNumber("G9542VP")).containsExactly(2500343965L);
+    }
+}
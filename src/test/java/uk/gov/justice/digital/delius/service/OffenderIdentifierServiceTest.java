@@ -22,6 +22,7 @@ import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 class OffenderIdentifierServiceTest {
@@ -30,12 +31,13 @@ class OffenderIdentifierServiceTest {
     private ArgumentCaptor<Offender> offenderCaptor = ArgumentCaptor.forClass(Offender.class);
     private ArgumentCaptor<AdditionalIdentifier> additionalIdentifierCaptor = ArgumentCaptor.forClass(AdditionalIdentifier.class);
     private ReferenceDataService referenceDataService = mock(ReferenceDataService.class);
+    private OffenderIdentifierResolver offenderIdentifierResolver = mock(OffenderIdentifierResolver.class);
 
     @Nested
     class FeatureSwitchedOff {
         @BeforeEach
         void setUp() {
-            service = new OffenderIdentifierService(false, offenderRepository, referenceDataService);
+            service = new OffenderIdentifierService(false, offenderRepository, referenceDataService, offenderIdentifierResolver);
         }
 
         @Test
@@ -79,7 +81,7 @@ class OffenderIdentifierServiceTest {
     class FeatureSwitchedOn {
         @BeforeEach
         void setUp() {
-            service = new OffenderIdentifierService(true, offenderRepository, referenceDataService);
+            service = new OffenderIdentifierService(true, offenderRepository, referenceDataService, offenderIdentifierResolver);
             when(offenderRepository.findByNomsNumber(any())).thenReturn(Optional.empty());
         }
 
@@ -191,6 +193,11 @@ class OffenderIdentifierServiceTest {
                 void willUpdateOffender() {
                     assertThat(iDs.getNomsNumber()).isEqualTo("G5555TT");
                 }
+
+                @Test
+                void willForgetWhoHeldBothNumbers() {
+                    verify(offenderIdentifierResolver).evictNomsNumbers(List.of("G5555TT", "A7777TT"));
+                }
             }
         }
         @Nested
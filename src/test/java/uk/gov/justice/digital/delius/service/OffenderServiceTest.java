@@ -8,15 +8,25 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import uk.gov.justice.digital.delius.jpa.standard.entity.Document.DocumentType;
+import uk.gov.justice.digital.delius.jpa.standard.entity.OffenderDocument;
 import uk.gov.justice.digital.delius.jpa.standard.repository.OffenderAccessLimitationRepository;
 import uk.gov.justice.digital.delius.jpa.standard.repository.OffenderDocumentRepository;
 import uk.gov.justice.digital.delius.jpa.standard.repository.OffenderRepository;
 
+import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.stream.IntStream;
 
-import static org.assertj.core.api.AssertionsForClassTypes.assertThat;
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
 import static uk.gov.justice.digital.delius.util.EntityHelper.anOffender;
 
@@ -30,12 +40,14 @@ class OffenderServiceTest {
     private ConvictionService convictionService;
     @Mock
     private OffenderDocumentRepository offenderDocumentRepository;
+    @Mock
+    private OffenderIdentifierResolver offenderIdentifierResolver;
 
     private OffenderService service;
 
     @BeforeEach
     void setUp() {
-        service = new OffenderService(offenderRepository, offenderAccessLimitationRepository, convictionService, offenderDocumentRepository);
+        service = new OffenderService(offenderRepository, offenderAccessLimitationRepository, convictionService, offenderDocumentRepository, offenderIdentifierResolver);
     }
 
 
@@ -144,16 +156,16 @@ class OffenderServiceTest {
         @Test
         @DisplayName("will return offender id of the most likely offender")
         void willReturnOffenderIdOfTheMostLikelyOffender() {
-            when(offenderRepository.findAllByNomsNumber(any()))
-                .thenReturn(List.of(anOffender().toBuilder().offenderId(99L).build()));
+            when(offenderIdentifierResolver.offenderIdsOfNomsNumber(any()))
+                .thenReturn(List.of(99L));
 
-            assertThat(service.singleOffenderIdOfNomsNumber("A1234ZZ").get()).isPresent();
+            assertThat(service.singleOffenderIdOfNomsNumber("A1234ZZ").get()).hasValue(99L);
         }
 
         @Test
         @DisplayName("will return empty if no offender found")
         void willReturnEmptyWhenNoFoundFound() {
-            when(offenderRepository.findAllByNomsNumber(any()))
+            when(offenderIdentifierResolver.offenderIdsOfNomsNumber(any()))
                 .thenReturn(List.of());
 
             assertThat(service.singleOffenderIdOfNomsNumber("A1234ZZ").get()).isEmpty();
@@ -162,13 +174,63 @@ class OffenderServiceTest {
         @Test
         @DisplayName("will return error if duplicates found")
         void willReturnAnErrorForDuplicates() {
-            when(offenderRepository.findAllByNomsNumber(any()))
-                .thenReturn(List.of(
-                    anOffender().toBuilder().offenderId(99L).build(),
-                    anOffender().toBuilder().offenderId(98L).build()
-                    ));
+            when(offenderIdentifierResolver.offenderIdsOfNomsNumber(any()))
+                .thenReturn(List.of(99L, 98L));
 
             assertThat(service.singleOffenderIdOfNomsNumber("A1234ZZ").isLeft()).isTrue();
         }
     }
+
+    @Nested
+    @DisplayName("getOffenderSummariesByCrns")
+    class GetOffenderSummariesByCrns {
+        @Test
+        @DisplayName("will return summaries in the order the CRNs were given, leaving out those not found")
+        void willReturnSummariesInRequestOrder() {
+            when(offenderRepository.findAllByCrnIn(List.of("X2", "X1", "X3")))
+                .thenReturn(List.of(
+                    anOffender().toBuilder().offenderId(1L).crn("X1").build(),
+                    anOffender().toBuilder().offenderId(2L).crn("X2").build()));
+            when(offenderDocumentRepository.findAllByOffenderIdInAndDocumentTypeAndSoftDeletedIsFalse(List.of(1L, 2L), DocumentType.PREVIOUS_CONVICTION))
+                .thenReturn(List.of());
+
+            final var summaries = service.getOffenderSummariesByCrns(List.of("X2", "X1", "X3", "X1"));
+
+            assertThat(summaries).extracting(summary -> summary.getOtherIds().getCrn()).containsExactly("X2", "X1");
+            verify(offenderRepository).fetchDisabilities(List.of(1L, 2L));
+            verify(offenderRepository).fetchProvisions(List.of(1L, 2L));
+        }
+
+        @Test
+        @DisplayName("will attach each offender's previous convictions document")
+        void willAttachPreviousConvictionsDocuments() {
+            final var document = new OffenderDocument();
+            document.setOffenderId(2L);
+            document.setDocumentName("precons.pdf");
+            document.setDateProduced(LocalDateTime.of(2021, 1, 1, 12, 0));
+            when(offenderRepository.findAllByCrnIn(any()))
+                .thenReturn(List.of(
+                    anOffender().toBuilder().offenderId(1L).crn("X1").build(),
+                    anOffender().toBuilder().offenderId(2L).crn("X2").build()));
+            when(offenderDocumentRepository.findAllByOffenderIdInAndDocumentTypeAndSoftDeletedIsFalse(any(), eq(DocumentType.PREVIOUS_CONVICTION)))
+                .thenReturn(List.of(document));
+
+            final var summaries = service.getOffenderSummariesByCrns(List.of("X1", "X2"));
+
+            assertThat(summaries).extracting(summary -> summary.getOffenderProfile().getPreviousConviction().getDetail())
+                .containsExactly(null, Map.of("documentName", "precons.pdf"));
+        }
+
+        @Test
+        @DisplayName("will look the CRNs up in fixed size batches")
+        void willLookUpCrnsInBatches() {
+            final var crns = IntStream.range(0, OffenderService.CRN_BATCH_SIZE * 2 + 1).mapToObj(i -> "X" + i).toList();
+            when(offenderRepository.findAllByCrnIn(anyCollection())).thenReturn(List.of());
+
+            assertThat(service.getOffenderSummariesByCrns(crns)).isEmpty();
+
+            verify(offenderRepository, times(3)).findAllByCrnIn(anyCollection());
+            verifyNoInteractions(offenderDocumentRepository);
+        }
+    }
 }
@@ -45,6 +45,9 @@ public class OffenderServiceTest_getOffenderLatestRecall {
     @Mock
     private OffenderDocumentRepository mockOffenderDocumentRepository;
 
+    @Mock
+    private OffenderIdentifierResolver mockOffenderIdentifierResolver;
+
     private OffenderService offenderService;
 
     @BeforeEach
@@ -53,7 +56,8 @@ public class OffenderServiceTest_getOffenderLatestRecall {
                 mockOffenderRepository,
                 mockOffenderAccessLimitationRepository,
                 mockConvictionService,
-                mockOffenderDocumentRepository
+                mockOffenderDocumentRepository,
+                mockOffenderIdentifierResolver
         );
     }
 
@@ -0,0 +1,140 @@
+package uk.gov.justice.digital.delius.service;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+import uk.gov.justice.digital.delius.jpa.standard.entity.ContactType;
+import uk.gov.justice.digital.delius.jpa.standard.entity.Offence;
+import uk.gov.justice.digital.delius.jpa.standard.entity.ProbationArea;
+import uk.gov.justice.digital.delius.jpa.standard.entity.ReferenceDataMaster;
+import uk.gov.justice.digital.delius.jpa.standard.entity.StandardReference;
+import uk.gov.justice.digital.delius.jpa.standard.repository.ContactTypeRepository;
+import uk.gov.justice.digital.delius.jpa.standard.repository.CourtRepository;
+import uk.gov.justice.digital.delius.jpa.standard.repository.OffenceRepository;
+import uk.gov.justice.digital.delius.jpa.standard.repository.ProbationAreaRepository;
+import uk.gov.justice.digital.delius.jpa.standard.repository.StandardReferenceRepository;
+import uk.gov.justice.digital.delius.jpa.standard.repository.TransferReasonRepository;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class ReferenceDataCatalogueTest {
+    @Mock
+    private PlatformTransactionManager transactionManager;
+    @Mock
+    private OffenceRepository offenceRepository;
+    @Mock
+    private CourtRepository courtRepository;
+    @Mock
+    private TransferReasonRepository transferReasonRepository;
+    @Mock
+    private StandardReferenceRepository standardReferenceRepository;
+    @Mock
+    private ContactTypeRepository contactTypeRepository;
+    @Mock
+    private ProbationAreaRepository probationAreaRepository;
+
+    private SimpleMeterRegistry meterRegistry;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+    }
+
+    @Test
+    void nothingIsLoadedOrServedWhenDisabled() {
+        final var catalogue = catalogue(false);
+
+        catalogue.refresh();
+
+        assertThat(catalogue.offence("AA")).isEmpty();
+        assertThat(catalogue.probationAreas()).isEmpty();
+        verifyNoInteractions(offenceRepository, courtRepository, transferReasonRepository, standardReferenceRepository, contactTypeRepository, probationAreaRepository);
+    }
+
+    @Test
+    void lookupsAreServedFromTheLoadedSnapshot() {
+        stubReferenceData(List.of(Offence.builder().code("AA").description("Murder").build()));
+        final var catalogue = catalogue(true);
+
+        catalogue.refresh();
+
+        assertThat(catalogue.offence("AA")).get().extracting(Offence::getDescription).isEqualTo("Murder");
+        assertThat(catalogue.offence("ZZ")).isEmpty();
+        assertThat(catalogue.offence(null)).isEmpty();
+        assertThat(catalogue.standardReference("ADDITIONAL IDENTIFIER TYPE", "XNOMS")).isPresent();
+        assertThat(catalogue.standardReference("ADDITIONAL IDENTIFIER TYPE", "DNOMS")).isEmpty();
+        assertThat(catalogue.contactType("EPOMAT")).isPresent();
+        assertThat(catalogue.probationArea("N02")).get().extracting(ProbationArea::getProbationAreaId).isEqualTo(2L);
+        assertThat(catalogue.probationArea(2L)).get().extracting(ProbationArea::getCode).isEqualTo("N02");
+        assertThat(catalogue.probationAreas().orElseThrow()).hasSize(1);
+    }
+
+    @Test
+    void refreshingReplacesTheWholeSnapshot() {
+        stubReferenceData(List.of(Offence.builder().code("AA").build()));
+        final var catalogue = catalogue(true);
+        catalogue.refresh();
+
+        when(offenceRepository.findAll()).thenReturn(List.of(Offence.builder().code("BB").build()));
+        catalogue.refresh();
+
+        assertThat(catalogue.offence("AA")).isEmpty();
+        assertThat(catalogue.offence("BB")).isPresent();
+    }
+
+    @Test
+    void snapshotSizeAndAgeAreReported() {
+        stubReferenceData(List.of(Offence.builder().code("AA").build(), Offence.builder().code("BB").build()));
+        final var catalogue = catalogue(true);
+
+        assertThat(meterRegistry.get("reference.data.catalogue.size").tag("table", "offences").gauge().value()).isZero();
+        assertThat(meterRegistry.get("reference.data.catalogue.age").timeGauge().value()).isNaN();
+
+        catalogue.refresh();
+
+        assertThat(meterRegistry.get("reference.data.catalogue.size").tag("table", "offences").gauge().value()).isEqualTo(2);
+        assertThat(meterRegistry.get("reference.data.catalogue.age").timeGauge().value()).isGreaterThanOrEqualTo(0);
+    }
+
+    private ReferenceDataCatalogue catalogue(boolean enabled) {
+        return new ReferenceDataCatalogue(
+            enabled,
+            transactionManager,
+            offenceRepository,
+            courtRepository,
+            transferReasonRepository,
+            standardReferenceRepository,
+            contactTypeRepository,
+            probationAreaRepository,
+            meterRegistry);
+    }
+
+    private void stubReferenceData(List<Offence> offences) {
+        when(offenceRepository.findAll()).thenReturn(offences);
+        when(courtRepository.findAll()).thenReturn(List.of());
+        when(transferReasonRepository.findAll()).thenReturn(List.of());
+        when(standardReferenceRepository.findAllWithCodeSet()).thenReturn(List.of(StandardReference
+            .builder()
+            .codeValue("XNOMS")
+            .referenceDataMaster(ReferenceDataMaster.builder().codeSetName("ADDITIONAL IDENTIFIER TYPE").build())
+            .build()));
+        when(contactTypeRepository.findAll()).thenReturn(List.of(ContactType.builder().code("EPOMAT").build()));
+        when(probationAreaRepository.findAll()).thenReturn(List.of(ProbationArea
+            .builder()
+            .probationAreaId(2L)
+            .code("N02")
+            .teams(List.of())
+            .providerTeams(List.of())
+            .boroughs(List.of())
+            .build()));
+    }
+}
@@ -22,7 +22,6 @@ import uk.gov.justice.digital.delius.jpa.standard.entity.Requirement;
 import uk.gov.justice.digital.delius.jpa.standard.entity.RequirementTypeMainCategory;
 import uk.gov.justice.digital.delius.jpa.standard.entity.StandardReference;
 import uk.gov.justice.digital.delius.jpa.standard.repository.EventRepository;
-import uk.gov.justice.digital.delius.jpa.standard.repository.OffenderRepository;
 
 import java.time.LocalDate;
 import java.time.LocalDateTime;
@@ -32,6 +31,7 @@ import java.util.Optional;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+import static org.mockito.Mockito.lenient;
 import static org.mockito.Mockito.when;
 
 @ExtendWith(MockitoExtension.class)
@@ -42,7 +42,7 @@ public class RequirementServiceTest {
     public static final Long OFFENDER_ID = 123456789L;
 
     @Mock
-    private OffenderRepository offenderRepository;
+    private OffenderIdentifierResolver offenderIdentifierResolver;
     @Mock
     private EventRepository eventRepository;
     @Mock
@@ -50,8 +50,6 @@ public class RequirementServiceTest {
     @Mock
     private Event event;
     @Mock
-    private Event badEvent;
-    @Mock
     private Disposal disposal;
     @Mock
     private Custody custody;
@@ -62,12 +60,13 @@ public class RequirementServiceTest {
     class RequirementTests {
         @BeforeEach
         public void setUp() {
-            requirementService = new RequirementService(offenderRepository, eventRepository);
+            requirementService = new RequirementService(offenderIdentifierResolver, eventRepository);
 
-            when(offenderRepository.getOffenderIdFrom(CRN)).thenReturn(Optional.of(OFFENDER_ID));
-            when(eventRepository.findByOffenderId(OFFENDER_ID)).thenReturn(Collections.singletonList(event));
+            when(offenderIdentifierResolver.offenderIdOfCrn(CRN)).thenReturn(Optional.of(OFFENDER_ID));
+            lenient().when(eventRepository.findWithRequirementsByEventIdAndOffenderId(CONVICTION_ID, OFFENDER_ID)).thenReturn(Optional.of(event));
+            lenient().when(eventRepository.findWithLicenceConditionsByEventIdAndOffenderId(CONVICTION_ID, OFFENDER_ID)).thenReturn(Optional.of(event));
+            lenient().when(eventRepository.findWithPssRequirementsByEventIdAndOffenderId(CONVICTION_ID, OFFENDER_ID)).thenReturn(Optional.of(event));
             when(event.getDisposal()).thenReturn(disposal);
-            when(event.getEventId()).thenReturn(CONVICTION_ID);
         }
 
         @Test
@@ -113,18 +112,6 @@ public class RequirementServiceTest {
             assertThat(licenceCondition.getTerminationNotes()).isEqualTo("Termination notes");
         }
 
-        @Test
-        public void givenMultipleEventsReturnedForOffender_whenGetLicenceConditionsByConvictionId_thenFilterByConvictionId() {
-            when(disposal.getLicenceConditions()).thenReturn(Collections.singletonList(LicenceCondition.builder()
-                .commencementNotes("Commencement notes")
-                .build()));
-            when(eventRepository.findByOffenderId(OFFENDER_ID)).thenReturn(Arrays.asList(event, badEvent));
-
-            LicenceConditions requirements = requirementService.getLicenceConditionsByConvictionId(CRN, CONVICTION_ID);
-            assertThat(requirements.getLicenceConditions()).hasSize(1);
-            assertThat(requirements.getLicenceConditions().get(0).getCommencementNotes()).isEqualTo("Commencement notes");
-        }
-
         @Test
         public void givenNoDisposalForConviction_whenGetLicenceConditionsByConvictionId_thenReturnEmptyList() {
             when(event.getDisposal()).thenReturn(null);
@@ -167,25 +154,6 @@ public class RequirementServiceTest {
             assertThat(pssRequirement.getActive()).isEqualTo(true);
         }
 
-        @Test
-        public void givenMultipleEventsReturnedForOffender_whenGetPssRequirementsByConvictionId_thenFilterByConvictionId() {
-            when(disposal.getCustody()).thenReturn(custody);
-            when(custody.getPssRequirements()).thenReturn(Collections.singletonList(PssRequirement.builder()
-                .pssRequirementTypeMainCategory(PssRequirementTypeMainCategory.builder()
-                    .description("Standard 7 Conditions")
-                    .code("A")
-                    .build())
-                .activeFlag(0L)
-                .build()));
-            when(eventRepository.findByOffenderId(OFFENDER_ID)).thenReturn(Arrays.asList(event, badEvent));
-
-            PssRequirements requirements = requirementService.getPssRequirementsByConvictionId(CRN, CONVICTION_ID);
-            assertThat(requirements.getPssRequirements()).hasSize(1);
-            assertThat(requirements.getPssRequirements().get(0).getType().getDescription()).isEqualTo("Standard 7 Conditions");
-            assertThat(requirements.getPssRequirements().get(0).getType().getCode()).isEqualTo("A");
-            assertThat(requirements.getPssRequirements().get(0).getActive()).isEqualTo(false);
-        }
-
         @Test
         public void givenNoDisposalForConviction_whenGetPssRequirementsByConvictionId_thenReturnEmptyList() {
             when(event.getDisposal()).thenReturn(null);
@@ -299,23 +267,9 @@ public class RequirementServiceTest {
             assertThat(requirementService.getActiveRequirement(CRN, CONVICTION_ID, REHABILITATION_ACTIVITY_REQUIREMENT_TYPE)).isEmpty();
         }
 
-        @Test
-        public void givenMultipleEventsReturnedForOffender_whenGetRequirementsByConvictionId_thenFilterByConvictionId() {
-            when(disposal.getRequirements()).thenReturn(Collections.singletonList(Requirement
-                .builder()
-                .requirementId(99L)
-                .build()));
-            when(eventRepository.findByOffenderId(OFFENDER_ID)).thenReturn(Arrays.asList(event, badEvent));
-
-            var requirements = requirementService.getRequirementsByConvictionId(CRN, CONVICTION_ID, true, true);
-            assertThat(requirements.getRequirements()).hasSize(1);
-            assertThat(requirements.getRequirements().get(0).getRequirementId()).isEqualTo(99L);
-        }
-
         @Test
         public void givenNoDisposalForConviction_whenGetRequirementsByConvictionId_thenReturnEmptyList() {
             when(event.getDisposal()).thenReturn(null);
-            when(eventRepository.findByOffenderId(OFFENDER_ID)).thenReturn(Arrays.asList(event, badEvent));
 
             var requirements = requirementService.getRequirementsByConvictionId(CRN, CONVICTION_ID, true, true);
             assertThat(requirements.getRequirements()).isEmpty();
@@ -324,19 +278,54 @@ public class RequirementServiceTest {
         @Test
         public void givenRequirementsForConviction_whenGetRequirementsByConvictionId_thenReturnEmptyList() {
             when(disposal.getRequirements()).thenReturn(null);
-            when(eventRepository.findByOffenderId(OFFENDER_ID)).thenReturn(Arrays.asList(event, badEvent));
 
             var requirements = requirementService.getRequirementsByConvictionId(CRN, CONVICTION_ID, true, true);
             assertThat(requirements.getRequirements()).isEmpty();
         }
     }
 
+    @Nested class ConvictionDoesNotExistTests {
+
+        @BeforeEach
+        public void setUp() {
+            requirementService = new RequirementService(offenderIdentifierResolver, eventRepository);
+            when(offenderIdentifierResolver.offenderIdOfCrn(CRN)).thenReturn(Optional.of(OFFENDER_ID));
+        }
+
+        @Test
+        public void givenConvictionIsNotTheOffenders_whenGetLicenceConditionsByConvictionId_thenThrowException() {
+            when(eventRepository.findWithLicenceConditionsByEventIdAndOffenderId(CONVICTION_ID, OFFENDER_ID)).thenReturn(Optional.empty());
+
+            assertThatExceptionOfType(NotFoundException.class)
+                .isThrownBy(() -> requirementService.getLicenceConditionsByConvictionId(CRN, CONVICTION_ID))
+                .withMessage("Conviction with convictionId '987654321' not found");
+        }
+
+        @Test
+        public void givenConvictionIsNotTheOffenders_whenGetRequirementsByConvictionId_thenThrowException() {
+            when(eventRepository.findWithRequirementsByEventIdAndOffenderId(CONVICTION_ID, OFFENDER_ID)).thenReturn(Optional.empty());
+
+            assertThatExceptionOfType(NotFoundException.class)
+                .isThrownBy(() -> requirementService.getRequirementsByConvictionId(CRN, CONVICTION_ID, true, true))
+                .withMessage("Conviction with convictionId '987654321' not found");
+        }
+
+        @Test
+        public void givenConvictionIsNotTheOffenders_whenGetPssRequirementsByConvictionId_thenThrowException() {
+            when(eventRepository.findWithPssRequirementsByEventIdAndOffenderId(CONVICTION_ID, OFFENDER_ID)).thenReturn(Optional.empty());
+
+            assertThatExceptionOfType(NotFoundException.class)
+                .isThrownBy(() -> requirementService.getPssRequirementsByConvictionId(CRN, CONVICTION_ID))
+                .withMessage("Conviction with convictionId '987654321' not found");
+        }
+    }
+
     @Nested class OffenderDoesNotExistTests {
 
         @BeforeEach
         public void setUp() {
-            requirementService = new RequirementService(offenderRepository, eventRepository);
-            when(offenderRepository.getOffenderIdFrom(CRN)).thenReturn(Optional.empty());
+            requirementService = new RequirementService(offenderIdentifierResolver, eventRepository);
+            when(offenderIdentifierResolver.offenderIdOfCrn(CRN)).thenReturn(Optional.empty());
         }
 
         @Test
@@ -21,6 +21,7 @@ import uk.gov.justice.digital.delius.ldap.repository.LdapRepository;
 import uk.gov.justice.digital.delius.ldap.repository.entity.NDeliusUser;
 
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
 
@@ -286,8 +287,8 @@ public class StaffServiceTest {
 
         var frazierNDelius = NDeliusUser.builder().telephoneNumber("111 222").mail("joefrazier@service.com").build();
         var foremanNDelius = NDeliusUser.builder().telephoneNumber("333 444").mail("georgeforeman@service.com").build();
-        when(ldapRepository.getDeliusUserNoRoles("joefrazier")).thenReturn(Optional.of(frazierNDelius));
-        when(ldapRepository.getDeliusUserNoRoles("georgeforeman")).thenReturn(Optional.of(foremanNDelius));
+        when(ldapRepository.getDeliusUsersNoRoles(Set.of("joefrazier", "georgeforeman")))
+            .thenReturn(Map.of("joefrazier", frazierNDelius, "georgeforeman", foremanNDelius));
 
         List<StaffDetails> staffDetailsList = staffService.getStaffDetailsByUsernames(usernames);
 
@@ -327,8 +328,8 @@ public class StaffServiceTest {
 
         var frazierNDelius = NDeliusUser.builder().telephoneNumber("111 222").mail("joefrazier@service.com").build();
         var foremanNDelius = NDeliusUser.builder().telephoneNumber("333 444").mail("georgeforeman@service.com").build();
-        when(ldapRepository.getDeliusUserNoRoles("joefrazier")).thenReturn(Optional.of(frazierNDelius));
-        when(ldapRepository.getDeliusUserNoRoles("georgeforeman")).thenReturn(Optional.of(foremanNDelius));
+        when(ldapRepository.getDeliusUsersNoRoles(Set.of("joefrazier", "georgeforeman")))
+            .thenReturn(Map.of("joefrazier", frazierNDelius, "georgeforeman", foremanNDelius));
 
         List<StaffDetails> staffDetailsList = staffService.getStaffDetailsByStaffCodes(staffCodes);
 
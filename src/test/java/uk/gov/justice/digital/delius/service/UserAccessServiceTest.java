@@ -12,13 +12,17 @@ import uk.gov.justice.digital.delius.helpers.CurrentUserSupplier;
 import uk.gov.justice.digital.delius.jpa.standard.entity.OffenderAccessLimitations;
 
 import java.util.Collections;
+import java.util.List;
 import java.util.Optional;
 import java.util.Set;
 
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.AssertionsForClassTypes.assertThatExceptionOfType;
 import static org.mockito.Mockito.atMost;
 import static org.mockito.Mockito.atMostOnce;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.verifyNoMoreInteractions;
 import static org.mockito.Mockito.when;
 
@@ -156,4 +160,56 @@ class UserAccessServiceTest {
         verify(offenderService, atMostOnce()).getOffenderByCrn(CRN);
         verifyNoMoreInteractions(offenderService, userService, currentUserSupplier, offender);
     }
+
+    @Test
+    public void givenBothChecksApply_thenOffenderAndUserAccessAreOnlyResolvedOnce(){
+        final var accessLimitation = new AccessLimitation(false, RESTRICTION_MESSAGE, false, EXCLUSION_MESSAGE);
+
+        when(currentUserSupplier.username()).thenReturn(Optional.of(USER_NAME));
+        when(offenderService.getOffenderAccessLimitationsByCrn(CRN)).thenReturn(Optional.of(offender));
+        when(userService.accessLimitationOf(USER_NAME, offender)).thenReturn(accessLimitation);
+
+        userAccessService.checkExclusionsAndRestrictions(CRN, Collections.emptySet());
+
+        verify(offenderService, times(1)).getOffenderAccessLimitationsByCrn(CRN);
+        verify(userService, times(1)).accessLimitationOf(USER_NAME, offender);
+    }
+
+    @Test
+    public void givenBothChecksAreIgnored_thenOffenderIsNotLoaded(){
+        when(currentUserSupplier.username()).thenReturn(Optional.of(USER_NAME));
+
+        userAccessService.checkExclusionsAndRestrictions(CRN, Set.of(new SimpleGrantedAuthority(SCOPE_IGNORE_EXCLUSIONS), new SimpleGrantedAuthority(SCOPE_IGNORE_RESTRICTIONS)));
+
+        verifyNoInteractions(offenderService, userService);
+    }
+
+    @Test
+    public void givenManyOffenders_thenOnlyThoseTheUserIsExcludedFromOrRestrictedFromAreInaccessible(){
+        final var excluded = OffenderAccessLimitations.builder().crn("X1").currentExclusion(true).currentRestriction(false).build();
+        final var restricted = OffenderAccessLimitations.builder().crn("X2").currentExclusion(false).currentRestriction(true).build();
+        final var allowed = OffenderAccessLimitations.builder().crn("X3").currentExclusion(true).currentRestriction(true).build();
+        final var crns = List.of("X1", "X2", "X3");
+
+        when(currentUserSupplier.username()).thenReturn(Optional.of(USER_NAME));
+        when(offenderService.getOffenderAccessLimitationsByCrns(crns)).thenReturn(List.of(excluded, restricted, allowed));
+        when(userService.accessLimitationOf(USER_NAME, excluded)).thenReturn(new AccessLimitation(false, null, true, EXCLUSION_MESSAGE));
+        when(userService.accessLimitationOf(USER_NAME, restricted)).thenReturn(new AccessLimitation(true, RESTRICTION_MESSAGE, false, null));
+        when(userService.accessLimitationOf(USER_NAME, allowed)).thenReturn(new AccessLimitation(false, null, false, null));
+
+        assertThat(userAccessService.inaccessibleCrnsOf(crns, Collections.emptySet())).containsExactlyInAnyOrder("X1", "X2");
+        verify(offenderService, times(1)).getOffenderAccessLimitationsByCrns(crns);
+    }
+
+    @Test
+    public void givenManyOffenders_andScopeIsIgnoreExclusions_thenExcludedOffendersAreAccessible(){
+        final var excluded = OffenderAccessLimitations.builder().crn("X1").currentExclusion(true).currentRestriction(false).build();
+        final var crns = List.of("X1");
+
+        when(currentUserSupplier.username()).thenReturn(Optional.of(USER_NAME));
+        when(offenderService.getOffenderAccessLimitationsByCrns(crns)).thenReturn(List.of(excluded));
+        when(userService.accessLimitationOf(USER_NAME, excluded)).thenReturn(new AccessLimitation(false, null, true, EXCLUSION_MESSAGE));
+
+        assertThat(userAccessService.inaccessibleCrnsOf(crns, Set.of(new SimpleGrantedAuthority(SCOPE_IGNORE_EXCLUSIONS)))).isEmpty();
+    }
 }
@@ -0,0 +1,106 @@
+package uk.gov.justice.digital.delius.service;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import uk.gov.justice.digital.delius.jpa.national.entity.Exclusion;
+import uk.gov.justice.digital.delius.jpa.national.entity.Restriction;
+import uk.gov.justice.digital.delius.jpa.national.entity.User;
+import uk.gov.justice.digital.delius.jpa.standard.entity.OffenderAccessLimitations;
+import uk.gov.justice.digital.delius.ldap.repository.LdapRepository;
+import uk.gov.justice.digital.delius.service.wrapper.UserRepositoryWrapper;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class UserServiceTest {
+    private static final String USER_NAME = "bobby.davro";
+
+    @Mock
+    private UserRepositoryWrapper userRepositoryWrapper;
+    @Mock
+    private LdapRepository ldapRepository;
+
+    private SimpleMeterRegistry meterRegistry;
+    private UserService userService;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        userService = new UserService(userRepositoryWrapper, ldapRepository, null, meterRegistry, 100, Duration.ofMinutes(1));
+    }
+
+    @Test
+    void userIsExcludedOnlyByActiveExclusionsForTheOffender() {
+        when(userRepositoryWrapper.getUser(USER_NAME)).thenReturn(aUser(
+            List.of(anExclusion(1L, null), anExclusion(2L, LocalDateTime.now().minusDays(1))),
+            List.of()));
+
+        assertThat(userService.accessLimitationOf(USER_NAME, anExcludedOffender(1L)).isUserExcluded()).isTrue();
+        assertThat(userService.accessLimitationOf(USER_NAME, anExcludedOffender(2L)).isUserExcluded()).isFalse();
+        assertThat(userService.accessLimitationOf(USER_NAME, anExcludedOffender(3L)).isUserExcluded()).isFalse();
+    }
+
+    @Test
+    void userIsRestrictedUnlessTheyHaveAnActiveRestrictionForTheOffender() {
+        when(userRepositoryWrapper.getUser(USER_NAME)).thenReturn(aUser(
+            List.of(),
+            List.of(aRestriction(1L, LocalDateTime.now().minusDays(1)), aRestriction(1L, LocalDateTime.now().plusDays(1)))));
+
+        assertThat(userService.accessLimitationOf(USER_NAME, aRestrictedOffender(1L)).isUserRestricted()).isFalse();
+        assertThat(userService.accessLimitationOf(USER_NAME, aRestrictedOffender(2L)).isUserRestricted()).isTrue();
+    }
+
+    @Test
+    void userIsOnlyLoadedOnceForRepeatedChecks() {
+        when(userRepositoryWrapper.getUser(USER_NAME)).thenReturn(aUser(List.of(anExclusion(1L, null)), List.of()));
+
+        userService.accessLimitationOf(USER_NAME, anExcludedOffender(1L));
+        userService.accessLimitationOf(USER_NAME.toUpperCase(), anExcludedOffender(2L));
+        userService.accessLimitationOf(USER_NAME, anExcludedOffender(3L));
+
+        verify(userRepositoryWrapper, times(1)).getUser(USER_NAME);
+        assertThat(meterRegistry.get("cache.gets").tag("cache", "userAccessLimitations").tag("result", "hit").functionCounter().count()).isEqualTo(2);
+    }
+
+    @Test
+    void userIsReloadedOnceTheirEntryIsEvicted() {
+        when(userRepositoryWrapper.getUser(USER_NAME)).thenReturn(aUser(List.of(anExclusion(1L, null)), List.of()));
+
+        userService.accessLimitationOf(USER_NAME, anExcludedOffender(1L));
+        userService.evictUserAccessLimitations(USER_NAME);
+        userService.accessLimitationOf(USER_NAME, anExcludedOffender(1L));
+
+        verify(userRepositoryWrapper, times(2)).getUser(USER_NAME);
+    }
+
+    private static User aUser(List<Exclusion> exclusions, List<Restriction> restrictions) {
+        return User.builder().distinguishedName(USER_NAME).exclusions(exclusions).restrictions(restrictions).build();
+    }
+
+    private static Exclusion anExclusion(Long offenderId, LocalDateTime end) {
+        return Exclusion.builder().offenderId(offenderId).exclusionEnd(end).build();
+    }
+
+    private static Restriction aRestriction(Long offenderId, LocalDateTime end) {
+        return Restriction.builder().offenderId(offenderId).restrictionEnd(end).build();
+    }
+
+    private static OffenderAccessLimitations anExcludedOffender(Long offenderId) {
+        return OffenderAccessLimitations.builder().offenderId(offenderId).currentExclusion(true).currentRestriction(false).build();
+    }
+
+    private static OffenderAccessLimitations aRestrictedOffender(Long offenderId) {
+        return OffenderAccessLimitations.builder().offenderId(offenderId).currentExclusion(false).currentRestriction(true).build();
+    }
+}
@@ -3,95 +3,72 @@ package uk.gov.justice.digital.delius.transformers;
 import org.junit.jupiter.api.Test;
 import uk.gov.justice.digital.delius.data.api.ManagedEventId;
 import uk.gov.justice.digital.delius.data.api.ManagedOffenderCrn;
-import uk.gov.justice.digital.delius.jpa.standard.entity.Caseload;
+import uk.gov.justice.digital.delius.data.api.StaffHuman;
+import uk.gov.justice.digital.delius.jpa.standard.repository.CaseloadEntry;
 
 import java.time.LocalDate;
 import java.util.Arrays;
-import java.util.Random;
+import java.util.List;
 import java.util.Set;
-import java.util.UUID;
 
 import static org.assertj.core.api.Assertions.assertThat;
-import static uk.gov.justice.digital.delius.util.EntityHelper.aStaff;
 import static uk.gov.justice.digital.delius.util.EntityHelper.aTeam;
 
 public class CaseloadTransformerTest {
 
     @Test
-    public void managedOffenderCrnDetailsAreCorrect() {
-        Caseload source = Caseload.builder()
-            .caseloadId(new Random().nextLong())
-            .crn(UUID.randomUUID().toString())
-            .roleCode("OM")
-            .allocationDate(LocalDate.now())
-            .staff(aStaff(UUID.randomUUID().toString()))
-            .team(aTeam(UUID.randomUUID().toString()))
-            .build();
+    public void caseloadDetailsAreCorrect() {
+        final var caseload = CaseloadTransformer.caseloadOf(List.of(
+            aCaseloadEntry("OM", "X000001", null),
+            aCaseloadEntry("OS", "X000002", 20L)));
 
-        assertThat(CaseloadTransformer.managedOffenderCrnOf(source))
-            .isEqualTo(ManagedOffenderCrn.builder()
-                .offenderCrn(source.getCrn())
-                .allocationDate(LocalDate.now())
-                .staffIdentifier(source.getStaff().getStaffId())
-                .staff(StaffTransformer.staffOf(source.getStaff()))
-                .teamIdentifier(source.getTeam().getTeamId())
-                .team(TeamTransformer.teamOf(source.getTeam()))
+        final var staff = StaffHuman.builder().forenames("John Jim").surname("Smith").code("A1234").build();
+        assertThat(caseload)
+            .usingRecursiveComparison()
+            .isEqualTo(uk.gov.justice.digital.delius.data.api.Caseload.builder()
+                .managedOffenders(Set.of(ManagedOffenderCrn.builder()
+                    .offenderCrn("X000001")
+                    .allocationDate(LocalDate.now())
+                    .staffIdentifier(1L)
+                    .staff(staff)
+                    .teamIdentifier(2L)
+                    .team(TeamTransformer.teamOf(aTeam()))
+                    .build()))
+                .supervisedOrders(Set.of(ManagedEventId.builder()
+                    .offenderCrn("X000002")
+                    .eventId(20L)
+                    .allocationDate(LocalDate.now())
+                    .staffIdentifier(1L)
+                    .staff(staff)
+                    .teamIdentifier(2L)
+                    .team(TeamTransformer.teamOf(aTeam()))
+                    .build()))
                 .build());
     }
 
     @Test
-    public void managedEventIdDetailsAreCorrect() {
-        Random random = new Random();
-        Caseload source = Caseload.builder()
-            .caseloadId(random.nextLong())
-            .crn(UUID.randomUUID().toString())
-            .eventId(random.nextLong())
-            .roleCode("OS")
-            .allocationDate(LocalDate.now())
-            .staff(aStaff(UUID.randomUUID().toString()))
-            .team(aTeam(UUID.randomUUID().toString()))
-            .build();
-
-        assertThat(CaseloadTransformer.managedEventIdOf(source))
-            .isEqualTo(ManagedEventId.builder()
-                .offenderCrn(source.getCrn())
-                .eventId(source.getEventId())
-                .allocationDate(LocalDate.now())
-                .staffIdentifier(source.getStaff().getStaffId())
-                .staff(StaffTransformer.staffOf(source.getStaff()))
-                .teamIdentifier(source.getTeam().getTeamId())
-                .team(TeamTransformer.teamOf(source.getTeam()))
-                .build());
-    }
+    public void caseloadEntriesShareTheirStaffAndTeams() {
+        final var caseload = CaseloadTransformer.caseloadOf(Arrays.asList(
+            aCaseloadEntry("OM", "X000001", null),
+            aCaseloadEntry("OM", "X000002", null),
+            aCaseloadEntry("OS", "X000003", 20L)));
 
-    @Test
-    public void caseloadDetailsAreCorrect() {
-        Random random = new Random();
-        Caseload offenderManager = Caseload.builder()
-            .caseloadId(new Random().nextLong())
-            .crn(UUID.randomUUID().toString())
-            .roleCode("OM")
-            .allocationDate(LocalDate.now())
-            .allocationDate(LocalDate.now())
-            .staff(aStaff(UUID.randomUUID().toString()))
-            .team(aTeam(UUID.randomUUID().toString()))
-            .build();
-        Caseload orderSupervisor = Caseload.builder()
-            .caseloadId(random.nextLong())
-            .crn(UUID.randomUUID().toString())
-            .eventId(random.nextLong())
-            .roleCode("OS")
-            .allocationDate(LocalDate.now())
-            .staff(aStaff(UUID.randomUUID().toString()))
-            .team(aTeam(UUID.randomUUID().toString()))
-            .build();
+        assertThat(caseload.getManagedOffenders()).hasSize(2);
+        assertThat(caseload.getSupervisedOrders()).hasSize(1);
 
-        assertThat(CaseloadTransformer.caseloadOf(Arrays.asList(offenderManager, orderSupervisor)))
-            .usingRecursiveComparison()
-            .isEqualTo(uk.gov.justice.digital.delius.data.api.Caseload.builder()
-                .managedOffenders(Set.of(CaseloadTransformer.managedOffenderCrnOf(offenderManager)))
-                .supervisedOrders(Set.of(CaseloadTransformer.managedEventIdOf(orderSupervisor)))
-                .build());
+        final var managedOffender = caseload.getManagedOffenders().iterator().next();
+        assertThat(caseload.getManagedOffenders())
+            .allSatisfy(other -> {
+                assertThat(other.getStaff()).isSameAs(managedOffender.getStaff());
+                assertThat(other.getTeam()).isSameAs(managedOffender.getTeam());
+            });
+        assertThat(caseload.getSupervisedOrders().iterator().next().getTeam()).isSameAs(managedOffender.getTeam());
     }
 
+    private static CaseloadEntry aCaseloadEntry(String roleCode, String crn, Long eventId) {
+        return new CaseloadEntry(1L, roleCode, crn, eventId, LocalDate.now(),
+            1L, "John", "Jim", "Smith", "A1234",
+            2L, "TEAM-1", "Team 1", null, null, null, null,
+            "XX", "DD description", "BB", "Borough description", "LL", "LDU description");
+    }
 }
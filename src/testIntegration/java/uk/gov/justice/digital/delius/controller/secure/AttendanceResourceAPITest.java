@@ -6,6 +6,7 @@ import org.junit.jupiter.api.Test;
 import org.springframework.http.HttpStatus;
 import uk.gov.justice.digital.delius.data.api.Attendance;
 import uk.gov.justice.digital.delius.data.api.Attendance.ContactTypeDetail;
+import uk.gov.justice.digital.delius.data.api.AttendanceSummary;
 import uk.gov.justice.digital.delius.data.api.Attendances;
 
 import static io.restassured.RestAssured.given;
@@ -19,6 +20,7 @@ public class AttendanceResourceAPITest extends IntegrationTestBase {
     private static final String KNOWN_CRN = "X320741";
     private static final String FILTER_PATH_FORMAT = "/offenders/crn/%s/convictions/%s/attendancesFilter";
     private static final String FILTER_PATH = String.format(FILTER_PATH_FORMAT, KNOWN_CRN, KNOWN_EVENT_ID);
+    private static final String SUMMARY_PATH_FORMAT = "/offenders/crn/%s/convictions/%s/attendancesSummary";
 
     @Test
     public void whenGetAttendances_ThenReturnSingleMatch() {
@@ -65,4 +67,72 @@ public class AttendanceResourceAPITest extends IntegrationTestBase {
         assertThat(attendances.getAttendances().stream()).isEmpty();
     }
 
+    @Test
+    public void whenGetAttendancesPaged_ThenReturnPage() {
+        final Attendances attendances = given()
+            .auth()
+            .oauth2(tokenWithRoleCommunity())
+            .queryParam("page", 1)
+            .queryParam("pageSize", 1)
+            .when()
+            .get(FILTER_PATH)
+            .then()
+            .statusCode(HttpStatus.OK.value())
+            .extract()
+            .body()
+            .as(Attendances.class);
+
+        assertThat(attendances.getAttendances()).isEmpty();
+    }
+
+    @Test
+    public void whenGetAttendanceSummary_ThenReturnCounts() {
+        final AttendanceSummary summary = given()
+            .auth()
+            .oauth2(tokenWithRoleCommunity())
+            .when()
+            .get(String.format(SUMMARY_PATH_FORMAT, KNOWN_CRN, KNOWN_EVENT_ID))
+            .then()
+            .statusCode(HttpStatus.OK.value())
+            .extract()
+            .body()
+            .as(AttendanceSummary.class);
+
+        assertThat(summary.getTotal()).isEqualTo(1L);
+        assertThat(summary.getAttended()).isEqualTo(1L);
+        assertThat(summary.getComplied()).isEqualTo(0L);
+        assertThat(summary.getOutcomes()).hasSize(1);
+        assertThat(summary.getOutcomes().get(0).getOutcome().getDescription()).isEqualTo("Appointment Kept");
+        assertThat(summary.getOutcomes().get(0).isAttended()).isTrue();
+        assertThat(summary.getOutcomes().get(0).getCount()).isEqualTo(1L);
+    }
+
+    @Test
+    public void whenGetAttendanceSummaryTotals_ThenReturnOnlyTotals() {
+        final AttendanceSummary summary = given()
+            .auth()
+            .oauth2(tokenWithRoleCommunity())
+            .queryParam("fields", "totals")
+            .when()
+            .get(String.format(SUMMARY_PATH_FORMAT, KNOWN_CRN, KNOWN_EVENT_ID))
+            .then()
+            .statusCode(HttpStatus.OK.value())
+            .extract()
+            .body()
+            .as(AttendanceSummary.class);
+
+        assertThat(summary).isEqualTo(AttendanceSummary.builder().total(1L).attended(1L).complied(0L).build());
+    }
+
+    @Test
+    public void whenGetAttendanceSummaryWithUnknownField_ThenBadRequest() {
+        given()
+            .auth()
+            .oauth2(tokenWithRoleCommunity())
+            .queryParam("fields", "names")
+            .when()
+            .get(String.format(SUMMARY_PATH_FORMAT, KNOWN_CRN, KNOWN_EVENT_ID))
+            .then()
+            .statusCode(HttpStatus.BAD_REQUEST.value());
+    }
 }
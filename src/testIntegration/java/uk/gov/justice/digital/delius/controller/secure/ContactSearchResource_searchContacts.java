@@ -0,0 +1,79 @@
+package uk.gov.justice.digital.delius.controller.secure;
+
+import org.junit.jupiter.api.Test;
+import uk.gov.justice.digital.delius.data.api.ContactSearchResults;
+import uk.gov.justice.digital.delius.data.api.ContactSearchSummary;
+
+import java.time.LocalTime;
+import java.util.Comparator;
+import java.util.Optional;
+
+import static io.restassured.RestAssured.given;
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class ContactSearchResource_searchContacts extends IntegrationTestBase {
+    @Test
+    public void contactsAreReturnedInContactDateAndTimeOrder() {
+        final var results = search(null, 1000);
+
+        assertThat(results.getContacts()).isNotEmpty();
+        assertThat(results.getContacts()).extracting(ContactSearchSummary::getContactId).doesNotHaveDuplicates();
+        assertThat(results.getContacts()).isSortedAccordingTo(Comparator
+            .comparing(ContactSearchSummary::getContactDate)
+            .thenComparing(contact -> Optional.ofNullable(contact.getContactStartTime()).orElse(LocalTime.MIDNIGHT))
+            .thenComparing(ContactSearchSummary::getContactId));
+        assertThat(results.getContacts()).allSatisfy(contact -> assertThat(contact.getType().getCode()).isNotBlank());
+        assertThat(results.getNext()).isNull();
+    }
+
+    @Test
+    public void pagesCarryOnFromTheCursorOfThePreviousOne() {
+        final var all = search(null, 1000).getContacts();
+        final var first = search(null, 2);
+        final var second = search(first.getNext(), 2);
+
+        assertThat(first.getContacts()).containsExactlyElementsOf(all.subList(0, 2));
+        assertThat(second.getContacts()).containsExactlyElementsOf(all.subList(2, 4));
+    }
+
+    @Test
+    public void unknownOffenderIsNotFound() {
+        given()
+            .auth()
+            .oauth2(tokenWithRoleCommunity())
+            .when()
+            .get("/offenders/crn/X999999/contacts/search")
+            .then()
+            .statusCode(404);
+    }
+
+    @Test
+    public void malformedCursorIsABadRequest() {
+        given()
+            .auth()
+            .oauth2(tokenWithRoleCommunity())
+            .queryParam("after", "not-a-cursor")
+            .when()
+            .get("/offenders/crn/X320741/contacts/search")
+            .then()
+            .statusCode(400);
+    }
+
+    private ContactSearchResults search(final String after, final int limit) {
+        final var request = given()
+            .auth()
+            .oauth2(tokenWithRoleCommunity())
+            .queryParam("limit", limit);
+        if (after != null) {
+            request.queryParam("after", after);
+        }
+        return request
+            .when()
+            .get("/offenders/crn/X320741/contacts/search")
+            .then()
+            .statusCode(200)
+            .extract()
+            .body()
+            .as(ContactSearchResults.class);
+    }
+}
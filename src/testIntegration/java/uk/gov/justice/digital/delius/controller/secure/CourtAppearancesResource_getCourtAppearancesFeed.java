@@ -0,0 +1,93 @@
+package uk.gov.justice.digital.delius.controller.secure;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.restassured.specification.RequestSpecification;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import uk.gov.justice.digital.delius.data.api.CourtAppearanceMinimal;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.List;
+import java.util.function.UnaryOperator;
+
+import static io.restassured.RestAssured.given;
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class CourtAppearancesResource_getCourtAppearancesFeed extends IntegrationTestBase {
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Test
+    public void appearancesBetweenTheDatesAreStreamedInAppearanceDateOrder() {
+        final var appearances = feed(request -> request.queryParam("fromDate", "2019-09-04").queryParam("toDate", "2019-09-30"));
+
+        assertThat(appearances).extracting(CourtAppearanceMinimal::getCourtAppearanceId).containsExactly(2500316926L, 2500319107L);
+        assertThat(appearances).allSatisfy(appearance -> {
+            assertThat(appearance.getOffenderId()).isEqualTo(2500343964L);
+            assertThat(appearance.getCourtCode()).isNotBlank();
+            assertThat(appearance.getAppearanceType().getCode()).isNotBlank();
+        });
+    }
+
+    @Test
+    public void appearancesDefaultToTheFromDateAlone() {
+        final var appearances = feed(request -> request.queryParam("fromDate", "2019-09-04"));
+
+        assertThat(appearances).extracting(CourtAppearanceMinimal::getCourtAppearanceId).containsExactly(2500316926L);
+    }
+
+    @Test
+    public void pagesCarryOnFromTheCursorOfTheLastAppearance() {
+        final var first = feed(request -> request.queryParam("fromDate", "2019-09-04").queryParam("toDate", "2019-09-30").queryParam("limit", 1));
+        final var rest = feed(request -> request.queryParam("fromDate", "2019-09-04").queryParam("toDate", "2019-09-30").queryParam("after", first.get(0).getCursor()));
+
+        assertThat(first).extracting(CourtAppearanceMinimal::getCourtAppearanceId).containsExactly(2500316926L);
+        assertThat(rest).extracting(CourtAppearanceMinimal::getCourtAppearanceId).containsExactly(2500319107L);
+    }
+
+    @Test
+    public void rangeIsBounded() {
+        given()
+            .auth().oauth2(tokenWithRoleCommunity())
+            .queryParam("fromDate", "2019-01-01")
+            .queryParam("toDate", "2019-12-31")
+            .when()
+            .get("/courtAppearances/feed")
+            .then()
+            .statusCode(400);
+    }
+
+    @Test
+    public void malformedCursorIsABadRequest() {
+        given()
+            .auth().oauth2(tokenWithRoleCommunity())
+            .queryParam("fromDate", "2019-09-04")
+            .queryParam("after", "not-a-cursor")
+            .when()
+            .get("/courtAppearances/feed")
+            .then()
+            .statusCode(400);
+    }
+
+    private List<CourtAppearanceMinimal> feed(UnaryOperator<RequestSpecification> parameters) {
+        return parameters.apply(given().auth().oauth2(tokenWithRoleCommunity()).accept("application/x-ndjson"))
+            .when()
+            .get("/courtAppearances/feed")
+            .then()
+            .statusCode(200)
+            .extract()
+            .asString()
+            .lines()
+            .map(this::appearanceOf)
+            .toList();
+    }
+
+    private CourtAppearanceMinimal appearanceOf(String line) {
+        try {
+            return objectMapper.readValue(line, CourtAppearanceMinimal.class);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
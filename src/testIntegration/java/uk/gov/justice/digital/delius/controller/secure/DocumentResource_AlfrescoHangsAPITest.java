@@ -0,0 +1,101 @@
+package uk.gov.justice.digital.delius.controller.secure;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpStatus;
+import org.springframework.test.context.TestPropertySource;
+import uk.gov.justice.digital.delius.controller.wiremock.AlfrescoExtension;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.stream.IntStream;
+
+import static io.restassured.RestAssured.given;
+import static org.assertj.core.api.Assertions.assertThat;
+
+@TestPropertySource(properties = {
+    "alfresco.timeouts.details=5s",
+    "alfresco.bulkhead.max-concurrent-calls=2",
+    // few enough that requests left waiting on Alfresco would soon leave none for anything else
+    "server.tomcat.threads.max=4"
+})
+@ExtendWith(AlfrescoExtension.class)
+public class DocumentResource_AlfrescoHangsAPITest extends IntegrationTestBase {
+    private static final String DOCUMENT_ID = "fa63c379-8b31-4e36-a152-2a57dfe251c4";
+    private static final int HANG_MILLIS = 10000;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Test
+    public void otherEndpointsKeepAnsweringWhileAlfrescoHangs() throws InterruptedException {
+        AlfrescoExtension.alfrescoMockServer.stubDetailsSuccess(DOCUMENT_ID, "X320741", "document.pdf", HANG_MILLIS);
+        final ExecutorService executor = Executors.newFixedThreadPool(10);
+        try {
+            final var held = IntStream.range(0, 2)
+                .mapToObj(i -> CompletableFuture.supplyAsync(this::documentStatus, executor))
+                .toList();
+            awaitAlfrescoRequestsInFlight(2);
+
+            final var turnedAway = IntStream.range(0, 8)
+                .mapToObj(i -> CompletableFuture.supplyAsync(this::timedDocumentStatus, executor))
+                .toList();
+            final var started = System.nanoTime();
+            offenderStatus();
+            final var offenderLatency = Duration.ofNanos(System.nanoTime() - started);
+
+            assertThat(offenderLatency).isLessThan(Duration.ofSeconds(2));
+            turnedAway.stream().map(CompletableFuture::join).forEach(timedStatus -> {
+                assertThat(timedStatus.status()).isEqualTo(HttpStatus.SERVICE_UNAVAILABLE.value());
+                assertThat(timedStatus.latency()).isLessThan(Duration.ofSeconds(2));
+            });
+            // given up on when the details timeout passes, long before Alfresco would have answered
+            held.stream().map(CompletableFuture::join).forEach(status ->
+                assertThat(status).isEqualTo(HttpStatus.SERVICE_UNAVAILABLE.value()));
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private int documentStatus() {
+        return given()
+            .auth()
+            .oauth2(tokenWithRoleCommunity())
+            .when()
+            .get("/offenders/crn/{crn}/documents/{documentId}", "X320741", DOCUMENT_ID)
+            .then()
+            .extract()
+            .statusCode();
+    }
+
+    private TimedStatus timedDocumentStatus() {
+        final var started = System.nanoTime();
+        final var status = documentStatus();
+        return new TimedStatus(status, Duration.ofNanos(System.nanoTime() - started));
+    }
+
+    private void offenderStatus() {
+        given()
+            .auth()
+            .oauth2(tokenWithRoleCommunity())
+            .when()
+            .get("/offenders/crn/{crn}/all", "X320741")
+            .then()
+            .statusCode(HttpStatus.OK.value());
+    }
+
+    private void awaitAlfrescoRequestsInFlight(int requests) throws InterruptedException {
+        final var gauge = meterRegistry.get("alfresco.requests.in.flight").gauge();
+        for (var i = 0; i < 500 && gauge.value() < requests; i++) {
+            Thread.sleep(10);
+        }
+        assertThat(gauge.value()).isEqualTo(requests);
+    }
+
+    private record TimedStatus(int status, Duration latency) {
+    }
+}
@@ -0,0 +1,79 @@
+package uk.gov.justice.digital.delius.controller.secure;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.http.HttpStatus;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.util.AopTestUtils;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+import uk.gov.justice.digital.delius.data.api.OffenderDocuments;
+import uk.gov.justice.digital.delius.data.filters.DocumentFilter;
+import uk.gov.justice.digital.delius.service.ConcurrentQueryExecutor;
+import uk.gov.justice.digital.delius.service.DocumentService;
+
+import java.util.function.Supplier;
+
+import static io.restassured.RestAssured.given;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.http.MediaType.APPLICATION_JSON_VALUE;
+
+@TestPropertySource(properties = {"concurrent-queries.enabled=true", "concurrent-queries.max-per-request=2"})
+public class DocumentResource_ConcurrentQueriesAPITest extends IntegrationTestBase {
+    private static final long OFFENDER_ID = 2500343964L;
+
+    @Autowired
+    private DocumentService documentService;
+
+    @Autowired
+    @Qualifier("standardTransactionManager")
+    private PlatformTransactionManager transactionManager;
+
+    @Test
+    public void groupedDocumentsAreReturnedWhenQueriedConcurrently() {
+        final var offenderDocuments = given()
+            .auth()
+            .oauth2(createJwt("ROLE_COMMUNITY"))
+            .contentType(APPLICATION_JSON_VALUE)
+            .when()
+            .get("/offenders/crn/{crn}/documents/grouped", "X320741")
+            .then()
+            .statusCode(HttpStatus.OK.value())
+            .extract()
+            .body()
+            .as(OffenderDocuments.class);
+
+        assertThat(offenderDocuments.getDocuments()).hasSize(7);
+        assertThat(offenderDocuments.getConvictions()).hasSize(2);
+    }
+
+    @Test
+    public void documentsAreTheSameAsWhenQueriedOneAfterAnother() {
+        final var concurrently = documentService.offenderDocumentsFor(OFFENDER_ID, DocumentFilter.noFilter());
+
+        assertThat(concurrently).isEqualTo(serially(() -> documentService.offenderDocumentsFor(OFFENDER_ID, DocumentFilter.noFilter())));
+        assertThat(concurrently.getDocuments()).isNotEmpty();
+        assertThat(concurrently.getConvictions()).isNotEmpty();
+    }
+
+    @Test
+    public void documentOrderIsStableHoweverTheQueriesInterleave() {
+        final var expected = documentService.offenderDocumentsFor(OFFENDER_ID, DocumentFilter.noFilter());
+
+        for (var i = 0; i < 10; i++) {
+            assertThat(documentService.offenderDocumentsFor(OFFENDER_ID, DocumentFilter.noFilter())).isEqualTo(expected);
+        }
+    }
+
+    private OffenderDocuments serially(Supplier<OffenderDocuments> query) {
+        final var target = AopTestUtils.getTargetObject(documentService);
+        final var concurrentQueryExecutor = ReflectionTestUtils.getField(target, "concurrentQueryExecutor");
+        ReflectionTestUtils.setField(target, "concurrentQueryExecutor", new ConcurrentQueryExecutor(transactionManager, false, 1, 1));
+        try {
+            return query.get();
+        } finally {
+            ReflectionTestUtils.setField(target, "concurrentQueryExecutor", concurrentQueryExecutor);
+        }
+    }
+}
@@ -0,0 +1,123 @@
+package uk.gov.justice.digital.delius.controller.secure;
+
+import org.junit.jupiter.api.Test;
+import uk.gov.justice.digital.delius.data.api.OffenderDeltaAcknowledgement;
+import uk.gov.justice.digital.delius.data.api.OffenderDeltas;
+import uk.gov.justice.digital.delius.jpa.dao.OffenderDelta;
+
+import java.util.Comparator;
+
+import static io.restassured.RestAssured.given;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.http.MediaType.APPLICATION_JSON_VALUE;
+
+public class OffenderDeltaResource_getOffenderDeltas extends IntegrationTestBase {
+    @Test
+    public void deltasAreReturnedInTheOrderTheyChangedOncePerOffender() {
+        final var deltas = getDeltas(null, 5000).getDeltas();
+
+        assertThat(deltas).isNotEmpty();
+        assertThat(deltas).extracting(OffenderDelta::getOffenderId).doesNotHaveDuplicates();
+        assertThat(deltas).isSortedAccordingTo(Comparator.comparing(OffenderDelta::getDateChanged).thenComparing(OffenderDelta::getOffenderId));
+        assertThat(deltas).extracting(OffenderDelta::getAction).containsAnyOf("UPSERT", "DELETE");
+    }
+
+    @Test
+    public void batchesCarryOnFromTheCursorOfThePreviousOne() {
+        final var all = getDeltas(null, 5000).getDeltas();
+        final var first = getDeltas(null, 2);
+        final var second = getDeltas(first.getCursor(), 2);
+
+        assertThat(first.getDeltas()).containsExactlyElementsOf(all.subList(0, 2));
+        assertThat(second.getDeltas()).containsExactlyElementsOf(all.subList(2, 4));
+    }
+
+    @Test
+    public void consumersCarryOnFromTheirAcknowledgedCursor() {
+        final var first = getDeltas(null, 2);
+
+        given()
+            .auth()
+            .oauth2(tokenWithRoleCommunity())
+            .contentType(APPLICATION_JSON_VALUE)
+            .body(OffenderDeltaAcknowledgement.builder().cursor(first.getCursor()).build())
+            .when()
+            .put("/offenders/deltas/consumers/probation-search-indexer/acknowledgement")
+            .then()
+            .statusCode(204);
+
+        final var next = given()
+            .auth()
+            .oauth2(tokenWithRoleCommunity())
+            .queryParam("limit", 2)
+            .when()
+            .get("/offenders/deltas/consumers/probation-search-indexer")
+            .then()
+            .statusCode(200)
+            .extract()
+            .body()
+            .as(OffenderDeltas.class);
+
+        assertThat(next).isEqualTo(getDeltas(first.getCursor(), 2));
+    }
+
+    @Test
+    public void clientsCannotMoveEachOthersConsumers() {
+        final var first = getDeltas(null, 2);
+        final var otherClientToken = jwtAuthenticationHelper.createJwt(createJwtBuilder("ROLE_COMMUNITY").clientId("other-client-id").build());
+
+        given()
+            .auth()
+            .oauth2(otherClientToken)
+            .contentType(APPLICATION_JSON_VALUE)
+            .body(OffenderDeltaAcknowledgement.builder().cursor(first.getCursor()).build())
+            .when()
+            .put("/offenders/deltas/consumers/case-notes-indexer/acknowledgement")
+            .then()
+            .statusCode(204);
+
+        final var next = given()
+            .auth()
+            .oauth2(tokenWithRoleCommunity())
+            .queryParam("limit", 2)
+            .when()
+            .get("/offenders/deltas/consumers/case-notes-indexer")
+            .then()
+            .statusCode(200)
+            .extract()
+            .body()
+            .as(OffenderDeltas.class);
+
+        assertThat(next).isEqualTo(first);
+    }
+
+    @Test
+    public void malformedCursorIsABadRequest() {
+        given()
+            .auth()
+            .oauth2(tokenWithRoleCommunity())
+            .queryParam("after", "not-a-cursor")
+            .when()
+            .get("/offenders/deltas")
+            .then()
+            .statusCode(400);
+    }
+
+    private OffenderDeltas getDeltas(String after, int limit) {
+        final var request = given()
+            .auth()
+            .oauth2(tokenWithRoleCommunity())
+            .queryParam("limit", limit);
+        if (after != null) {
+            request.queryParam("after", after);
+        }
+        return request
+            .when()
+            .get("/offenders/deltas")
+            .then()
+            .statusCode(200)
+            .extract()
+            .body()
+            .as(OffenderDeltas.class);
+    }
+}
@@ -0,0 +1,107 @@
+package uk.gov.justice.digital.delius.controller.secure;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import uk.gov.justice.digital.delius.data.api.PrimaryIdentifiers;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.List;
+
+import static io.restassured.RestAssured.given;
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class OffenderExportResource_exportOffenderPrimaryIdentifiers extends IntegrationTestBase {
+    private static final long X320741_OFFENDER_ID = 2500343964L;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    public void canExportIdentifiersAsNdjsonInOffenderIdOrder() {
+        final var identifiers = export("application/x-ndjson", "after", 0);
+
+        assertThat(identifiers).isNotEmpty();
+        assertThat(identifiers).extracting(PrimaryIdentifiers::getOffenderId).isSorted().doesNotHaveDuplicates();
+        assertThat(identifiers)
+            .filteredOn(offender -> offender.getOffenderId() == X320741_OFFENDER_ID)
+            .singleElement()
+            .hasFieldOrPropertyWithValue("crn", "X320741")
+            .hasFieldOrPropertyWithValue("nomsNumber", "G9542VP");
+    }
+
+    @Test
+    public void exportCanBeResumedAfterTheLastOffenderReceived() {
+        final var all = export("application/x-ndjson", "after", 0);
+        final var firstTwo = export("application/x-ndjson", "limit", 2);
+        final var rest = export("application/x-ndjson", "after", firstTwo.get(1).getOffenderId());
+
+        assertThat(firstTwo).containsExactlyElementsOf(all.subList(0, 2));
+        assertThat(rest).containsExactlyElementsOf(all.subList(2, all.size()));
+    }
+
+    @Test
+    public void canExportIdentifiersAsCsv() {
+        final var lines = given()
+            .auth()
+            .oauth2(tokenWithRoleCommunity())
+            .accept("text/csv")
+            .when()
+            .get("/offenders/primaryIdentifiers/export")
+            .then()
+            .statusCode(200)
+            .contentType("text/csv")
+            .extract()
+            .asString()
+            .lines()
+            .toList();
+
+        assertThat(lines.get(0)).isEqualTo("offenderId,crn,nomsNumber,pncNumber,croNumber");
+        assertThat(lines).anyMatch(line -> line.startsWith(X320741_OFFENDER_ID + ",X320741,G9542VP,"));
+    }
+
+    @Test
+    public void deletedOffendersAreOnlyExportedWhenAskedFor() {
+        jdbcTemplate.update("UPDATE OFFENDER SET SOFT_DELETED = 1 WHERE OFFENDER_ID = ?", X320741_OFFENDER_ID);
+        try {
+            final var withoutDeleted = export("application/x-ndjson", "includeDeleted", false);
+            final var withDeleted = export("application/x-ndjson", "includeDeleted", true);
+
+            assertThat(withoutDeleted).extracting(PrimaryIdentifiers::getOffenderId).doesNotContain(X320741_OFFENDER_ID);
+            assertThat(withDeleted).extracting(PrimaryIdentifiers::getOffenderId).contains(X320741_OFFENDER_ID);
+            assertThat(withDeleted).containsAll(withoutDeleted);
+        } finally {
+            jdbcTemplate.update("UPDATE OFFENDER SET SOFT_DELETED = 0 WHERE OFFENDER_ID = ?", X320741_OFFENDER_ID);
+        }
+    }
+
+    private List<PrimaryIdentifiers> export(String accept, String parameter, Object value) {
+        return given()
+            .auth()
+            .oauth2(tokenWithRoleCommunity())
+            .accept(accept)
+            .queryParam(parameter, value)
+            .when()
+            .get("/offenders/primaryIdentifiers/export")
+            .then()
+            .statusCode(200)
+            .extract()
+            .asString()
+            .lines()
+            .map(this::identifiersOf)
+            .toList();
+    }
+
+    private PrimaryIdentifiers identifiersOf(String line) {
+        try {
+            return objectMapper.readValue(line, PrimaryIdentifiers.class);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
@@ -0,0 +1,107 @@
+package uk.gov.justice.digital.delius.controller.secure;
+
+import org.junit.jupiter.api.Test;
+import uk.gov.justice.digital.delius.data.api.OffenderDetailSummary;
+
+import java.util.List;
+import java.util.stream.IntStream;
+
+import static io.restassured.RestAssured.given;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.http.MediaType.APPLICATION_JSON_VALUE;
+
+public class OffendersResource_getOffenderSummariesByCrns extends IntegrationTestBase {
+    @Test
+    public void canGetOffenderSummariesByCrns() {
+        final var summaries = getSummaries(tokenWithRoleCommunity(), List.of("X440877", "X320741", "X777777"));
+
+        assertThat(summaries)
+            .extracting(summary -> summary.getOtherIds().getCrn())
+            .containsExactly("X440877", "X320741");
+
+        assertThat(summaries.get(1))
+            .hasFieldOrPropertyWithValue("firstName", "Aadland")
+            .hasFieldOrPropertyWithValue("surname", "Bertrand")
+            .hasFieldOrPropertyWithValue("preferredName", "Bob");
+        assertThat(summaries.get(1).getOffenderProfile().getDisabilities()).hasSize(1);
+        assertThat(summaries.get(1).getOffenderProfile().getProvisions()).isNotEmpty();
+    }
+
+    @Test
+    public void summariesMatchThoseReturnedOneAtATime() {
+        final var summaries = getSummaries(tokenWithRoleCommunity(), List.of("X320741"));
+
+        final var summary = given()
+            .auth()
+            .oauth2(tokenWithRoleCommunity())
+            .contentType(APPLICATION_JSON_VALUE)
+            .when()
+            .get("/offenders/crn/X320741")
+            .then()
+            .statusCode(200)
+            .extract()
+            .body()
+            .as(OffenderDetailSummary.class);
+
+        assertThat(summaries).containsExactly(summary);
+    }
+
+    @Test
+    public void givenUserIsExcludedOrRestricted_thenThoseOffendersAreLeftOut() {
+        final var summaries = getSummaries(createJwtWithUsername("bob.jones", "ROLE_COMMUNITY"), List.of("X440877", "X440890", "X320741"));
+
+        assertThat(summaries)
+            .extracting(summary -> summary.getOtherIds().getCrn())
+            .containsExactly("X320741");
+    }
+
+    @Test
+    public void givenUserIsNotExcluded_thenOffenderIsIncluded() {
+        final var summaries = getSummaries(createJwtWithUsername("bernard.beaks", "ROLE_COMMUNITY"), List.of("X440877"));
+
+        assertThat(summaries)
+            .extracting(summary -> summary.getOtherIds().getCrn())
+            .containsExactly("X440877");
+    }
+
+    @Test
+    public void givenNoCrns_thenBadRequest() {
+        given()
+            .auth()
+            .oauth2(tokenWithRoleCommunity())
+            .contentType(APPLICATION_JSON_VALUE)
+            .body(List.of())
+            .when()
+            .post("/offenders/crns")
+            .then()
+            .statusCode(400);
+    }
+
+    @Test
+    public void givenTooManyCrns_thenBadRequest() {
+        given()
+            .auth()
+            .oauth2(tokenWithRoleCommunity())
+            .contentType(APPLICATION_JSON_VALUE)
+            .body(IntStream.rangeClosed(1, 501).mapToObj(i -> String.format("X%06d", i)).toList())
+            .when()
+            .post("/offenders/crns")
+            .then()
+            .statusCode(400);
+    }
+
+    private List<OffenderDetailSummary> getSummaries(String token, List<String> crns) {
+        return List.of(given()
+            .auth()
+            .oauth2(token)
+            .contentType(APPLICATION_JSON_VALUE)
+            .body(crns)
+            .when()
+            .post("/offenders/crns")
+            .then()
+            .statusCode(200)
+            .extract()
+            .body()
+            .as(OffenderDetailSummary[].class));
+    }
+}
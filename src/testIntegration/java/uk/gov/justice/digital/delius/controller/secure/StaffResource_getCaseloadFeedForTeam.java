@@ -0,0 +1,126 @@
+package uk.gov.justice.digital.delius.controller.secure;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import uk.gov.justice.digital.delius.data.api.CaseloadAllocation;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.sql.Date;
+import java.util.List;
+
+import static io.restassured.RestAssured.given;
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class StaffResource_getCaseloadFeedForTeam extends IntegrationTestBase {
+    private static final long TEAM_ID = 2500002140L;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private String teamCode;
+    private Date teamEndDate;
+
+    // the seeded team has since been closed, so it is reopened for the feed to find it
+    @BeforeEach
+    public void reopenTeam() {
+        teamCode = jdbcTemplate.queryForObject("SELECT CODE FROM TEAM WHERE TEAM_ID = ?", String.class, TEAM_ID);
+        teamEndDate = jdbcTemplate.queryForObject("SELECT END_DATE FROM TEAM WHERE TEAM_ID = ?", Date.class, TEAM_ID);
+        jdbcTemplate.update("UPDATE TEAM SET END_DATE = NULL WHERE TEAM_ID = ?", TEAM_ID);
+    }
+
+    @AfterEach
+    public void restoreTeam() {
+        jdbcTemplate.update("UPDATE TEAM SET END_DATE = ? WHERE TEAM_ID = ?", teamEndDate, TEAM_ID);
+    }
+
+    @Test
+    public void pagesCarryOnFromTheCursorOfTheLastAllocation() {
+        final var first = feed(null, 2);
+        assertThat(first).extracting(CaseloadAllocation::getCursor)
+            .containsExactly("2018-05-04.2502094560", "2018-05-04.2502094561");
+        assertThat(first).extracting(CaseloadAllocation::getOffenderCrn).containsExactly("CRN001", "CRN002");
+        assertThat(first).allSatisfy(allocation -> {
+            assertThat(allocation.getRoleCode()).isEqualTo("OM");
+            assertThat(allocation.getStaffIdentifier()).isEqualTo(11L);
+            assertThat(allocation.getStaff().getSurname()).isNotNull();
+        });
+
+        final var second = feed(first.get(1).getCursor(), 2);
+        assertThat(second).extracting(CaseloadAllocation::getCursor)
+            .containsExactly("2018-05-04.2502094562", "2018-05-04.2502094563");
+        assertThat(second).extracting(CaseloadAllocation::getRoleCode).containsExactly("OM", "OS");
+        assertThat(second.get(1).getEventId()).isEqualTo(1L);
+    }
+
+    @Test
+    public void unknownTeamIsNotFound() {
+        given()
+            .auth()
+            .oauth2(tokenWithRoleCommunity())
+            .when()
+            .get("team/XXXXXX/caseload/feed")
+            .then()
+            .statusCode(404);
+    }
+
+    @Test
+    public void malformedCursorIsABadRequest() {
+        given()
+            .auth()
+            .oauth2(tokenWithRoleCommunity())
+            .queryParam("after", "not-a-cursor")
+            .when()
+            .get("team/XXXXXX/caseload/feed")
+            .then()
+            .statusCode(400);
+    }
+
+    @Test
+    public void limitIsCapped() {
+        given()
+            .auth()
+            .oauth2(tokenWithRoleCommunity())
+            .queryParam("limit", 10001)
+            .when()
+            .get("team/XXXXXX/caseload/feed")
+            .then()
+            .statusCode(400);
+    }
+
+    private List<CaseloadAllocation> feed(String after, int limit) {
+        final var request = given()
+            .auth()
+            .oauth2(tokenWithRoleCommunity())
+            .accept("application/x-ndjson")
+            .queryParam("limit", limit);
+        if (after != null) {
+            request.queryParam("after", after);
+        }
+        return request
+            .when()
+            .get("team/{teamCode}/caseload/feed", teamCode)
+            .then()
+            .statusCode(200)
+            .extract()
+            .asString()
+            .lines()
+            .map(this::allocationOf)
+            .toList();
+    }
+
+    private CaseloadAllocation allocationOf(String line) {
+        try {
+            return objectMapper.readValue(line, CaseloadAllocation.class);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
@@ -0,0 +1,91 @@
+package uk.gov.justice.digital.delius.controller.secure;
+
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import uk.gov.justice.digital.delius.data.api.ManagedOffenderCrn;
+
+import static io.restassured.RestAssured.given;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.http.MediaType.APPLICATION_JSON_VALUE;
+
+public class StaffResource_getCaseloadOffendersForStaff extends IntegrationTestBase {
+    @Autowired
+    @Qualifier("standardEntityManager")
+    private EntityManagerFactory entityManagerFactory;
+
+    private Statistics statistics;
+
+    @BeforeEach
+    public void enableStatistics() {
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.setStatisticsEnabled(true);
+        statistics.clear();
+    }
+
+    @AfterEach
+    public void disableStatistics() {
+        statistics.setStatisticsEnabled(false);
+    }
+
+    @Test
+    public void canGetManagedOffendersForStaff() {
+        final var managedOffenders = given()
+            .auth()
+            .oauth2(tokenWithRoleCommunity())
+            .contentType(APPLICATION_JSON_VALUE)
+            .when()
+            .get("staff/staffIdentifier/11/caseload/managedOffenders")
+            .then()
+            .statusCode(200)
+            .extract()
+            .body()
+            .as(ManagedOffenderCrn[].class);
+
+        assertThat(managedOffenders)
+            .extracting(ManagedOffenderCrn::getOffenderCrn)
+            .containsExactlyInAnyOrder("CRN001", "CRN002", "CRN003");
+        assertThat(managedOffenders)
+            .allSatisfy(managedOffender -> {
+                assertThat(managedOffender.getStaffIdentifier()).isEqualTo(11L);
+                assertThat(managedOffender.getTeamIdentifier()).isEqualTo(2500002140L);
+                assertThat(managedOffender.getStaff().getSurname()).isNotNull();
+                assertThat(managedOffender.getTeam().getEmailAddress()).isEqualTo("Sheila.HancockNPS@moj.gov.uk");
+                assertThat(managedOffender.getTeam().getDistrict()).isNotNull();
+                assertThat(managedOffender.getTeam().getBorough()).isNotNull();
+            });
+    }
+
+    @Test
+    public void caseloadIsReadWithoutLoadingStaffOrTeams() {
+        given()
+            .auth()
+            .oauth2(tokenWithRoleCommunity())
+            .contentType(APPLICATION_JSON_VALUE)
+            .when()
+            .get("staff/staffIdentifier/11/caseload/managedOffenders")
+            .then()
+            .statusCode(200);
+
+        // one to check the staff member exists and one for the caseload, however many cases they have
+        assertThat(statistics.getPrepareStatementCount()).isLessThanOrEqualTo(2);
+        assertThat(statistics.getEntityLoadCount()).isZero();
+    }
+
+    @Test
+    public void unknownStaffIsNotFound() {
+        given()
+            .auth()
+            .oauth2(tokenWithRoleCommunity())
+            .contentType(APPLICATION_JSON_VALUE)
+            .when()
+            .get("staff/staffIdentifier/99999/caseload/managedOffenders")
+            .then()
+            .statusCode(404);
+    }
+}
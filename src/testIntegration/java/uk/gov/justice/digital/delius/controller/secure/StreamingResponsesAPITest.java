@@ -0,0 +1,55 @@
+package uk.gov.justice.digital.delius.controller.secure;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.test.context.TestPropertySource;
+import uk.gov.justice.digital.delius.data.api.CourtAppearanceMinimal;
+import uk.gov.justice.digital.delius.service.CourtAppearanceService;
+
+import java.time.Duration;
+import java.util.function.Consumer;
+
+import static io.restassured.RestAssured.given;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.doAnswer;
+
+@TestPropertySource(properties = {
+    "spring.mvc.async.request-timeout=1s",
+    "streaming-responses.timeout=10s"
+})
+public class StreamingResponsesAPITest extends IntegrationTestBase {
+    // longer than the default async timeout above, well inside the streaming one
+    private static final Duration PAUSE = Duration.ofSeconds(2);
+
+    @MockBean
+    private CourtAppearanceService courtAppearanceService;
+
+    @Test
+    public void slowBodyIsNotCutOffAtTheDefaultAsyncTimeout() {
+        doAnswer(invocation -> {
+            final Consumer<CourtAppearanceMinimal> action = invocation.getArgument(4);
+            action.accept(CourtAppearanceMinimal.builder().courtAppearanceId(1L).build());
+            Thread.sleep(PAUSE.toMillis());
+            action.accept(CourtAppearanceMinimal.builder().courtAppearanceId(2L).build());
+            return null;
+        }).when(courtAppearanceService).forEachCourtAppearance(any(), any(), any(), anyInt(), any());
+
+        final var lines = given()
+            .auth().oauth2(tokenWithRoleCommunity())
+            .accept("application/x-ndjson")
+            .queryParam("fromDate", "2019-09-04")
+            .when()
+            .get("/courtAppearances/feed")
+            .then()
+            .statusCode(200)
+            .contentType("application/x-ndjson")
+            .extract()
+            .asString()
+            .lines()
+            .toList();
+
+        assertThat(lines).hasSize(2);
+    }
+}
@@ -5,6 +5,7 @@ import com.github.tomakehurst.wiremock.core.WireMockConfiguration;
 import org.springframework.http.HttpHeaders;
 
 import static com.github.tomakehurst.wiremock.client.WireMock.aResponse;
+import static com.github.tomakehurst.wiremock.client.WireMock.equalTo;
 import static com.github.tomakehurst.wiremock.client.WireMock.get;
 import static com.github.tomakehurst.wiremock.client.WireMock.urlMatching;
 import static java.lang.String.format;
@@ -25,6 +26,20 @@ public class AlfrescoMockServer extends WireMockServer {
                 ));
     }
 
+    public void stubDetailsFailure(final String documentId, final int status) {
+        stubFor(get(urlMatching(format("/alfresco/s/noms-spg/details/%s", documentId)))
+                .willReturn(aResponse()
+                        .withStatus(status)
+                ));
+    }
+
+    public void stubFetchDocumentFailure(final String documentId, final int status) {
+        stubFor(get(urlMatching(format("/alfresco/s/noms-spg/fetch/%s", documentId)))
+                .willReturn(aResponse()
+                        .withStatus(status)
+                ));
+    }
+
     public void stubFetchDocument(final String documentId, final byte[] body) {
         stubFor(get(urlMatching(format("/alfresco/s/noms-spg/fetch/%s", documentId)))
                 .willReturn(aResponse()
@@ -33,4 +48,44 @@ public class AlfrescoMockServer extends WireMockServer {
                         .withBody(body)
                 ));
     }
+
+    public void stubFetchDocumentRange(final String documentId, final String range, final String contentRange, final byte[] body) {
+        stubFor(get(urlMatching(format("/alfresco/s/noms-spg/fetch/%s", documentId)))
+                .withHeader(HttpHeaders.RANGE, equalTo(range))
+                .willReturn(aResponse()
+                        .withHeader(HttpHeaders.CONTENT_TYPE, "application/pdf")
+                        .withHeader(HttpHeaders.CONTENT_RANGE, contentRange)
+                        .withStatus(206)
+                        .withBody(body)
+                ));
+    }
+
+    public void stubFetchDocumentNotModified(final String documentId, final String etag) {
+        stubFor(get(urlMatching(format("/alfresco/s/noms-spg/fetch/%s", documentId)))
+                .withHeader(HttpHeaders.IF_NONE_MATCH, equalTo(etag))
+                .willReturn(aResponse()
+                        .withHeader(HttpHeaders.ETAG, etag)
+                        .withStatus(304)
+                ));
+    }
+
+    public void stubDetailsSuccess(final String documentId, final String crn, final String documentName, final int delayMillis) {
+        stubFor(get(urlMatching(format("/alfresco/s/noms-spg/details/%s", documentId)))
+                .willReturn(aResponse()
+                        .withHeader(HttpHeaders.CONTENT_TYPE, "application/json")
+                        .withStatus(200)
+                        .withFixedDelay(delayMillis)
+                        .withBody(format("{ \"crn\": \"%s\", \"name\": \"%s\" }", crn, documentName))
+                ));
+    }
+
+    public void stubFetchDocument(final String documentId, final byte[] body, final int delayMillis) {
+        stubFor(get(urlMatching(format("/alfresco/s/noms-spg/fetch/%s", documentId)))
+                .willReturn(aResponse()
+                        .withHeader(HttpHeaders.CONTENT_TYPE, "application/pdf")
+                        .withStatus(200)
+                        .withFixedDelay(delayMillis)
+                        .withBody(body)
+                ));
+    }
 }
@@ -0,0 +1,72 @@
+package uk.gov.justice.digital.delius.jpa.standard.repository;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.data.domain.Limit;
+import org.springframework.test.context.ActiveProfiles;
+
+import jakarta.transaction.Transactional;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+@ActiveProfiles("dev-seed")
+@Transactional
+public class CaseloadRepositoryTest {
+    private static final long TEAM_ID = 2500002140L;
+
+    @LocalServerPort
+    int port;
+
+    @Autowired
+    private CaseloadRepository caseloadRepository;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Test
+    public void teamCaseloadIsPagedByCursor() {
+        final var firstPage = page(CaseloadCursor.START, 2);
+        assertThat(firstPage).extracting(CaseloadEntry::crn).containsExactly("CRN001", "CRN002");
+
+        final var secondPage = page(CaseloadCursor.of(firstPage.get(1)), 2);
+        assertThat(secondPage).extracting(CaseloadEntry::crn).containsExactly("CRN003");
+
+        assertThat(page(CaseloadCursor.of(secondPage.get(0)), 2)).isEmpty();
+    }
+
+    @Test
+    public void entriesAllocatedOnTheSameDateAreOrderedByCaseloadId() {
+        assertThat(page(CaseloadCursor.START, 10))
+            .extracting(CaseloadEntry::caseloadId)
+            .isSorted();
+    }
+
+    @Test
+    public void undatedEntriesArePagedBeforeDatedOnes() {
+        entityManager.createNativeQuery("UPDATE CASELOAD SET ALLOCATION_DATE = NULL WHERE CRN = 'CRN002'").executeUpdate();
+
+        final var firstPage = page(CaseloadCursor.START, 2);
+        assertThat(firstPage).extracting(CaseloadEntry::crn).containsExactly("CRN002", "CRN001");
+        assertThat(CaseloadCursor.of(firstPage.get(0)).isUndated()).isTrue();
+
+        final var secondPage = page(CaseloadCursor.parse(CaseloadCursor.of(firstPage.get(1)).toString()), 2);
+        assertThat(secondPage).extracting(CaseloadEntry::crn).containsExactly("CRN003");
+
+        assertThat(page(CaseloadCursor.parse(CaseloadCursor.of(firstPage.get(0)).toString()), 2))
+            .extracting(CaseloadEntry::crn)
+            .containsExactly("CRN001", "CRN003");
+    }
+
+    private List<CaseloadEntry> page(CaseloadCursor after, int limit) {
+        try (final var entries = caseloadRepository.streamEntriesByTeamIdAndRoleCodeInAfter(
+            TEAM_ID, List.of("OM"), after, Limit.of(limit))) {
+            return entries.toList();
+        }
+    }
+}
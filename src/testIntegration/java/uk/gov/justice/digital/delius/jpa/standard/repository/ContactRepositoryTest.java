@@ -0,0 +1,107 @@
+package uk.gov.justice.digital.delius.jpa.standard.repository;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import jakarta.persistence.PersistenceContext;
+import jakarta.transaction.Transactional;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.test.context.ActiveProfiles;
+import uk.gov.justice.digital.delius.service.AttendanceService;
+
+import java.time.LocalDate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+@ActiveProfiles("dev-seed")
+@Transactional
+public class ContactRepositoryTest {
+    private static final long OFFENDER_ID = 2500343964L;
+    private static final long EVENT_ID = 2500295343L;
+    // an attended national standards appointment with an outcome, so it is one of the event's attendances
+    private static final long ATTENDANCE_CONTACT_ID = 2502719240L;
+    private static final int COPIES = 500;
+
+    @LocalServerPort
+    int port;
+
+    @Autowired
+    private ContactRepository contactRepository;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Autowired
+    @Qualifier("standardEntityManager")
+    private EntityManagerFactory entityManagerFactory;
+
+    private Statistics statistics;
+
+    @BeforeEach
+    public void copyAttendanceContact() {
+        entityManager.createNativeQuery("INSERT INTO CONTACT (CONTACT_ID, CONTACT_DATE, OFFENDER_ID, VISOR_CONTACT, STAFF_ID, TEAM_ID, " +
+                "SOFT_DELETED, VISOR_EXPORTED, PARTITION_AREA_ID, ROW_VERSION, ATTENDED, CREATED_DATETIME, LAST_UPDATED_DATETIME, EVENT_ID, " +
+                "CONTACT_TYPE_ID, CONTACT_OUTCOME_TYPE_ID, CREATED_BY_USER_ID, LAST_UPDATED_USER_ID, TRUST_PROVIDER_FLAG, STAFF_EMPLOYEE_ID, " +
+                "PROBATION_AREA_ID, TRUST_PROVIDER_TEAM_ID) " +
+                "SELECT 2600000000 + X, CONTACT_DATE, OFFENDER_ID, VISOR_CONTACT, STAFF_ID, TEAM_ID, " +
+                "SOFT_DELETED, VISOR_EXPORTED, PARTITION_AREA_ID, ROW_VERSION, ATTENDED, CREATED_DATETIME, LAST_UPDATED_DATETIME, EVENT_ID, " +
+                "CONTACT_TYPE_ID, CONTACT_OUTCOME_TYPE_ID, CREATED_BY_USER_ID, LAST_UPDATED_USER_ID, TRUST_PROVIDER_FLAG, STAFF_EMPLOYEE_ID, " +
+                "PROBATION_AREA_ID, TRUST_PROVIDER_TEAM_ID " +
+                "FROM CONTACT, SYSTEM_RANGE(1, " + COPIES + ") WHERE CONTACT_ID = " + ATTENDANCE_CONTACT_ID)
+            .executeUpdate();
+        entityManager.clear();
+
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.setStatisticsEnabled(true);
+        statistics.clear();
+    }
+
+    @AfterEach
+    public void disableStatistics() {
+        statistics.setStatisticsEnabled(false);
+    }
+
+    @Test
+    public void attendancesAreReadInASingleStatementHoweverManyContactsTheEventHas() {
+        final var contacts = contactRepository.findByOffenderIdAndEventId(OFFENDER_ID, EVENT_ID, LocalDate.now());
+        final var attendances = AttendanceService.attendancesFor(contacts);
+
+        assertThat(attendances).hasSizeGreaterThan(COPIES);
+        assertThat(attendances).allSatisfy(attendance -> assertThat(attendance.getOutcome()).isNotNull());
+        // the contacts with their type, outcome and enforcement joined in, rather than a statement per contact
+        assertThat(statistics.getPrepareStatementCount()).isLessThanOrEqualTo(2);
+    }
+
+    @Test
+    public void pageOfAttendancesIsReadWithoutCountingThemAll() {
+        final var contacts = contactRepository.findByOffenderIdAndEventId(OFFENDER_ID, EVENT_ID, LocalDate.now(), PageRequest.of(1, 10));
+
+        assertThat(contacts).hasSize(10);
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+    }
+
+    @Test
+    public void attendancesWithUnsetFlagsAreCountedWithThoseFlaggedN() {
+        entityManager.createNativeQuery("UPDATE CONTACT SET COMPLIED = CASE WHEN MOD(CONTACT_ID, 2) = 0 THEN NULL ELSE 'N' END " +
+                "WHERE CONTACT_ID > 2600000000")
+            .executeUpdate();
+
+        final var counts = contactRepository.countAttendancesByOutcome(OFFENDER_ID, EVENT_ID, LocalDate.now());
+
+        assertThat(counts)
+            .extracting(AttendanceCount::outcomeCode, AttendanceCount::attended, AttendanceCount::complied)
+            .doesNotHaveDuplicates();
+        assertThat(counts).extracting(AttendanceCount::complied).doesNotContainNull();
+        assertThat(counts.stream().mapToLong(AttendanceCount::count).sum())
+            .isEqualTo(contactRepository.findByOffenderIdAndEventId(OFFENDER_ID, EVENT_ID, LocalDate.now()).size());
+    }
+}
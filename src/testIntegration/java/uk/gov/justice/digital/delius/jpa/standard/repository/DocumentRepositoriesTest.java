@@ -0,0 +1,132 @@
+package uk.gov.justice.digital.delius.jpa.standard.repository;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import jakarta.persistence.PersistenceContext;
+import jakarta.transaction.Transactional;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.test.context.ActiveProfiles;
+import uk.gov.justice.digital.delius.jpa.filters.CourtReportDocumentFilterTransformer;
+import uk.gov.justice.digital.delius.jpa.standard.entity.CourtAppearance;
+import uk.gov.justice.digital.delius.jpa.standard.entity.CourtReport;
+import uk.gov.justice.digital.delius.jpa.standard.entity.Document;
+import uk.gov.justice.digital.delius.jpa.standard.entity.Document.DocumentType;
+import uk.gov.justice.digital.delius.jpa.standard.entity.User;
+import uk.gov.justice.digital.delius.transformers.DocumentTransformer;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+@ActiveProfiles("dev-seed")
+@Transactional
+public class DocumentRepositoriesTest {
+    private static final long OFFENDER_ID = 2500343964L;
+    private static final long EVENT_ID = 2500295343L;
+    // a conviction document of the event above
+    private static final long EVENT_DOCUMENT_ID = 2500144218L;
+    private static final int COPIES = 50;
+
+    @LocalServerPort
+    int port;
+
+    @Autowired
+    private EventDocumentRepository eventDocumentRepository;
+
+    @Autowired
+    private CourtReportDocumentRepository courtReportDocumentRepository;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Autowired
+    @Qualifier("standardEntityManager")
+    private EntityManagerFactory entityManagerFactory;
+
+    private Statistics statistics;
+
+    @BeforeEach
+    public void enableStatistics() {
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.setStatisticsEnabled(true);
+    }
+
+    @AfterEach
+    public void disableStatistics() {
+        statistics.setStatisticsEnabled(false);
+    }
+
+    @Test
+    public void eventDocumentsAreReadWithTheSameStatementsHoweverManyEventsTheyBelongTo() {
+        final var statementsWithSeedDocuments = statementsToReadEventDocuments();
+
+        // a copy of the document for each of a copy of its event, each with its own parent to load
+        entityManager.createNativeQuery("INSERT INTO EVENT (EVENT_ID, OFFENDER_ID, EVENT_NUMBER, REFERRAL_DATE, SOFT_DELETED, PARTITION_AREA_ID, " +
+                "ROW_VERSION, CREATED_BY_USER_ID, CREATED_DATETIME, LAST_UPDATED_USER_ID, LAST_UPDATED_DATETIME, IN_BREACH, ACTIVE_FLAG, " +
+                "FTC_COUNT, PENDING_TRANSFER, PSS_RQMNT_FLAG) " +
+                "SELECT 2600000000 + X, OFFENDER_ID, EVENT_NUMBER, REFERRAL_DATE, SOFT_DELETED, PARTITION_AREA_ID, " +
+                "ROW_VERSION, CREATED_BY_USER_ID, CREATED_DATETIME, LAST_UPDATED_USER_ID, LAST_UPDATED_DATETIME, IN_BREACH, ACTIVE_FLAG, " +
+                "FTC_COUNT, PENDING_TRANSFER, PSS_RQMNT_FLAG " +
+                "FROM EVENT, SYSTEM_RANGE(1, " + COPIES + ") WHERE EVENT_ID = " + EVENT_ID)
+            .executeUpdate();
+        entityManager.createNativeQuery("INSERT INTO DOCUMENT (DOCUMENT_ID, OFFENDER_ID, TABLE_NAME, PRIMARY_KEY_ID, LAST_SAVED, SOFT_DELETED, " +
+                "ROW_VERSION, STATUS, WORK_IN_PROGRESS, PARTITION_AREA_ID, LAST_UPDATED_USER_ID, TEMPLATE_NAME, DOCUMENT_NAME, " +
+                "LAST_UPD_AUTHOR_PROVIDER_ID, CREATED_PROVIDER_ID, CREATED_BY_USER_ID, CREATED_DATETIME, ALFRESCO_DOCUMENT_ID, PUBLISHED) " +
+                "SELECT 2600000000 + X, OFFENDER_ID, TABLE_NAME, 2600000000 + X, LAST_SAVED, SOFT_DELETED, " +
+                "ROW_VERSION, STATUS, WORK_IN_PROGRESS, PARTITION_AREA_ID, LAST_UPDATED_USER_ID, TEMPLATE_NAME, DOCUMENT_NAME, " +
+                "LAST_UPD_AUTHOR_PROVIDER_ID, CREATED_PROVIDER_ID, CREATED_BY_USER_ID, CREATED_DATETIME, ALFRESCO_DOCUMENT_ID || '-' || X, PUBLISHED " +
+                "FROM DOCUMENT, SYSTEM_RANGE(1, " + COPIES + ") WHERE DOCUMENT_ID = " + EVENT_DOCUMENT_ID)
+            .executeUpdate();
+
+        assertThat(statementsToReadEventDocuments()).isEqualTo(statementsWithSeedDocuments);
+    }
+
+    @Test
+    public void courtReportDocumentsAreReadWithTheirReportsWithoutRepeatingAnyDocument() {
+        entityManager.clear();
+        statistics.clear();
+
+        final var documents = courtReportDocumentRepository.findAll(CourtReportDocumentFilterTransformer.of(OFFENDER_ID, null));
+        DocumentTransformer.offenderDocumentsDetailsOfCourtReportDocuments(documents);
+        documents.forEach(document -> document.getCourtReport().getCourtAppearance().getEvent().getEventId());
+
+        assertThat(documents).isNotEmpty();
+        assertThat(ids(documents)).doesNotHaveDuplicates().hasSize(liveDocumentsOf("COURT_REPORT"));
+        // fetched along with the documents rather than by a select of their own for each document
+        List.of(CourtReport.class, CourtAppearance.class, User.class).forEach(entity ->
+            assertThat(statistics.getEntityStatistics(entity.getName()).getFetchCount()).as(entity.getSimpleName()).isZero());
+    }
+
+    private long statementsToReadEventDocuments() {
+        entityManager.clear();
+        statistics.clear();
+
+        final var documents = eventDocumentRepository.findByOffenderId(OFFENDER_ID, DocumentType.DOCUMENT);
+        DocumentTransformer.offenderDocumentsDetailsOfEventDocuments(documents);
+        documents.forEach(document -> document.getEvent().getEventId());
+
+        final var statements = statistics.getPrepareStatementCount();
+        assertThat(documents).isNotEmpty();
+        assertThat(ids(documents)).doesNotHaveDuplicates().hasSize(liveDocumentsOf("EVENT"));
+        return statements;
+    }
+
+    private int liveDocumentsOf(String tableName) {
+        return ((Number) entityManager.createNativeQuery("SELECT COUNT(*) FROM DOCUMENT WHERE OFFENDER_ID = " + OFFENDER_ID +
+                " AND TABLE_NAME = '" + tableName + "' AND DOCUMENT_TYPE = 'DOCUMENT' AND SOFT_DELETED = 0")
+            .getSingleResult()).intValue();
+    }
+
+    private static List<Long> ids(List<? extends Document> documents) {
+        return documents.stream().map(Document::getDocumentId).toList();
+    }
+}
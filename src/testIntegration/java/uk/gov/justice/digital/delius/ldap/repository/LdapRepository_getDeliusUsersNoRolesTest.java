@@ -0,0 +1,74 @@
+package uk.gov.justice.digital.delius.ldap.repository;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.SpyBean;
+import org.springframework.ldap.core.LdapTemplate;
+import org.springframework.ldap.query.LdapQuery;
+import org.springframework.test.context.TestPropertySource;
+import uk.gov.justice.digital.delius.ldap.repository.entity.NDeliusUser;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.clearInvocations;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.springframework.boot.test.context.SpringBootTest.WebEnvironment.NONE;
+
+@SpringBootTest(webEnvironment = NONE)
+@TestPropertySource(properties = "delius.ldap.users.batch-size=3")
+public class LdapRepository_getDeliusUsersNoRolesTest {
+    @Autowired
+    private LdapRepository ldapRepository;
+
+    @SpyBean(name = "authenticationTemplate")
+    private LdapTemplate authenticationTemplate;
+
+    @BeforeEach
+    public void setUp() {
+        clearInvocations(authenticationTemplate);
+    }
+
+    @Test
+    public void shouldReturnAttributesForEachUserFound() {
+        final var users = ldapRepository.getDeliusUsersNoRoles(List.of("JimSnowLdap", "SheilaHancockNPS", "NotAUser"));
+
+        assertThat(users).containsOnlyKeys("JimSnowLdap", "SheilaHancockNPS");
+        assertThat(users.get("JimSnowLdap").getTelephoneNumber()).isEqualTo("01512112121");
+        assertThat(users.get("JimSnowLdap").getMail()).isEqualTo("jim.snow@justice.gov.uk");
+        assertThat(users.get("SheilaHancockNPS").getMail()).isEqualTo("sheila.hancock@justice.gov.uk");
+        assertThat(users.get("SheilaHancockNPS").getRoles()).isNull();
+    }
+
+    @Test
+    public void shouldMatchUsernamesIgnoringCase() {
+        final var users = ldapRepository.getDeliusUsersNoRoles(List.of("jimsnowldap"));
+
+        assertThat(users.get("JIMSNOWLDAP").getMail()).isEqualTo("jim.snow@justice.gov.uk");
+    }
+
+    @Test
+    public void shouldSearchOncePerBatchRegardlessOfUsersInTheBatch() {
+        ldapRepository.getDeliusUsersNoRoles(List.of("JimSnowLdap"));
+        verify(authenticationTemplate, times(1)).find(any(LdapQuery.class), eq(NDeliusUser.class));
+
+        clearInvocations(authenticationTemplate);
+
+        ldapRepository.getDeliusUsersNoRoles(List.of("JimSnowLdap", "SheilaHancockNPS", "SheilaHancockDup"));
+        verify(authenticationTemplate, times(1)).find(any(LdapQuery.class), eq(NDeliusUser.class));
+    }
+
+    @Test
+    public void shouldSplitLargeUsernameListsIntoBatches() {
+        final var users = ldapRepository.getDeliusUsersNoRoles(
+            List.of("JimSnowLdap", "SheilaHancockNPS", "SheilaHancockDup", "EmailNotPresentNPS", "bernard.beaks"));
+
+        assertThat(users).hasSize(5);
+        verify(authenticationTemplate, times(2)).find(any(LdapQuery.class), eq(NDeliusUser.class));
+    }
+}
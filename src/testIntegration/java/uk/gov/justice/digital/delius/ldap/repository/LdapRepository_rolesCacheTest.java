@@ -0,0 +1,69 @@
+package uk.gov.justice.digital.delius.ldap.repository;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.ldap.core.LdapTemplate;
+import org.springframework.test.annotation.DirtiesContext;
+import uk.gov.justice.digital.delius.ldap.repository.entity.NDeliusRole;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.boot.test.context.SpringBootTest.WebEnvironment.NONE;
+import static org.springframework.test.annotation.DirtiesContext.MethodMode.AFTER_METHOD;
+
+@SpringBootTest(webEnvironment = NONE)
+public class LdapRepository_rolesCacheTest {
+    @Autowired
+    private LdapRepository ldapRepository;
+
+    @Autowired
+    @Qualifier("authenticationTemplate")
+    private LdapTemplate authenticationTemplate;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Test
+    @DirtiesContext(methodMode = AFTER_METHOD)
+    public void rolesAreNotReadFromTheDirectoryAgainUntilARoleIsAdded() {
+        assertThat(ldapRepository.getDeliusUser("bernard.beaks").get().getRoles())
+                .extracting(NDeliusRole::getCn)
+                .containsExactly("UWBT060");
+        final var rolesRead = rolesReadFromTheDirectory();
+
+        // removed behind the repository's back, so only a read from the directory would notice
+        authenticationTemplate.unbind("cn=UWBT060,cn=bernard.beaks,ou=Users,dc=moj,dc=com");
+
+        assertThat(ldapRepository.getDeliusUser("Bernard.Beaks").get().getRoles())
+                .extracting(NDeliusRole::getCn)
+                .containsExactly("UWBT060");
+        assertThat(rolesReadFromTheDirectory()).isEqualTo(rolesRead);
+
+        ldapRepository.addRole("bernard.beaks", "CWBT001");
+
+        assertThat(ldapRepository.getDeliusUser("bernard.beaks").get().getRoles())
+                .extracting(NDeliusRole::getCn)
+                .containsExactly("CWBT001");
+        assertThat(rolesReadFromTheDirectory()).isEqualTo(rolesRead + 1);
+    }
+
+    @Test
+    public void roleCatalogueIsReadFromTheDirectoryOnce() {
+        ldapRepository.getAllRoles();
+        final var cataloguesRead = directoryRequests("roleCatalogue");
+
+        assertThat(ldapRepository.getAllRoles()).containsOnly("CWBT001", "CWBT001a", "UWBT060");
+        assertThat(directoryRequests("roleCatalogue")).isEqualTo(cataloguesRead);
+    }
+
+    private long rolesReadFromTheDirectory() {
+        return directoryRequests("roles");
+    }
+
+    private long directoryRequests(String operation) {
+        final var timer = meterRegistry.find("delius.ldap.request").tag("operation", operation).timer();
+        return timer == null ? 0 : timer.count();
+    }
+}
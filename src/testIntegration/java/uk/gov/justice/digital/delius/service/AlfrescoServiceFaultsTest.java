@@ -0,0 +1,131 @@
+package uk.gov.justice.digital.delius.service;
+
+import io.github.resilience4j.bulkhead.BulkheadFullException;
+import io.github.resilience4j.circuitbreaker.CallNotPermittedException;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.client.AutoConfigureWebClient;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpStatus;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+import uk.gov.justice.digital.delius.config.AlfrescoConfig;
+import uk.gov.justice.digital.delius.controller.wiremock.AlfrescoExtension;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeoutException;
+
+import static com.github.tomakehurst.wiremock.client.WireMock.getRequestedFor;
+import static com.github.tomakehurst.wiremock.client.WireMock.urlMatching;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.springframework.test.annotation.DirtiesContext.ClassMode.AFTER_EACH_TEST_METHOD;
+
+@SpringBootTest(classes = {AlfrescoConfig.class, AlfrescoService.class, SimpleMeterRegistry.class},
+properties = {
+        "alfresco.X-DocRepository-Remote-User=any_remote_user",
+        "alfresco.X-DocRepository-Real-Remote-User=any_real_user",
+        "alfresco.timeouts.details=1s",
+        "alfresco.bulkhead.max-concurrent-calls=2",
+        "alfresco.circuit-breaker.failure-rate-threshold=50",
+        "alfresco.circuit-breaker.sliding-window-size=2"
+})
+@AutoConfigureWebClient
+@ExtendWith(AlfrescoExtension.class)
+// each test starts with an empty bulkhead and a closed circuit
+@DirtiesContext(classMode = AFTER_EACH_TEST_METHOD)
+public class AlfrescoServiceFaultsTest {
+    private static final int HANG_MILLIS = 3000;
+
+    @Autowired
+    private AlfrescoService alfrescoService;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Test
+    public void detailsThatTakeTooLongAreAbandoned() {
+        AlfrescoExtension.alfrescoMockServer.stubDetailsSuccess("123", "T1234", "document.pdf", HANG_MILLIS);
+
+        final var started = System.nanoTime();
+        assertThatThrownBy(() -> alfrescoService.getDocument("123", "T1234"))
+            .isInstanceOf(AlfrescoUnavailableException.class)
+            .hasCauseInstanceOf(TimeoutException.class);
+
+        assertThat(Duration.ofNanos(System.nanoTime() - started)).isLessThan(Duration.ofMillis(HANG_MILLIS));
+        assertThat(meterRegistry.get("alfresco.request.timeouts").tag("operation", "details").counter().count()).isEqualTo(1);
+    }
+
+    @Test
+    public void requestsBeyondTheBulkheadAreTurnedAwayWithoutWaiting() throws InterruptedException {
+        AlfrescoExtension.alfrescoMockServer.stubDetailsSuccess("123", "T1234", "document.pdf", HANG_MILLIS);
+        final var held = CompletableFuture.allOf(
+            CompletableFuture.runAsync(() -> alfrescoService.getDocumentDetail("123", "T1234")),
+            CompletableFuture.runAsync(() -> alfrescoService.getDocumentDetail("123", "T1234")));
+        awaitRequestsInFlight(2);
+
+        final var started = System.nanoTime();
+        assertThatThrownBy(() -> alfrescoService.getDocumentDetail("123", "T1234"))
+            .isInstanceOf(AlfrescoUnavailableException.class)
+            .hasCauseInstanceOf(BulkheadFullException.class);
+
+        assertThat(Duration.ofNanos(System.nanoTime() - started)).isLessThan(Duration.ofMillis(100));
+        assertThat(meterRegistry.get("alfresco.request.rejected").tag("operation", "details").tag("reason", "bulkhead-full").counter().count()).isEqualTo(1);
+        held.exceptionally(e -> null).join();
+        assertThat(meterRegistry.get("alfresco.requests.in.flight").gauge().value()).isZero();
+    }
+
+    @Test
+    public void alfrescoIsNotCalledOnceMostRecentCallsHaveFailed() {
+        AlfrescoExtension.alfrescoMockServer.stubDetailsFailure("123", 500);
+
+        for (var i = 0; i < 2; i++) {
+            assertThatThrownBy(() -> alfrescoService.getDocumentDetail("123", "T1234"))
+                .isInstanceOf(WebClientResponseException.InternalServerError.class);
+        }
+        assertThatThrownBy(() -> alfrescoService.getDocumentDetail("123", "T1234"))
+            .isInstanceOf(AlfrescoUnavailableException.class)
+            .hasCauseInstanceOf(CallNotPermittedException.class);
+
+        AlfrescoExtension.alfrescoMockServer.verify(2, getRequestedFor(urlMatching("/alfresco/s/noms-spg/details/123")));
+        assertThat(meterRegistry.get("alfresco.request.rejected").tag("operation", "details").tag("reason", "circuit-open").counter().count()).isEqualTo(1);
+    }
+
+    @Test
+    public void documentsAlfrescoFailsToFetchCountTowardsOpeningTheCircuit() {
+        AlfrescoExtension.alfrescoMockServer.stubDetailsSuccess("123", "T1234", "document.pdf");
+        AlfrescoExtension.alfrescoMockServer.stubFetchDocumentFailure("123", 500);
+
+        // the details succeed and the fetch fails, which is half of the last two calls
+        assertThat(alfrescoService.getDocument("123", "T1234").getStatusCode()).isEqualTo(HttpStatus.INTERNAL_SERVER_ERROR);
+        assertThatThrownBy(() -> alfrescoService.getDocument("123", "T1234"))
+            .isInstanceOf(AlfrescoUnavailableException.class)
+            .hasCauseInstanceOf(CallNotPermittedException.class);
+
+        AlfrescoExtension.alfrescoMockServer.verify(1, getRequestedFor(urlMatching("/alfresco/s/noms-spg/fetch/123")));
+    }
+
+    @Test
+    public void documentsThatAreNotFoundDoNotOpenTheCircuit() {
+        AlfrescoExtension.alfrescoMockServer.stubDetailsFailure("123", 404);
+
+        for (var i = 0; i < 3; i++) {
+            assertThatThrownBy(() -> alfrescoService.getDocumentDetail("123", "T1234"))
+                .isInstanceOf(WebClientResponseException.NotFound.class);
+        }
+
+        AlfrescoExtension.alfrescoMockServer.verify(3, getRequestedFor(urlMatching("/alfresco/s/noms-spg/details/123")));
+    }
+
+    private void awaitRequestsInFlight(int requests) throws InterruptedException {
+        final var gauge = meterRegistry.get("alfresco.requests.in.flight").gauge();
+        for (var i = 0; i < 100 && gauge.value() < requests; i++) {
+            Thread.sleep(10);
+        }
+        assertThat(gauge.value()).isEqualTo(requests);
+    }
+}
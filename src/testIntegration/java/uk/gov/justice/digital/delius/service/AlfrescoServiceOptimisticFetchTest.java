@@ -0,0 +1,89 @@
+package uk.gov.justice.digital.delius.service;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.client.AutoConfigureWebClient;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpStatus;
+import uk.gov.justice.digital.delius.config.AlfrescoConfig;
+import uk.gov.justice.digital.delius.controller.wiremock.AlfrescoExtension;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+import static com.github.tomakehurst.wiremock.client.WireMock.getRequestedFor;
+import static com.github.tomakehurst.wiremock.client.WireMock.urlMatching;
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest(classes = {AlfrescoConfig.class, AlfrescoService.class, SimpleMeterRegistry.class},
+properties = {
+        "alfresco.X-DocRepository-Remote-User=any_remote_user",
+        "alfresco.X-DocRepository-Real-Remote-User=any_real_user",
+        "alfresco.optimistic-fetch.enabled=true"
+})
+@AutoConfigureWebClient
+@ExtendWith(AlfrescoExtension.class)
+public class AlfrescoServiceOptimisticFetchTest {
+    private static final int DELAY_MILLIS = 1000;
+
+    @Autowired
+    private AlfrescoService alfrescoService;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Test
+    public void detailsAndFetchAreRequestedAtTheSameTime() throws IOException {
+        AlfrescoExtension.alfrescoMockServer.stubDetailsSuccess("456", "T1234", "document.pdf", DELAY_MILLIS);
+        AlfrescoExtension.alfrescoMockServer.stubFetchDocument("456", new byte[]{'a', 'b', 'c'}, DELAY_MILLIS);
+
+        final var started = System.nanoTime();
+        final var response = alfrescoService.getDocument("456", "T1234");
+        final var elapsed = Duration.ofNanos(System.nanoTime() - started);
+
+        final var body = new ByteArrayOutputStream();
+        response.getBody().writeTo(body);
+
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(body.toByteArray()).containsExactly('a', 'b', 'c');
+        // both calls being made one after the other would take at least twice the delay
+        assertThat(elapsed).isLessThan(Duration.ofMillis(2L * DELAY_MILLIS));
+    }
+
+    @Test
+    public void fetchIsAbandonedWhenTheDocumentDoesNotBelongToTheOffender() {
+        AlfrescoExtension.alfrescoMockServer.stubDetailsSuccess("789", "T1234", "document.pdf", 0);
+        AlfrescoExtension.alfrescoMockServer.stubFetchDocument("789", new byte[]{'a', 'b', 'c'}, DELAY_MILLIS);
+
+        final var started = System.nanoTime();
+        final var response = alfrescoService.getDocument("789", "NOT_T1234");
+        final var elapsed = Duration.ofNanos(System.nanoTime() - started);
+
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.NOT_FOUND);
+        assertThat(response.getBody()).isNull();
+        assertThat(elapsed).isLessThan(Duration.ofMillis(DELAY_MILLIS));
+        AlfrescoExtension.alfrescoMockServer.verify(getRequestedFor(urlMatching("/alfresco/s/noms-spg/fetch/789")));
+    }
+
+    @Test
+    public void latencyOfEachPhaseIsRecorded() throws IOException {
+        AlfrescoExtension.alfrescoMockServer.stubDetailsSuccess("321", "T1234", "document.pdf", DELAY_MILLIS / 2);
+        AlfrescoExtension.alfrescoMockServer.stubFetchDocument("321", new byte[]{'a'}, DELAY_MILLIS);
+
+        final var detailsBefore = meterRegistry.get("alfresco.document.download").tag("phase", "details").timer().count();
+        final var fetchBefore = meterRegistry.get("alfresco.document.download").tag("phase", "fetch").timer().count();
+
+        alfrescoService.getDocument("321", "T1234").getBody().writeTo(new ByteArrayOutputStream());
+
+        final var details = meterRegistry.get("alfresco.document.download").tag("phase", "details").timer();
+        final var fetch = meterRegistry.get("alfresco.document.download").tag("phase", "fetch").timer();
+        assertThat(details.count()).isEqualTo(detailsBefore + 1);
+        assertThat(fetch.count()).isEqualTo(fetchBefore + 1);
+        assertThat(fetch.max(TimeUnit.MILLISECONDS)).isGreaterThanOrEqualTo(DELAY_MILLIS);
+    }
+}
@@ -1,5 +1,6 @@
 package uk.gov.justice.digital.delius.service;
 
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -7,17 +8,23 @@ import org.springframework.boot.test.autoconfigure.web.client.AutoConfigureWebCl
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 import uk.gov.justice.digital.delius.config.AlfrescoConfig;
 import uk.gov.justice.digital.delius.controller.wiremock.AlfrescoExtension;
 
+import java.io.ByteArrayOutputStream;
 import java.io.IOException;
+import java.io.OutputStream;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
-@SpringBootTest(classes = {AlfrescoConfig.class, AlfrescoService.class},
+@SpringBootTest(classes = {AlfrescoConfig.class, AlfrescoService.class, SimpleMeterRegistry.class},
 properties = {
         "alfresco.X-DocRepository-Remote-User=any_remote_user",
-        "alfresco.X-DocRepository-Real-Remote-User=any_real_user"
+        "alfresco.X-DocRepository-Real-Remote-User=any_real_user",
+        // far smaller than the documents below, so any attempt to buffer a whole document would fail
+        "spring.codec.max-in-memory-size=64KB"
 })
 @AutoConfigureWebClient
 @ExtendWith(AlfrescoExtension.class)
@@ -44,9 +51,75 @@ public class AlfrescoServiceTest {
         final var response = alfrescoService.getDocument("123", "T1234");
 
         assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
-        assertThat(response.getBody().contentLength()).isEqualTo(3);
+        assertThat(bodyOf(response)).containsExactly('a', 'b', 'c');
         assertThat(response.getHeaders().getFirst(HttpHeaders.CONTENT_DISPOSITION))
             .isEqualTo("attachment; filename=\"=?UTF-8?Q?document_(1).pdf?=\"; filename*=UTF-8''document%20%281%29.pdf");
     }
 
+    @Test
+    public void shouldStreamDocumentsLargerThanTheInMemoryLimit() throws IOException {
+        final var size = 32 * 1024 * 1024;
+
+        AlfrescoExtension.alfrescoMockServer.stubDetailsSuccess("123", "T1234", "bundle.pdf");
+        AlfrescoExtension.alfrescoMockServer.stubFetchDocument("123", new byte[size]);
+
+        final var response = alfrescoService.getDocument("123", "T1234");
+        final var counter = new CountingOutputStream();
+        response.getBody().writeTo(counter);
+
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(counter.count).isEqualTo(size);
+    }
+
+    @Test
+    public void shouldPassRangeRequestsThroughToAlfresco() throws IOException {
+        final var requestHeaders = new HttpHeaders();
+        requestHeaders.set(HttpHeaders.RANGE, "bytes=0-2");
+
+        AlfrescoExtension.alfrescoMockServer.stubDetailsSuccess("123", "T1234", "document.pdf");
+        AlfrescoExtension.alfrescoMockServer.stubFetchDocument("123", new byte[]{'a', 'b', 'c', 'd', 'e'});
+        AlfrescoExtension.alfrescoMockServer.stubFetchDocumentRange("123", "bytes=0-2", "bytes 0-2/5", new byte[]{'a', 'b', 'c'});
+
+        final var response = alfrescoService.getDocument("123", "T1234", requestHeaders);
+
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.PARTIAL_CONTENT);
+        assertThat(response.getHeaders().getFirst(HttpHeaders.CONTENT_RANGE)).isEqualTo("bytes 0-2/5");
+        assertThat(bodyOf(response)).containsExactly('a', 'b', 'c');
+    }
+
+    @Test
+    public void shouldPassConditionalRequestsThroughToAlfresco() throws IOException {
+        final var requestHeaders = new HttpHeaders();
+        requestHeaders.setIfNoneMatch("\"v1\"");
+
+        AlfrescoExtension.alfrescoMockServer.stubDetailsSuccess("123", "T1234", "document.pdf");
+        AlfrescoExtension.alfrescoMockServer.stubFetchDocument("123", new byte[]{'a', 'b', 'c'});
+        AlfrescoExtension.alfrescoMockServer.stubFetchDocumentNotModified("123", "\"v1\"");
+
+        final var response = alfrescoService.getDocument("123", "T1234", requestHeaders);
+
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.NOT_MODIFIED);
+        assertThat(response.getHeaders().getETag()).isEqualTo("\"v1\"");
+        assertThat(bodyOf(response)).isEmpty();
+    }
+
+    private static byte[] bodyOf(ResponseEntity<StreamingResponseBody> response) throws IOException {
+        final var outputStream = new ByteArrayOutputStream();
+        response.getBody().writeTo(outputStream);
+        return outputStream.toByteArray();
+    }
+
+    private static class CountingOutputStream extends OutputStream {
+        private long count;
+
+        @Override
+        public void write(int b) {
+            count++;
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) {
+            count += len;
+        }
+    }
 }
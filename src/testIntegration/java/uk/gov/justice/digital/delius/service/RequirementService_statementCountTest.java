@@ -0,0 +1,95 @@
+package uk.gov.justice.digital.delius.service;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import jakarta.persistence.PersistenceContext;
+import jakarta.transaction.Transactional;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.List;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.boot.test.context.SpringBootTest.WebEnvironment.NONE;
+
+@SpringBootTest(webEnvironment = NONE)
+@ActiveProfiles("dev-seed")
+@Transactional
+public class RequirementService_statementCountTest {
+    private static final String CRN = "X320741";
+    // has requirements
+    private static final long COMMUNITY_EVENT_ID = 2500295343L;
+    // has licence conditions and post sentence supervision requirements
+    private static final long CUSTODY_EVENT_ID = 2500295345L;
+    private static final int COPIES = 50;
+
+    @Autowired
+    private RequirementService requirementService;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Autowired
+    @Qualifier("standardEntityManager")
+    private EntityManagerFactory entityManagerFactory;
+
+    private Statistics statistics;
+
+    @BeforeEach
+    public void enableStatistics() {
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.setStatisticsEnabled(true);
+        // resolve the CRN now, so that the counts below are of reading the conviction alone
+        requirementService.getRequirementsByConvictionId(CRN, COMMUNITY_EVENT_ID, true, true);
+    }
+
+    @AfterEach
+    public void disableStatistics() {
+        statistics.setStatisticsEnabled(false);
+    }
+
+    @Test
+    public void requirementsAreReadWithTheSameStatementsHoweverManyConvictionsTheOffenderHas() {
+        assertStatementsDoNotGrowWithConvictions(() -> requirementService.getRequirementsByConvictionId(CRN, COMMUNITY_EVENT_ID, true, true).getRequirements());
+    }
+
+    @Test
+    public void licenceConditionsAreReadWithTheSameStatementsHoweverManyConvictionsTheOffenderHas() {
+        assertStatementsDoNotGrowWithConvictions(() -> requirementService.getLicenceConditionsByConvictionId(CRN, CUSTODY_EVENT_ID).getLicenceConditions());
+    }
+
+    @Test
+    public void pssRequirementsAreReadWithTheSameStatementsHoweverManyConvictionsTheOffenderHas() {
+        assertStatementsDoNotGrowWithConvictions(() -> requirementService.getPssRequirementsByConvictionId(CRN, CUSTODY_EVENT_ID).getPssRequirements());
+    }
+
+    private void assertStatementsDoNotGrowWithConvictions(Supplier<List<?>> read) {
+        final var statementsWithSeedConvictions = statementsToRead(read);
+
+        entityManager.createNativeQuery("INSERT INTO EVENT (EVENT_ID, OFFENDER_ID, EVENT_NUMBER, REFERRAL_DATE, SOFT_DELETED, PARTITION_AREA_ID, " +
+                "ROW_VERSION, CREATED_BY_USER_ID, CREATED_DATETIME, LAST_UPDATED_USER_ID, LAST_UPDATED_DATETIME, IN_BREACH, ACTIVE_FLAG, " +
+                "FTC_COUNT, PENDING_TRANSFER, PSS_RQMNT_FLAG) " +
+                "SELECT 2600000000 + X, OFFENDER_ID, EVENT_NUMBER, REFERRAL_DATE, SOFT_DELETED, PARTITION_AREA_ID, " +
+                "ROW_VERSION, CREATED_BY_USER_ID, CREATED_DATETIME, LAST_UPDATED_USER_ID, LAST_UPDATED_DATETIME, IN_BREACH, ACTIVE_FLAG, " +
+                "FTC_COUNT, PENDING_TRANSFER, PSS_RQMNT_FLAG " +
+                "FROM EVENT, SYSTEM_RANGE(1, " + COPIES + ") WHERE EVENT_ID = " + COMMUNITY_EVENT_ID)
+            .executeUpdate();
+
+        assertThat(statementsToRead(read)).isEqualTo(statementsWithSeedConvictions);
+    }
+
+    private long statementsToRead(Supplier<List<?>> read) {
+        entityManager.clear();
+        statistics.clear();
+        assertThat(read.get()).isNotEmpty();
+        return statistics.getPrepareStatementCount();
+    }
+}